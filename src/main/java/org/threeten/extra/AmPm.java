@@ -36,6 +36,7 @@ import static java.time.temporal.ChronoField.HOUR_OF_DAY;
 import static java.time.temporal.ChronoUnit.HALF_DAYS;
 
 import java.time.DateTimeException;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.TextStyle;
 import java.time.temporal.ChronoField;
@@ -86,6 +87,15 @@ public enum AmPm implements TemporalAccessor, TemporalAdjuster {
      */
     PM;
 
+    /**
+     * Seconds per day.
+     */
+    private static final long SECONDS_PER_DAY = 86400;
+    /**
+     * Seconds per half day.
+     */
+    private static final int SECONDS_PER_HALF_DAY = 43200;
+
     //-----------------------------------------------------------------------
     /**
      * Obtains an instance of {@code AmPm} from an {@code int} value.
@@ -124,6 +134,47 @@ public enum AmPm implements TemporalAccessor, TemporalAdjuster {
         return hourOfDay < 12 ? AM : PM;
     }
 
+    /**
+     * Obtains an instance of {@code AmPm} from an epoch-second and offset.
+     * <p>
+     * This has the same result as {@code AmPm.from(LocalDateTime.ofEpochSecond(epochSecond, 0, offset))}
+     * but calculates the AM/PM directly from the second-of-day, without creating a date-time.
+     * Unlike {@code LocalDateTime}, the epoch-second is not restricted to the supported range of dates.
+     *
+     * @param epochSecond  the number of seconds from the epoch of 1970-01-01T00:00:00Z
+     * @param offset  the zone offset, not null
+     * @return the AM/PM, not null
+     * @since 1.11.0
+     */
+    public static AmPm ofEpochSecond(long epochSecond, ZoneOffset offset) {
+        return secondOfDay(epochSecond, offset.getTotalSeconds()) < SECONDS_PER_HALF_DAY ? AM : PM;
+    }
+
+    /**
+     * Obtains the AM/PM values of an array of epoch-seconds in a single offset.
+     * <p>
+     * This is the equivalent of calling {@link #ofEpochSecond(long, ZoneOffset)} followed by
+     * {@link #getValue()} for each element.
+     *
+     * @param epochSeconds  the epoch-seconds to convert, not null
+     * @param offset  the zone offset, not null
+     * @param amPmValues  the array to store the AM/PM values in, 0 for AM and 1 for PM, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @since 1.11.0
+     */
+    public static void ofEpochSecond(long[] epochSeconds, ZoneOffset offset, int[] amPmValues) {
+        Temporals.checkLengths(epochSeconds.length, amPmValues.length);
+        int offsetSecs = offset.getTotalSeconds();
+        for (int i = 0; i < epochSeconds.length; i++) {
+            amPmValues[i] = secondOfDay(epochSeconds[i], offsetSecs) < SECONDS_PER_HALF_DAY ? 0 : 1;
+        }
+    }
+
+    // the local second-of-day, avoiding overflow when adding the offset
+    private static int secondOfDay(long epochSecond, int offsetSecs) {
+        return (int) Math.floorMod(Math.floorMod(epochSecond, SECONDS_PER_DAY) + offsetSecs, SECONDS_PER_DAY);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Obtains an instance of {@code AmPm} from a temporal object.
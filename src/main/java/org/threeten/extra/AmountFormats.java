@@ -31,21 +31,27 @@
  */
 package org.threeten.extra;
 
+import java.io.IOException;
+import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.Period;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalAmount;
 import java.util.Arrays;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.ResourceBundle;
-import java.util.function.Function;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.IntPredicate;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
+import org.jspecify.annotations.Nullable;
+
 /**
  * Provides the ability to format a temporal amount.
  * <p>
@@ -73,6 +79,14 @@ public final class AmountFormats {
      * The number of seconds per minute.
      */
     private static final int SECONDS_PER_MINUTE = 60;
+    /**
+     * The number of seconds per hour.
+     */
+    private static final int SECONDS_PER_HOUR = 3600;
+    /**
+     * The number of nanoseconds per second.
+     */
+    private static final int NANOS_PER_SECOND = 1000_000_000;
     /**
      * The number of nanosecond per millisecond.
      */
@@ -148,21 +162,13 @@ public final class AmountFormats {
         return (last >= 2 && last <= 4 && secondLast != 1);
     };
     /**
-     * List of DurationUnit values ordered by longest suffix first.
+     * The maximum number of locales to cache word-based formatters for.
      */
-    private static final List<DurationUnit> DURATION_UNITS =
-            Arrays.asList(new DurationUnit("ns", Duration.ofNanos(1)),
-                    new DurationUnit("µs", Duration.ofNanos(1000)), // U+00B5 = micro symbol
-                    new DurationUnit("μs", Duration.ofNanos(1000)), // U+03BC = Greek letter mu
-                    new DurationUnit("us", Duration.ofNanos(1000)),
-                    new DurationUnit("ms", Duration.ofMillis(1)),
-                    new DurationUnit("s", Duration.ofSeconds(1)),
-                    new DurationUnit("m", Duration.ofMinutes(1)),
-                    new DurationUnit("h", Duration.ofHours(1)));
+    private static final int MAX_CACHED_LOCALES = 64;
     /**
-     * Zero value for an absent fractional component of a numeric duration string.
+     * The cache of word-based formatters, keyed by locale.
      */
-    private static final FractionScalarPart EMPTY_FRACTION = new FractionScalarPart(0, 0);
+    private static final ConcurrentMap<Locale, WordBasedFormatter> WORD_BASED_CACHE = new ConcurrentHashMap<>();
 
     //-----------------------------------------------------------------------
     /**
@@ -187,6 +193,93 @@ public final class AmountFormats {
         return period.toString() + duration.toString().substring(1);
     }
 
+    /**
+     * Formats a period and duration in ISO-8601 format to an {@code Appendable}.
+     * <p>
+     * The output is the same as {@link #iso8601(Period, Duration)}, but is written
+     * directly to the appendable without creating intermediate strings.
+     * This is most efficient when the appendable is a {@code StringBuilder}.
+     *
+     * @param period  the period to format
+     * @param duration  the duration to format
+     * @param appendable  the appendable to format to
+     * @throws DateTimeException if an error occurs while writing to the appendable
+     * @since 1.11.0
+     */
+    public static void iso8601To(Period period, Duration duration, Appendable appendable) {
+        Objects.requireNonNull(period, "period must not be null");
+        Objects.requireNonNull(duration, "duration must not be null");
+        Objects.requireNonNull(appendable, "appendable must not be null");
+        if (appendable instanceof StringBuilder) {
+            appendIso8601((StringBuilder) appendable, period, duration);
+        } else {
+            StringBuilder buf = new StringBuilder(32);
+            appendIso8601(buf, period, duration);
+            appendTo(appendable, buf);
+        }
+    }
+
+    // matches the output of Period.toString() and Duration.toString()
+    private static void appendIso8601(StringBuilder buf, Period period, Duration duration) {
+        buf.append('P');
+        if (!period.isZero()) {
+            if (period.getYears() != 0) {
+                buf.append(period.getYears()).append('Y');
+            }
+            if (period.getMonths() != 0) {
+                buf.append(period.getMonths()).append('M');
+            }
+            if (period.getDays() != 0) {
+                buf.append(period.getDays()).append('D');
+            }
+            if (duration.isZero()) {
+                return;
+            }
+        } else if (duration.isZero()) {
+            buf.append("T0S");
+            return;
+        }
+        long seconds = duration.getSeconds();
+        int nanos = duration.getNano();
+        long effectiveTotalSecs = seconds < 0 && nanos > 0 ? seconds + 1 : seconds;
+        long hours = effectiveTotalSecs / SECONDS_PER_HOUR;
+        int minutes = (int) ((effectiveTotalSecs % SECONDS_PER_HOUR) / SECONDS_PER_MINUTE);
+        int secs = (int) (effectiveTotalSecs % SECONDS_PER_MINUTE);
+        buf.append('T');
+        if (hours != 0) {
+            buf.append(hours).append('H');
+        }
+        if (minutes != 0) {
+            buf.append(minutes).append('M');
+        }
+        if (secs == 0 && nanos == 0 && (hours != 0 || minutes != 0)) {
+            return;
+        }
+        if (seconds < 0 && nanos > 0 && secs == 0) {
+            buf.append("-0");
+        } else {
+            buf.append(secs);
+        }
+        if (nanos > 0) {
+            int pos = buf.length();
+            buf.append(seconds < 0 ? 2 * NANOS_PER_SECOND - nanos : nanos + NANOS_PER_SECOND);
+            while (buf.charAt(buf.length() - 1) == '0') {
+                buf.setLength(buf.length() - 1);
+            }
+            buf.setCharAt(pos, '.');
+        }
+        buf.append('S');
+    }
+
+    // appends the buffer to the appendable, wrapping any IOException
+    private static void appendTo(Appendable appendable, CharSequence buf) {
+        try {
+            appendable.append(buf);
+        } catch (IOException ex) {
+            throw new DateTimeException(ex.getMessage(), ex);
+        }
+    }
+
     //-------------------------------------------------------------------------
     /**
      * Formats a period to a string in a localized word-based format.
@@ -203,24 +296,7 @@ public final class AmountFormats {
     public static String wordBased(Period period, Locale locale) {
         Objects.requireNonNull(period, "period must not be null");
         Objects.requireNonNull(locale, "locale must not be null");
-        ResourceBundle bundle = ResourceBundle.getBundle(BUNDLE_NAME, locale);
-        UnitFormat[] formats = {
-            UnitFormat.of(bundle, WORDBASED_YEAR),
-            UnitFormat.of(bundle, WORDBASED_MONTH),
-            UnitFormat.of(bundle, WORDBASED_WEEK),
-            UnitFormat.of(bundle, WORDBASED_DAY)};
-        WordBased wb = new WordBased(formats, bundle.getString(WORDBASED_COMMASPACE), bundle.getString(WORDBASED_SPACEANDSPACE));
-
-        Period normPeriod = oppositeSigns(period.getMonths(), period.getYears()) ? period.normalized() : period;
-        int weeks = 0;
-        int days = 0;
-        if (normPeriod.getDays() % DAYS_PER_WEEK == 0) {
-            weeks = normPeriod.getDays() / DAYS_PER_WEEK;
-        } else {
-            days = normPeriod.getDays();
-        }
-        int[] values = {normPeriod.getYears(), normPeriod.getMonths(), weeks, days};
-        return wb.format(values);
+        return wordBasedFormatter(locale).format(period);
     }
 
     /**
@@ -237,20 +313,7 @@ public final class AmountFormats {
     public static String wordBased(Duration duration, Locale locale) {
         Objects.requireNonNull(duration, "duration must not be null");
         Objects.requireNonNull(locale, "locale must not be null");
-        ResourceBundle bundle = ResourceBundle.getBundle(BUNDLE_NAME, locale);
-        UnitFormat[] formats = {
-            UnitFormat.of(bundle, WORDBASED_HOUR),
-            UnitFormat.of(bundle, WORDBASED_MINUTE),
-            UnitFormat.of(bundle, WORDBASED_SECOND),
-            UnitFormat.of(bundle, WORDBASED_MILLISECOND)};
-        WordBased wb = new WordBased(formats, bundle.getString(WORDBASED_COMMASPACE), bundle.getString(WORDBASED_SPACEANDSPACE));
-
-        long hours = duration.toHours();
-        long mins = duration.toMinutes() % MINUTES_PER_HOUR;
-        long secs = duration.getSeconds() % SECONDS_PER_MINUTE;
-        int millis = duration.getNano() / NANOS_PER_MILLIS;
-        int[] values = {(int) hours, (int) mins, (int) secs, millis};
-        return wb.format(values);
+        return wordBasedFormatter(locale).format(duration);
     }
 
     /**
@@ -270,36 +333,7 @@ public final class AmountFormats {
         Objects.requireNonNull(period, "period must not be null");
         Objects.requireNonNull(duration, "duration must not be null");
         Objects.requireNonNull(locale, "locale must not be null");
-        ResourceBundle bundle = ResourceBundle.getBundle(BUNDLE_NAME, locale);
-        UnitFormat[] formats = {
-            UnitFormat.of(bundle, WORDBASED_YEAR),
-            UnitFormat.of(bundle, WORDBASED_MONTH),
-            UnitFormat.of(bundle, WORDBASED_WEEK),
-            UnitFormat.of(bundle, WORDBASED_DAY),
-            UnitFormat.of(bundle, WORDBASED_HOUR),
-            UnitFormat.of(bundle, WORDBASED_MINUTE),
-            UnitFormat.of(bundle, WORDBASED_SECOND),
-            UnitFormat.of(bundle, WORDBASED_MILLISECOND)};
-        WordBased wb = new WordBased(formats, bundle.getString(WORDBASED_COMMASPACE), bundle.getString(WORDBASED_SPACEANDSPACE));
-
-        Period normPeriod = oppositeSigns(period.getMonths(), period.getYears()) ? period.normalized() : period;
-        int weeks = 0;
-        int days = 0;
-        if (normPeriod.getDays() % DAYS_PER_WEEK == 0) {
-            weeks = normPeriod.getDays() / DAYS_PER_WEEK;
-        } else {
-            days = normPeriod.getDays();
-        }
-        long totalHours = duration.toHours();
-        days += (int) (totalHours / HOURS_PER_DAY);
-        int hours = (int) (totalHours % HOURS_PER_DAY);
-        int mins = (int) (duration.toMinutes() % MINUTES_PER_HOUR);
-        int secs = (int) (duration.getSeconds() % SECONDS_PER_MINUTE);
-        int millis = duration.getNano() / NANOS_PER_MILLIS;
-        int[] values = {
-            normPeriod.getYears(), normPeriod.getMonths(), weeks, days,
-            hours, mins, secs, millis};
-        return wb.format(values);
+        return wordBasedFormatter(locale).format(period, duration);
     }
 
     // are the signs opposite
@@ -326,6 +360,51 @@ public final class AmountFormats {
         return wordBased(periodDuration.getPeriod(), periodDuration.getDuration(), locale);
     }
 
+    /**
+     * Obtains a formatter for the localized word-based format.
+     * <p>
+     * The formatter provides the same output as the {@code wordBased} methods on this class.
+     * Loading the resource bundle and compiling the words for a locale is relatively expensive,
+     * so the formatter is cached by locale and may be held by the caller for repeated use.
+     *
+     * @param locale  the locale to use
+     * @return the word-based formatter for the locale, not null
+     * @since 1.11.0
+     */
+    public static WordBasedFormatter wordBasedFormatter(Locale locale) {
+        Objects.requireNonNull(locale, "locale must not be null");
+        // the resource bundle lookup falls back via the default locale, so that must match too
+        Locale defaultLocale = Locale.getDefault();
+        WordBasedFormatter formatter = WORD_BASED_CACHE.get(locale);
+        if (formatter == null || !formatter.defaultLocale.equals(defaultLocale)) {
+            formatter = new WordBasedFormatter(locale, defaultLocale);
+            if (WORD_BASED_CACHE.size() < MAX_CACHED_LOCALES || WORD_BASED_CACHE.containsKey(locale)) {
+                WORD_BASED_CACHE.put(locale, formatter);
+            }
+        }
+        return formatter;
+    }
+
+    /**
+     * Obtains a new cache of the localized word-based format.
+     * <p>
+     * The cache provides the same output as the {@code wordBased} methods on this class,
+     * returning the previously formatted string where the same amount and locale are formatted again.
+     * This suits applications that repeatedly format a small number of distinct amounts.
+     * The cache is bounded, discarding the least recently used string when full.
+     *
+     * @param maximumSize  the maximum number of strings to cache, positive
+     * @return the new cache, not null
+     * @throws IllegalArgumentException if the maximum size is not positive
+     * @since 1.11.0
+     */
+    public static WordBasedCache wordBasedCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        }
+        return new WordBasedCache(maximumSize);
+    }
+
     // -------------------------------------------------------------------------
     /**
      * Parses formatted durations based on units.
@@ -344,168 +423,507 @@ public final class AmountFormats {
      */
     public static Duration parseUnitBasedDuration(CharSequence durationText) {
         Objects.requireNonNull(durationText, "durationText must not be null");
-
-        // variables for tracking error positions during parsing.
-        int offset = 0;
-        CharSequence original = durationText;
-
-        // consume the leading sign - or + if one is present.
-        int sign = 1;
-        Optional<CharSequence> updatedText = consumePrefix(durationText, '-');
-        if (updatedText.isPresent()) {
-            sign = -1;
-            offset += 1;
-            durationText = updatedText.get();
-        } else {
-            updatedText = consumePrefix(durationText, '+');
-            if (updatedText.isPresent()) {
-                offset += 1;
-            }
-            durationText = updatedText.orElse(durationText);
-        }
-        // special case for a string of "0"
-        if (durationText.equals("0")) {
-            return Duration.ZERO;
-        }
-        // special case, empty string as an invalid duration.
-        if (durationText.length() == 0) {
-            throw new DateTimeParseException("Not a numeric value", original, 0);
-        }
-
-        Duration value = Duration.ZERO;
-        int durationTextLength = durationText.length();
-        while (durationTextLength > 0) {
-            ParsedUnitPart integerPart =
-                consumeDurationLeadingInt(durationText, original, offset);
-            offset += (durationText.length() - integerPart.remainingText().length());
-            durationText = integerPart.remainingText();
-            DurationScalar leadingInt = integerPart;
-            DurationScalar fraction = EMPTY_FRACTION;
-            Optional<CharSequence> dot = consumePrefix(durationText, '.');
-            if (dot.isPresent()) {
-                offset += 1;
-                durationText = dot.get();
-                ParsedUnitPart fractionPart =
-                    consumeDurationFraction(durationText, original, offset);
-                // update the remaining string and fraction.
-                offset += (durationText.length() - fractionPart.remainingText().length());
-                durationText = fractionPart.remainingText();
-                fraction = fractionPart;
-            }
-
-            Optional<DurationUnit> optUnit = findUnit(durationText);
-            if (!optUnit.isPresent()) {
-                throw new DateTimeParseException(
-                    "Invalid duration unit", original, offset);
-            }
-            DurationUnit unit = optUnit.get();
-            try {
-                Duration unitValue = leadingInt.applyTo(unit);
-                Duration fractionValue = fraction.applyTo(unit);
-                unitValue = unitValue.plus(fractionValue);
-                value = value.plus(unitValue);
-            } catch (ArithmeticException e) {
-                throw new DateTimeParseException(
-                    "Duration string exceeds valid numeric range",
-                    original, offset, e);
-            }
-            // update the remaining text and text length.
-            CharSequence remainingText = unit.consumeDurationUnit(durationText);
-            offset += (durationText.length() - remainingText.length());
-            durationText = remainingText;
-            durationTextLength = durationText.length();
-        }
-        return sign < 0 ? value.negated() : value;
+        UnitBasedParser parser = new UnitBasedParser(durationText, false);
+        parser.parse();
+        return parser.negative ?
+                Duration.ofSeconds(-parser.seconds, -parser.nanos) :
+                Duration.ofSeconds(parser.seconds, parser.nanos);
     }
 
-    // consume the fractional part of a unit-based duration, e.g.
-    // <int>.<fraction><unit>.
-    private static ParsedUnitPart consumeDurationLeadingInt(CharSequence text,
-        CharSequence original, int offset) {
-        long integerPart = 0;
-        int i = 0;
-        int valueLength = text.length();
-        for ( ; i < valueLength; i++) {
-            char c = text.charAt(i);
-            if (c < '0' || c > '9') {
-                break;
-            }
-            // overflow of a single numeric specifier for a duration.
-            if (integerPart > Long.MAX_VALUE / 10) {
-                throw new DateTimeParseException(
-                    "Duration string exceeds valid numeric range",
-                    original, i + offset);
-            }
-            integerPart *= 10;
-            integerPart += (long) (c - '0');
-            // overflow of a single numeric specifier for a duration.
-            if (integerPart < 0) {
-                throw new DateTimeParseException(
-                    "Duration string exceeds valid numeric range",
-                    original, i + offset);
-            }
-        }
-        // if no text was consumed, return empty.
-        if (i == 0) {
-            throw new DateTimeParseException("Missing leading integer", original, offset);
-        }
-        return new ParsedUnitPart(text.subSequence(i, text.length()),
-            new IntegerScalarPart(integerPart));
+    /**
+     * Parses formatted durations based on units, returning the total number of nanoseconds.
+     * <p>
+     * The format is the same as {@link #parseUnitBasedDuration(CharSequence)}.
+     * This avoids creating a {@code Duration} where only the length in nanoseconds is needed.
+     *
+     * @param durationText the formatted unit-based duration string.
+     * @return the total number of nanoseconds represented by the string, if possible.
+     * @throws DateTimeParseException if the text cannot be parsed or the total exceeds a {@code long}
+     * @since 1.11.0
+     */
+    public static long parseUnitBasedDurationToNanos(CharSequence durationText) {
+        Objects.requireNonNull(durationText, "durationText must not be null");
+        UnitBasedParser parser = new UnitBasedParser(durationText, true);
+        parser.parse();
+        long total = parser.seconds * NANOS_PER_SECOND;
+        return parser.negative ? -total - parser.nanos : total + parser.nanos;
     }
 
-    // consume the fractional part of a unit-based duration, e.g.
-    // <int>.<fraction><unit>.
-    private static ParsedUnitPart consumeDurationFraction(CharSequence text,
-        CharSequence original, int offset) {
-        int i = 0;
-        long fraction = 0;
-        long scale = 1;
-        boolean overflow = false;
-        for ( ; i < text.length(); i++) {
-            char c = text.charAt(i);
-            if (c < '0' || c > '9') {
-                break;
-            }
-            // for the fractional part, it's possible to overflow; however,
-            // this does not invalidate the duration, but rather it means that
-            // the precision of the fractional part is truncated to 999,999,999.
-            if (overflow || fraction > Long.MAX_VALUE / 10) {
-                continue;
-            }
-            long tmp = fraction * 10 + (long) (c - '0');
-            if (tmp < 0) {
-                overflow = true;
-                continue;
-            }
-            fraction = tmp;
-            scale *= 10;
-        }
-        if (i == 0) {
-            throw new DateTimeParseException(
-                "Missing numeric fraction after '.'", original, offset);
-        }
-        return new ParsedUnitPart(text.subSequence(i, text.length()),
-            new FractionScalarPart(fraction, scale));
+    private AmountFormats() {
     }
 
-    // find the duration unit at the beginning of the input text, if present.
-    private static Optional<DurationUnit> findUnit(CharSequence text) {
-        return DURATION_UNITS.stream()
-            .filter(du -> du.prefixMatchesUnit(text))
-            .findFirst();
-    }
+    //-------------------------------------------------------------------------
+    /**
+     * A formatter for the localized word-based format of amounts.
+     * <p>
+     * An instance is obtained from {@link AmountFormats#wordBasedFormatter(Locale)}.
+     * It holds the compiled words for a single locale, avoiding the cost of loading
+     * them for each amount formatted.
+     *
+     * <h3>Implementation Requirements:</h3>
+     * This class is immutable and thread-safe.
+     *
+     * @since 1.11.0
+     */
+    public static final class WordBasedFormatter {
+        /**
+         * The locale.
+         */
+        private final Locale locale;
+        /**
+         * The default locale at the time the resource bundle was loaded.
+         */
+        private final Locale defaultLocale;
+        /**
+         * The format for a period.
+         */
+        private final WordBased periodFormat;
+        /**
+         * The format for a duration.
+         */
+        private final WordBased durationFormat;
+        /**
+         * The format for a period and duration.
+         */
+        private final WordBased periodDurationFormat;
 
-    // consume the indicated {@code prefix} if it exists at the beginning of the
-    // text, returning the
-    // remaining string if the prefix was consumed.
-    private static Optional<CharSequence> consumePrefix(CharSequence text, char prefix) {
-        if (text.length() > 0 && text.charAt(0) == prefix) {
-            return Optional.of(text.subSequence(1, text.length()));
+        private WordBasedFormatter(Locale locale, Locale defaultLocale) {
+            ResourceBundle bundle = ResourceBundle.getBundle(BUNDLE_NAME, locale);
+            UnitFormat year = UnitFormat.of(bundle, WORDBASED_YEAR);
+            UnitFormat month = UnitFormat.of(bundle, WORDBASED_MONTH);
+            UnitFormat week = UnitFormat.of(bundle, WORDBASED_WEEK);
+            UnitFormat day = UnitFormat.of(bundle, WORDBASED_DAY);
+            UnitFormat hour = UnitFormat.of(bundle, WORDBASED_HOUR);
+            UnitFormat minute = UnitFormat.of(bundle, WORDBASED_MINUTE);
+            UnitFormat second = UnitFormat.of(bundle, WORDBASED_SECOND);
+            UnitFormat millisecond = UnitFormat.of(bundle, WORDBASED_MILLISECOND);
+            String separator = bundle.getString(WORDBASED_COMMASPACE);
+            String lastSeparator = bundle.getString(WORDBASED_SPACEANDSPACE);
+            this.locale = locale;
+            this.defaultLocale = defaultLocale;
+            this.periodFormat = new WordBased(
+                    new UnitFormat[] {year, month, week, day}, separator, lastSeparator);
+            this.durationFormat = new WordBased(
+                    new UnitFormat[] {hour, minute, second, millisecond}, separator, lastSeparator);
+            this.periodDurationFormat = new WordBased(
+                    new UnitFormat[] {year, month, week, day, hour, minute, second, millisecond}, separator, lastSeparator);
+        }
+
+        /**
+         * Gets the locale of the formatter.
+         *
+         * @return the locale, not null
+         */
+        public Locale getLocale() {
+            return locale;
+        }
+
+        /**
+         * Formats a period to a string in the localized word-based format.
+         * <p>
+         * See {@link AmountFormats#wordBased(Period, Locale)}.
+         *
+         * @param period  the period to format
+         * @return the localized word-based format for the period
+         */
+        public String format(Period period) {
+            return periodFormat.format(periodValues(period));
+        }
+
+        /**
+         * Formats a duration to a string in the localized word-based format.
+         * <p>
+         * See {@link AmountFormats#wordBased(Duration, Locale)}.
+         *
+         * @param duration  the duration to format
+         * @return the localized word-based format for the duration
+         */
+        public String format(Duration duration) {
+            return durationFormat.format(durationValues(duration));
+        }
+
+        /**
+         * Formats a period and duration to a string in the localized word-based format.
+         * <p>
+         * See {@link AmountFormats#wordBased(Period, Duration, Locale)}.
+         *
+         * @param period  the period to format
+         * @param duration  the duration to format
+         * @return the localized word-based format for the period and duration
+         */
+        public String format(Period period, Duration duration) {
+            return periodDurationFormat.format(periodDurationValues(period, duration));
+        }
+
+        /**
+         * Formats a period-duration to a string in the localized word-based format.
+         * <p>
+         * See {@link AmountFormats#wordBased(PeriodDuration, Locale)}.
+         *
+         * @param periodDuration  the period-duration to format
+         * @return the localized word-based format for the period-duration
+         */
+        public String format(PeriodDuration periodDuration) {
+            Objects.requireNonNull(periodDuration, "periodDuration must not be null");
+            return format(periodDuration.getPeriod(), periodDuration.getDuration());
+        }
+
+        //-----------------------------------------------------------------------
+        /**
+         * Formats a period in the localized word-based format to an {@code Appendable}.
+         * <p>
+         * The output is the same as {@link #format(Period)}, but is written directly
+         * to the appendable. This is most efficient when the appendable is a {@code StringBuilder}.
+         *
+         * @param period  the period to format
+         * @param appendable  the appendable to format to
+         * @throws DateTimeException if an error occurs while writing to the appendable
+         */
+        public void formatTo(Period period, Appendable appendable) {
+            formatTo(periodFormat, periodValues(period), appendable);
+        }
+
+        /**
+         * Formats a duration in the localized word-based format to an {@code Appendable}.
+         * <p>
+         * The output is the same as {@link #format(Duration)}, but is written directly
+         * to the appendable. This is most efficient when the appendable is a {@code StringBuilder}.
+         *
+         * @param duration  the duration to format
+         * @param appendable  the appendable to format to
+         * @throws DateTimeException if an error occurs while writing to the appendable
+         */
+        public void formatTo(Duration duration, Appendable appendable) {
+            formatTo(durationFormat, durationValues(duration), appendable);
+        }
+
+        /**
+         * Formats a period and duration in the localized word-based format to an {@code Appendable}.
+         * <p>
+         * The output is the same as {@link #format(Period, Duration)}, but is written directly
+         * to the appendable. This is most efficient when the appendable is a {@code StringBuilder}.
+         *
+         * @param period  the period to format
+         * @param duration  the duration to format
+         * @param appendable  the appendable to format to
+         * @throws DateTimeException if an error occurs while writing to the appendable
+         */
+        public void formatTo(Period period, Duration duration, Appendable appendable) {
+            formatTo(periodDurationFormat, periodDurationValues(period, duration), appendable);
+        }
+
+        /**
+         * Formats a period-duration in the localized word-based format to an {@code Appendable}.
+         * <p>
+         * The output is the same as {@link #format(PeriodDuration)}, but is written directly
+         * to the appendable. This is most efficient when the appendable is a {@code StringBuilder}.
+         *
+         * @param periodDuration  the period-duration to format
+         * @param appendable  the appendable to format to
+         * @throws DateTimeException if an error occurs while writing to the appendable
+         */
+        public void formatTo(PeriodDuration periodDuration, Appendable appendable) {
+            Objects.requireNonNull(periodDuration, "periodDuration must not be null");
+            formatTo(periodDuration.getPeriod(), periodDuration.getDuration(), appendable);
+        }
+
+        // formats directly to a StringBuilder, or via a temporary buffer
+        private static void formatTo(WordBased format, int[] values, Appendable appendable) {
+            Objects.requireNonNull(appendable, "appendable must not be null");
+            if (appendable instanceof StringBuilder) {
+                format.formatTo(values, (StringBuilder) appendable);
+            } else {
+                StringBuilder buf = new StringBuilder(32);
+                format.formatTo(values, buf);
+                appendTo(appendable, buf);
+            }
+        }
+
+        //-----------------------------------------------------------------------
+        // the values of the year, month, week and day units
+        private static int[] periodValues(Period period) {
+            Objects.requireNonNull(period, "period must not be null");
+            Period normPeriod = oppositeSigns(period.getMonths(), period.getYears()) ? period.normalized() : period;
+            int weeks = 0;
+            int days = 0;
+            if (normPeriod.getDays() % DAYS_PER_WEEK == 0) {
+                weeks = normPeriod.getDays() / DAYS_PER_WEEK;
+            } else {
+                days = normPeriod.getDays();
+            }
+            return new int[] {normPeriod.getYears(), normPeriod.getMonths(), weeks, days};
+        }
+
+        // the values of the hour, minute, second and millisecond units
+        private static int[] durationValues(Duration duration) {
+            Objects.requireNonNull(duration, "duration must not be null");
+            long hours = duration.toHours();
+            long mins = duration.toMinutes() % MINUTES_PER_HOUR;
+            long secs = duration.getSeconds() % SECONDS_PER_MINUTE;
+            int millis = duration.getNano() / NANOS_PER_MILLIS;
+            return new int[] {(int) hours, (int) mins, (int) secs, millis};
+        }
+
+        // the values of all units, year to millisecond
+        private static int[] periodDurationValues(Period period, Duration duration) {
+            Objects.requireNonNull(period, "period must not be null");
+            Objects.requireNonNull(duration, "duration must not be null");
+            Period normPeriod = oppositeSigns(period.getMonths(), period.getYears()) ? period.normalized() : period;
+            int weeks = 0;
+            int days = 0;
+            if (normPeriod.getDays() % DAYS_PER_WEEK == 0) {
+                weeks = normPeriod.getDays() / DAYS_PER_WEEK;
+            } else {
+                days = normPeriod.getDays();
+            }
+            long totalHours = duration.toHours();
+            days += (int) (totalHours / HOURS_PER_DAY);
+            int hours = (int) (totalHours % HOURS_PER_DAY);
+            int mins = (int) (duration.toMinutes() % MINUTES_PER_HOUR);
+            int secs = (int) (duration.getSeconds() % SECONDS_PER_MINUTE);
+            int millis = duration.getNano() / NANOS_PER_MILLIS;
+            return new int[] {
+                normPeriod.getYears(), normPeriod.getMonths(), weeks, days,
+                hours, mins, secs, millis};
+        }
+
+        @Override
+        public String toString() {
+            return "WordBasedFormatter[" + locale + "]";
         }
-        return Optional.empty();
     }
 
-    private AmountFormats() {
+    //-------------------------------------------------------------------------
+    /**
+     * A bounded cache of the localized word-based format of amounts.
+     * <p>
+     * An instance is obtained from {@link AmountFormats#wordBasedCache(int)}.
+     * The cache is keyed by the locale and the unit values that are output, after normalization.
+     * As such, amounts that differ only in ways that the format ignores, such as
+     * the nanoseconds of a duration, share an entry.
+     * When the cache is full, the least recently used entry is discarded.
+     * <p>
+     * The number of hits and misses is recorded, allowing the effectiveness of the cache to be monitored.
+     *
+     * <h3>Implementation Requirements:</h3>
+     * This class is mutable and thread-safe.
+     *
+     * @since 1.11.0
+     */
+    public static final class WordBasedCache {
+        /**
+         * The key type for a period.
+         */
+        private static final int PERIOD = 0;
+        /**
+         * The key type for a duration.
+         */
+        private static final int DURATION = 1;
+        /**
+         * The key type for a period and duration.
+         */
+        private static final int PERIOD_DURATION = 2;
+        /**
+         * The maximum size.
+         */
+        private final int maximumSize;
+        /**
+         * The cached strings, in access order, guarded by itself.
+         */
+        private final LinkedHashMap<Key, String> cache;
+        /**
+         * The number of hits.
+         */
+        private final LongAdder hits = new LongAdder();
+        /**
+         * The number of misses.
+         */
+        private final LongAdder misses = new LongAdder();
+
+        private WordBasedCache(int maximumSize) {
+            this.maximumSize = maximumSize;
+            this.cache = new LinkedHashMap<Key, String>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+                    return size() > WordBasedCache.this.maximumSize;
+                }
+            };
+        }
+
+        //-----------------------------------------------------------------------
+        /**
+         * Formats a period to a string in the localized word-based format, using the cache.
+         * <p>
+         * See {@link AmountFormats#wordBased(Period, Locale)}.
+         *
+         * @param period  the period to format
+         * @param locale  the locale to use
+         * @return the localized word-based format for the period
+         */
+        public String format(Period period, Locale locale) {
+            return lookup(PERIOD, WordBasedFormatter.periodValues(period), locale);
+        }
+
+        /**
+         * Formats a duration to a string in the localized word-based format, using the cache.
+         * <p>
+         * See {@link AmountFormats#wordBased(Duration, Locale)}.
+         *
+         * @param duration  the duration to format
+         * @param locale  the locale to use
+         * @return the localized word-based format for the duration
+         */
+        public String format(Duration duration, Locale locale) {
+            return lookup(DURATION, WordBasedFormatter.durationValues(duration), locale);
+        }
+
+        /**
+         * Formats a period and duration to a string in the localized word-based format, using the cache.
+         * <p>
+         * See {@link AmountFormats#wordBased(Period, Duration, Locale)}.
+         *
+         * @param period  the period to format
+         * @param duration  the duration to format
+         * @param locale  the locale to use
+         * @return the localized word-based format for the period and duration
+         */
+        public String format(Period period, Duration duration, Locale locale) {
+            return lookup(PERIOD_DURATION, WordBasedFormatter.periodDurationValues(period, duration), locale);
+        }
+
+        /**
+         * Formats a period-duration to a string in the localized word-based format, using the cache.
+         * <p>
+         * See {@link AmountFormats#wordBased(PeriodDuration, Locale)}.
+         *
+         * @param periodDuration  the period-duration to format
+         * @param locale  the locale to use
+         * @return the localized word-based format for the period-duration
+         */
+        public String format(PeriodDuration periodDuration, Locale locale) {
+            Objects.requireNonNull(periodDuration, "periodDuration must not be null");
+            return format(periodDuration.getPeriod(), periodDuration.getDuration(), locale);
+        }
+
+        // finds the cached string, formatting outside the lock if absent
+        private String lookup(int type, int[] values, Locale locale) {
+            Objects.requireNonNull(locale, "locale must not be null");
+            // the resource bundle lookup falls back via the default locale, so that must match too
+            Key key = new Key(type, values, locale, Locale.getDefault());
+            String result;
+            synchronized (cache) {
+                result = cache.get(key);
+            }
+            if (result != null) {
+                hits.increment();
+                return result;
+            }
+            misses.increment();
+            WordBasedFormatter formatter = wordBasedFormatter(locale);
+            WordBased format = type == PERIOD ? formatter.periodFormat :
+                    type == DURATION ? formatter.durationFormat : formatter.periodDurationFormat;
+            result = format.format(values);
+            synchronized (cache) {
+                cache.put(key, result);
+            }
+            return result;
+        }
+
+        //-----------------------------------------------------------------------
+        /**
+         * Gets the maximum number of strings that are cached.
+         *
+         * @return the maximum size
+         */
+        public int getMaximumSize() {
+            return maximumSize;
+        }
+
+        /**
+         * Gets the number of strings currently cached.
+         *
+         * @return the size
+         */
+        public int size() {
+            synchronized (cache) {
+                return cache.size();
+            }
+        }
+
+        /**
+         * Gets the number of times a formatted string was found in the cache.
+         *
+         * @return the number of hits
+         */
+        public long getHitCount() {
+            return hits.sum();
+        }
+
+        /**
+         * Gets the number of times a formatted string was not found in the cache.
+         *
+         * @return the number of misses
+         */
+        public long getMissCount() {
+            return misses.sum();
+        }
+
+        /**
+         * Removes all the cached strings, and resets the hit and miss counts.
+         */
+        public void clear() {
+            synchronized (cache) {
+                cache.clear();
+            }
+            hits.reset();
+            misses.reset();
+        }
+
+        @Override
+        public String toString() {
+            return "WordBasedCache[size=" + size() + ", hits=" + getHitCount() + ", misses=" + getMissCount() + "]";
+        }
+
+        //-----------------------------------------------------------------------
+        // the key of the cache
+        private static final class Key {
+            private final int type;
+            private final int[] values;
+            private final Locale locale;
+            private final Locale defaultLocale;
+            private final int hash;
+
+            private Key(int type, int[] values, Locale locale, Locale defaultLocale) {
+                this.type = type;
+                this.values = values;
+                this.locale = locale;
+                this.defaultLocale = defaultLocale;
+                this.hash = ((type * 31 + Arrays.hashCode(values)) * 31 + locale.hashCode()) * 31 + defaultLocale.hashCode();
+            }
+
+            @Override
+            public boolean equals(@Nullable Object obj) {
+                if (obj == this) {
+                    return true;
+                }
+                if (obj instanceof Key) {
+                    Key other = (Key) obj;
+                    return type == other.type &&
+                            hash == other.hash &&
+                            Arrays.equals(values, other.values) &&
+                            locale.equals(other.locale) &&
+                            defaultLocale.equals(other.defaultLocale);
+                }
+                return false;
+            }
+
+            @Override
+            public int hashCode() {
+                return hash;
+            }
+        }
     }
 
     //-------------------------------------------------------------------------
@@ -523,6 +941,11 @@ public final class AmountFormats {
 
         String format(int[] values) {
             StringBuilder buf = new StringBuilder(32);
+            formatTo(values, buf);
+            return buf.toString();
+        }
+
+        void formatTo(int[] values, StringBuilder buf) {
             int nonZeroCount = 0;
             for (int value : values) {
                 if (value != 0) {
@@ -541,7 +964,6 @@ public final class AmountFormats {
                     count++;
                 }
             }
-            return buf.toString();
         }
     }
 
@@ -617,94 +1039,222 @@ public final class AmountFormats {
         }
     }
 
-     // -------------------------------------------------------------------------
-    // data holder for a duration unit string and its associated Duration value.
-    static final class DurationUnit {
-        private final String abbrev;
-        private final Duration value;
-
-        private DurationUnit(String abbrev, Duration value) {
-            this.abbrev = abbrev;
-            this.value = value;
-        }
-
-        // whether the input text starts with the unit abbreviation.
-        boolean prefixMatchesUnit(CharSequence text) {
-            return text.length() >= abbrev.length()
-                    && abbrev.contentEquals(text.subSequence(0, abbrev.length()));
-        }
-
-        // consume the duration unit and returning the remaining text.
-        CharSequence consumeDurationUnit(CharSequence text) {
-            return text.subSequence(abbrev.length(), text.length());
-        }
-
-        // scale the unit by the input scalingFunction, returning a value if
-        // one is produced, or an empty result when the operation results in an
-        // arithmetic overflow.
-        Duration scaleBy(Function<Duration, Duration> scaleFunc) {
-            return scaleFunc.apply(value);
-        }
-    }
-
-    // interface for computing a duration from a duration unit and a scalar.
-    static interface DurationScalar {
-        // returns a duration value on a successful computation, and an empty
-        // result otherwise.
-        Duration applyTo(DurationUnit unit);
-    }
-
-    // data holder for parsed fragments of a floating point duration scalar.
-    static final class ParsedUnitPart implements DurationScalar {
-        private final CharSequence remainingText;
-        private final DurationScalar scalar;
+    //-------------------------------------------------------------------------
+    // single pass parser of unit-based durations, accumulating the magnitude in primitives
+    static final class UnitBasedParser {
+        /**
+         * The number of nanoseconds per unit.
+         */
+        private static final long NANOS = 1L;
+        private static final long MICROS = 1000L;
+        private static final long MILLIS = 1000_000L;
+        private static final long SECONDS = 1000_000_000L;
+        private static final long MINUTES = 60 * SECONDS;
+        private static final long HOURS = 3600 * SECONDS;
+        /**
+         * The maximum number of fraction digits retained, further digits are ignored.
+         */
+        private static final int MAX_FRACTION_DIGITS = 18;
+        /**
+         * The largest number of seconds in a {@code long} number of nanoseconds.
+         */
+        private static final long MAX_NANOS_SECONDS = Long.MAX_VALUE / NANOS_PER_SECOND;
+        /**
+         * The nano-of-second of {@code Long.MAX_VALUE} nanoseconds.
+         */
+        private static final long MAX_NANOS_NANOS = Long.MAX_VALUE % NANOS_PER_SECOND;
 
-        private ParsedUnitPart(CharSequence remainingText, DurationScalar scalar) {
-            this.remainingText = remainingText;
-            this.scalar = scalar;
-        }
+        /**
+         * The text being parsed.
+         */
+        private final CharSequence text;
+        /**
+         * Whether the total must fit in a {@code long} number of nanoseconds.
+         */
+        private final boolean limitToNanos;
+        /**
+         * The current position.
+         */
+        private int pos;
+        /**
+         * Whether the duration is negative.
+         */
+        boolean negative;
+        /**
+         * The seconds of the magnitude of the duration.
+         */
+        long seconds;
+        /**
+         * The nano-of-second of the magnitude of the duration.
+         */
+        long nanos;
 
-        @Override
-        public Duration applyTo(DurationUnit unit) {
-            return scalar.applyTo(unit);
+        UnitBasedParser(CharSequence text, boolean limitToNanos) {
+            this.text = text;
+            this.limitToNanos = limitToNanos;
         }
 
-        CharSequence remainingText() {
-            return remainingText;
+        void parse() {
+            int length = text.length();
+            // consume the leading sign - or + if one is present.
+            if (length > 0) {
+                char first = text.charAt(0);
+                if (first == '-') {
+                    negative = true;
+                    pos = 1;
+                } else if (first == '+') {
+                    pos = 1;
+                }
+            }
+            // special case for a string of "0"
+            if (pos == length - 1 && text.charAt(pos) == '0') {
+                return;
+            }
+            // special case, empty string as an invalid duration.
+            if (pos == length) {
+                throw new DateTimeParseException("Not a numeric value", text, 0);
+            }
+            while (pos < length) {
+                long whole = parseLeadingInt(length);
+                long fraction = 0;
+                int fractionDigits = 0;
+                if (pos < length && text.charAt(pos) == '.') {
+                    pos++;
+                    int start = pos;
+                    for ( ; pos < length; pos++) {
+                        char c = text.charAt(pos);
+                        if (c < '0' || c > '9') {
+                            break;
+                        }
+                        // digits beyond the precision of a long are ignored
+                        if (fractionDigits < MAX_FRACTION_DIGITS) {
+                            fraction = fraction * 10 + (c - '0');
+                            fractionDigits++;
+                        }
+                    }
+                    if (pos == start) {
+                        throw new DateTimeParseException("Missing numeric fraction after '.'", text, start);
+                    }
+                }
+                int unitStart = pos;
+                long unitNanos = parseUnit(length);
+                try {
+                    add(whole, fraction, fractionDigits, unitNanos);
+                } catch (ArithmeticException ex) {
+                    throw new DateTimeParseException("Duration string exceeds valid numeric range", text, unitStart, ex);
+                }
+            }
         }
-    }
-
-    // data holder for the leading integer value of a duration scalar.
-    static final class IntegerScalarPart implements DurationScalar {
-        private final long value;
 
-        private IntegerScalarPart(long value) {
-            this.value = value;
+        // parses the mandatory integer before the optional fraction and unit
+        private long parseLeadingInt(int length) {
+            int start = pos;
+            long value = 0;
+            for ( ; pos < length; pos++) {
+                char c = text.charAt(pos);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                if (value > Long.MAX_VALUE / 10) {
+                    throw new DateTimeParseException("Duration string exceeds valid numeric range", text, pos);
+                }
+                value = value * 10 + (c - '0');
+                if (value < 0) {
+                    throw new DateTimeParseException("Duration string exceeds valid numeric range", text, pos);
+                }
+            }
+            if (pos == start) {
+                throw new DateTimeParseException("Missing leading integer", text, start);
+            }
+            return value;
         }
 
-        @Override
-        public Duration applyTo(DurationUnit unit) {
-            return unit.scaleBy(d -> d.multipliedBy(value));
+        // parses the unit, returning the number of nanoseconds in the unit
+        private long parseUnit(int length) {
+            if (pos < length) {
+                char c = text.charAt(pos);
+                boolean nextIsS = pos + 1 < length && text.charAt(pos + 1) == 's';
+                switch (c) {
+                    case 'n':
+                        if (nextIsS) {
+                            pos += 2;
+                            return NANOS;
+                        }
+                        break;
+                    case 'u':
+                    case '\u00B5':  // micro symbol
+                    case '\u03BC':  // Greek letter mu
+                        if (nextIsS) {
+                            pos += 2;
+                            return MICROS;
+                        }
+                        break;
+                    case 'm':
+                        if (nextIsS) {
+                            pos += 2;
+                            return MILLIS;
+                        }
+                        pos++;
+                        return MINUTES;
+                    case 's':
+                        pos++;
+                        return SECONDS;
+                    case 'h':
+                        pos++;
+                        return HOURS;
+                    default:
+                        break;
+                }
+            }
+            throw new DateTimeParseException("Invalid duration unit", text, pos);
         }
-    }
 
-    // data holder for the fractional floating point value of a duration
-    // scalar.
-    static final class FractionScalarPart implements DurationScalar {
-        private final long value;
-        private final long scale;
-
-        private FractionScalarPart(long value, long scale) {
-            this.value = value;
-            this.scale = scale;
+        // adds the amount of the unit to the total, throwing ArithmeticException on overflow
+        private void add(long whole, long fraction, int fractionDigits, long unitNanos) {
+            long addSeconds;
+            long addNanos;
+            if (unitNanos >= NANOS_PER_SECOND) {
+                addSeconds = Math.multiplyExact(whole, unitNanos / NANOS_PER_SECOND);
+                addNanos = 0;
+            } else {
+                long perSecond = NANOS_PER_SECOND / unitNanos;
+                addSeconds = whole / perSecond;
+                addNanos = (whole % perSecond) * unitNanos;
+            }
+            if (fractionDigits > 0) {
+                addNanos += fractionNanos(fraction, fractionDigits, unitNanos);
+                addSeconds = Math.addExact(addSeconds, addNanos / NANOS_PER_SECOND);
+                addNanos %= NANOS_PER_SECOND;
+            }
+            seconds = Math.addExact(seconds, addSeconds);
+            nanos += addNanos;
+            if (nanos >= NANOS_PER_SECOND) {
+                nanos -= NANOS_PER_SECOND;
+                seconds = Math.addExact(seconds, 1);
+            }
+            if (limitToNanos) {
+                long maxNanos = negative ? MAX_NANOS_NANOS + 1 : MAX_NANOS_NANOS;
+                if (seconds > MAX_NANOS_SECONDS || (seconds == MAX_NANOS_SECONDS && nanos > maxNanos)) {
+                    throw new ArithmeticException("long overflow");
+                }
+            }
         }
 
-        @Override
-        public Duration applyTo(DurationUnit unit) {
-            if (value == 0) {
-                return Duration.ZERO;
+        // the truncated number of nanoseconds in the fraction of the unit
+        private static long fractionNanos(long fraction, int fractionDigits, long unitNanos) {
+            // cancel common powers of ten, leaving a unit multiplier of 1, 6 or 36 if any digits remain
+            long multiplier = unitNanos;
+            int digits = fractionDigits;
+            while (digits > 0 && multiplier % 10 == 0) {
+                multiplier /= 10;
+                digits--;
+            }
+            long divisor = 1;
+            for (int i = 0; i < digits; i++) {
+                divisor *= 10;
             }
-            return unit.scaleBy(d -> d.multipliedBy(value).dividedBy(scale));
+            // split the fraction to avoid overflow of the multiplication
+            return multiplier * (fraction / divisor) + multiplier * (fraction % divisor) / divisor;
         }
     }
 }
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.time.format.DateTimeParseException;
+
+/**
+ * Parser for the ISO-8601 based formats of the single unit amounts.
+ * <p>
+ * This parses text such as {@code P2W3D} or {@code -PT4H5M} without regular expressions.
+ * The format is an optional sign, the letter 'P', a sequence of numbers with
+ * date-based suffixes, then optionally the letter 'T' and a sequence of numbers
+ * with time-based suffixes. Each number has an optional sign. The suffixes must
+ * appear in order and at most once, and at least one must be present.
+ * Letters may be in upper or lower case.
+ * <p>
+ * Where several components are present, they are evaluated from the smallest unit
+ * to the largest, matching the regular expression based parsers this replaces.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ */
+final class AmountParser {
+
+    /**
+     * The type name used in error messages, such as "a Days".
+     */
+    private final String typeName;
+    /**
+     * The upper case suffixes, date-based then time-based.
+     */
+    private final String suffixes;
+    /**
+     * The number of date-based suffixes, -1 if there is no time section.
+     */
+    private final int dateCount;
+    /**
+     * The multiplier converting each component to the amount unit.
+     */
+    private final int[] multipliers;
+    /**
+     * The unit names used in error messages, null to use the type name alone.
+     */
+    private final String[] unitNames;
+
+    /**
+     * Creates a parser without a time section.
+     *
+     * @param typeName  the type name used in error messages, such as "a Days"
+     * @param dateSuffixes  the upper case date-based suffixes, in order
+     * @param multipliers  the multiplier for each suffix
+     * @param unitNames  the unit names for error messages, null to use the type name alone
+     */
+    static AmountParser ofDate(String typeName, String dateSuffixes, int[] multipliers, String[] unitNames) {
+        return new AmountParser(typeName, dateSuffixes, -1, multipliers, unitNames);
+    }
+
+    /**
+     * Creates a parser with a time section.
+     *
+     * @param typeName  the type name used in error messages, such as "Hours"
+     * @param dateSuffixes  the upper case date-based suffixes, in order
+     * @param timeSuffixes  the upper case time-based suffixes, in order
+     * @param multipliers  the multiplier for each suffix
+     * @param unitNames  the unit names for error messages
+     */
+    static AmountParser ofDateTime(
+            String typeName, String dateSuffixes, String timeSuffixes, int[] multipliers, String[] unitNames) {
+        return new AmountParser(typeName, dateSuffixes + timeSuffixes, dateSuffixes.length(), multipliers, unitNames);
+    }
+
+    private AmountParser(String typeName, String suffixes, int dateCount, int[] multipliers, String[] unitNames) {
+        this.typeName = typeName;
+        this.suffixes = suffixes;
+        this.dateCount = dateCount;
+        this.multipliers = multipliers;
+        this.unitNames = unitNames;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Parses the text to an amount.
+     *
+     * @param text  the text to parse, not null
+     * @param offset  the offset of the first character to parse
+     * @param length  the number of characters to parse
+     * @return the parsed amount
+     * @throws IndexOutOfBoundsException if the offset and length are outside the text
+     * @throws DateTimeParseException if the text cannot be parsed
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    int parse(CharSequence text, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > text.length() - length) {
+            throw new IndexOutOfBoundsException(
+                    "Invalid offset or length: " + offset + ", " + length + " for text length " + text.length());
+        }
+        int end = offset + length;
+        int timePos = validate(text, offset, end);
+        if (timePos < 0) {
+            throw new DateTimeParseException("Text cannot be parsed to " + typeName, text, offset);
+        }
+        // walk backwards, so that the smallest unit is evaluated first
+        char first = text.charAt(offset);
+        int prefixPos = first == '-' || first == '+' ? offset + 1 : offset;
+        int total = 0;
+        int pos = end - 1;
+        while (pos > prefixPos) {
+            if (pos == timePos) {
+                pos--;
+                continue;
+            }
+            int index = suffixes.indexOf(upper(text.charAt(pos)), pos > timePos ? dateCount : 0);
+            int numberStart = pos - 1;
+            while (isDigit(text.charAt(numberStart))) {
+                numberStart--;
+            }
+            char sign = text.charAt(numberStart);
+            if (sign != '-' && sign != '+') {
+                numberStart++;
+            }
+            int value = parseInt(text, offset, numberStart, pos, index);
+            total = Math.addExact(total, Math.multiplyExact(value, multipliers[index]));
+            pos = numberStart - 1;
+        }
+        return first == '-' ? Math.multiplyExact(total, -1) : total;
+    }
+
+    // checks the syntax, returning the index of the 'T', end if absent, or -1 if invalid
+    private int validate(CharSequence text, int offset, int end) {
+        int pos = offset;
+        if (pos < end && (text.charAt(pos) == '-' || text.charAt(pos) == '+')) {
+            pos++;
+        }
+        if (pos == end || upper(text.charAt(pos)) != 'P') {
+            return -1;
+        }
+        pos++;
+        int timePos = end;
+        int nextSuffix = 0;
+        int count = 0;
+        while (pos < end) {
+            char ch = upper(text.charAt(pos));
+            if (ch == 'T' && dateCount >= 0 && timePos == end) {
+                timePos = pos;
+                nextSuffix = dateCount;
+                pos++;
+                continue;
+            }
+            if (ch == '-' || ch == '+') {
+                pos++;
+            }
+            int digitStart = pos;
+            while (pos < end && isDigit(text.charAt(pos))) {
+                pos++;
+            }
+            if (pos == digitStart || pos == end) {
+                return -1;
+            }
+            int limit = timePos == end && dateCount >= 0 ? dateCount : suffixes.length();
+            int index = suffixes.indexOf(upper(text.charAt(pos)), nextSuffix);
+            if (index < 0 || index >= limit) {
+                return -1;
+            }
+            nextSuffix = index + 1;
+            count++;
+            pos++;
+        }
+        return count == 0 ? -1 : timePos;
+    }
+
+    // parses an int between the positions, which have been validated as an optional sign and digits
+    private int parseInt(CharSequence text, int offset, int start, int end, int index) {
+        int pos = start;
+        boolean negative = text.charAt(pos) == '-';
+        if (negative || text.charAt(pos) == '+') {
+            pos++;
+        }
+        long value = 0;
+        for ( ; pos < end; pos++) {
+            value = value * 10 + (text.charAt(pos) - '0');
+            if (value > 1L + Integer.MAX_VALUE) {
+                break;
+            }
+        }
+        value = negative ? -value : value;
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            String message = "Text cannot be parsed to " + typeName + (unitNames != null ? ", non-numeric " + unitNames[index] : "");
+            NumberFormatException cause = new NumberFormatException("For input string: \"" + text.subSequence(start, end) + "\"");
+            throw new DateTimeParseException(message, text, offset, cause);
+        }
+        return (int) value;
+    }
+
+    private static boolean isDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    // converts an ASCII letter to upper case, matching a case insensitive regular expression
+    private static char upper(char ch) {
+        return ch >= 'a' && ch <= 'z' ? (char) (ch - 32) : ch;
+    }
+
+}
@@ -162,6 +162,42 @@ public final class DayOfMonth
         }
     }
 
+    /**
+     * Obtains an instance of {@code DayOfMonth} from an epoch-day.
+     * <p>
+     * This has the same result as {@code DayOfMonth.from(LocalDate.ofEpochDay(epochDay))}
+     * but calculates the day-of-month directly, without creating a date.
+     * For example, the epoch-day 16772, which is 2015-12-03, has the day-of-month 3.
+     *
+     * @param epochDay  the epoch-day to convert, from the epoch-day of {@code LocalDate.MIN}
+     *  to the epoch-day of {@code LocalDate.MAX}
+     * @return the day-of-month, not null
+     * @throws DateTimeException if the epoch-day is invalid
+     * @since 1.11.0
+     */
+    public static DayOfMonth ofEpochDay(long epochDay) {
+        return VALUES[EpochDayFields.dayOfMonth(EpochDayFields.marchYearAndDay(epochDay)) - 1];
+    }
+
+    /**
+     * Obtains the day-of-month values of an array of epoch-days.
+     * <p>
+     * This is the equivalent of calling {@link #ofEpochDay(long)} followed by
+     * {@link #getValue()} for each element, without creating any objects.
+     *
+     * @param epochDays  the epoch-days to convert, not null
+     * @param dayOfMonthValues  the array to store the day-of-month values in, from 1 to 31, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if an epoch-day is invalid
+     * @since 1.11.0
+     */
+    public static void ofEpochDay(long[] epochDays, int[] dayOfMonthValues) {
+        Temporals.checkLengths(epochDays.length, dayOfMonthValues.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            dayOfMonthValues[i] = EpochDayFields.dayOfMonth(EpochDayFields.marchYearAndDay(epochDays[i]));
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Obtains an instance of {@code DayOfMonth} from a date-time object.
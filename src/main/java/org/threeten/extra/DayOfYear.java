@@ -160,6 +160,42 @@ public final class DayOfYear
         }
     }
 
+    /**
+     * Obtains an instance of {@code DayOfYear} from an epoch-day.
+     * <p>
+     * This has the same result as {@code DayOfYear.from(LocalDate.ofEpochDay(epochDay))}
+     * but calculates the day-of-year directly, without creating a date.
+     * For example, the epoch-day 16772, which is 2015-12-03, has the day-of-year 337.
+     *
+     * @param epochDay  the epoch-day to convert, from the epoch-day of {@code LocalDate.MIN}
+     *  to the epoch-day of {@code LocalDate.MAX}
+     * @return the day-of-year, not null
+     * @throws DateTimeException if the epoch-day is invalid
+     * @since 1.11.0
+     */
+    public static DayOfYear ofEpochDay(long epochDay) {
+        return VALUES[EpochDayFields.dayOfYear(EpochDayFields.marchYearAndDay(epochDay)) - 1];
+    }
+
+    /**
+     * Obtains the day-of-year values of an array of epoch-days.
+     * <p>
+     * This is the equivalent of calling {@link #ofEpochDay(long)} followed by
+     * {@link #getValue()} for each element, without creating any objects.
+     *
+     * @param epochDays  the epoch-days to convert, not null
+     * @param dayOfYearValues  the array to store the day-of-year values in, from 1 to 366, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if an epoch-day is invalid
+     * @since 1.11.0
+     */
+    public static void ofEpochDay(long[] epochDays, int[] dayOfYearValues) {
+        Temporals.checkLengths(epochDays.length, dayOfYearValues.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            dayOfYearValues[i] = EpochDayFields.dayOfYear(EpochDayFields.marchYearAndDay(epochDays[i]));
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Obtains an instance of {@code DayOfYear} from a date-time object.
@@ -45,8 +45,6 @@ import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.joda.convert.FromString;
 import org.joda.convert.ToString;
@@ -87,12 +85,26 @@ public final class Days
      */
     private static final int DAYS_PER_WEEK = 7;
     /**
-     * The pattern for parsing.
+     * The parser.
      */
-    private static final Pattern PATTERN =
-            Pattern.compile("([-+]?)P"
-                    + "(?:([-+]?[0-9]+)W)?"
-                    + "(?:([-+]?[0-9]+)D)?", Pattern.CASE_INSENSITIVE);
+    private static final AmountParser PARSER =
+            AmountParser.ofDate("a Days", "WD", new int[] {DAYS_PER_WEEK, 1}, new String[] {"weeks", "days"});
+
+    /**
+     * The largest cached value.
+     */
+    private static final int MAX_CACHED = 366;
+    /**
+     * Cache of instances from zero to {@code MAX_CACHED}, covering a leap year.
+     */
+    private static final Days[] VALUES = new Days[MAX_CACHED + 1];
+    static {
+        VALUES[0] = ZERO;
+        VALUES[1] = ONE;
+        for (int i = 2; i <= MAX_CACHED; i++) {
+            VALUES[i] = new Days(i);
+        }
+    }
 
     /**
      * The number of days.
@@ -108,10 +120,8 @@ public final class Days
      * @return the number of days, not null
      */
     public static Days of(int days) {
-        if (days == 0) {
-            return ZERO;
-        } else if (days == 1) {
-            return ONE;
+        if (days >= 0 && days <= MAX_CACHED) {
+            return VALUES[days];
         }
         return new Days(days);
     }
@@ -131,7 +141,7 @@ public final class Days
         if (weeks == 0) {
             return ZERO;
         }
-        return new Days(Math.multiplyExact(weeks, DAYS_PER_WEEK));
+        return of(Math.multiplyExact(weeks, DAYS_PER_WEEK));
     }
 
     //-----------------------------------------------------------------------
@@ -210,32 +220,26 @@ public final class Days
     @FromString
     public static Days parse(CharSequence text) {
         Objects.requireNonNull(text, "text");
-        Matcher matcher = PATTERN.matcher(text);
-        if (matcher.matches()) {
-            int negate = "-".equals(matcher.group(1)) ? -1 : 1;
-            String weeksStr = matcher.group(2);
-            String daysStr = matcher.group(3);
-            if (weeksStr != null || daysStr != null) {
-                int days = 0;
-                if (daysStr != null) {
-                    try {
-                        days = Integer.parseInt(daysStr);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to a Days, non-numeric days", text, 0, ex);
-                    }
-                }
-                if (weeksStr != null) {
-                    try {
-                        int weeks = Math.multiplyExact(Integer.parseInt(weeksStr), DAYS_PER_WEEK);
-                        days = Math.addExact(days, weeks);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to a Days, non-numeric weeks", text, 0, ex);
-                    }
-                }
-                return of(Math.multiplyExact(days, negate));
-            }
-        }
-        throw new DateTimeParseException("Text cannot be parsed to a Days", text, 0);
+        return of(PARSER.parse(text, 0, text.length()));
+    }
+
+    /**
+     * Obtains a {@code Days} from a section of a text string such as {@code PnD}.
+     * <p>
+     * This parses the specified characters of the text, using the same format
+     * as {@link #parse(CharSequence)}, without extracting them as a separate string.
+     *
+     * @param text  the text to parse, not null
+     * @param offset  the offset of the first character to parse
+     * @param length  the number of characters to parse
+     * @return the parsed period, not null
+     * @throws IndexOutOfBoundsException if the offset and length are outside the text
+     * @throws DateTimeParseException if the text cannot be parsed to a period
+     * @since 1.11.0
+     */
+    public static Days parse(CharSequence text, int offset, int length) {
+        Objects.requireNonNull(text, "text");
+        return of(PARSER.parse(text, offset, length));
     }
 
     //-----------------------------------------------------------------------
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static java.time.temporal.ChronoField.EPOCH_DAY;
+
+import java.time.DateTimeException;
+import java.time.chrono.IsoChronology;
+
+/**
+ * Calculates the fields of an ISO date directly from the epoch-day.
+ * <p>
+ * This uses the algorithm of {@code LocalDate.ofEpochDay()} without creating a date,
+ * allowing columns of epoch-days to be processed without allocation.
+ * The epoch-day is first converted to a year starting in March and a day within that year,
+ * which places the leap day at the end of the year, then the fields are derived from that.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ */
+final class EpochDayFields {
+
+    /**
+     * The number of days from year zero to year 1970.
+     * There are five 400 year cycles from year zero to 2000.
+     * There are 7 leap years from 1970 to 2000.
+     */
+    static final long DAYS_0000_TO_1970 = (146097 * 5L) - (30L * 365L + 7L);
+    /**
+     * The number of days in a 400 year cycle.
+     */
+    private static final long DAYS_PER_CYCLE = 146097;
+
+    /**
+     * Restricted constructor.
+     */
+    private EpochDayFields() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts the epoch-day to the year starting in March and the day within that year.
+     * <p>
+     * The result is the March-based year shifted left by 9 bits, combined with the
+     * zero-based day within that year, where zero is March 1st.
+     * This is the input to the other methods on this class.
+     *
+     * @param epochDay  the epoch-day
+     * @return the March-based year and day
+     * @throws DateTimeException if the epoch-day is outside the range of {@code LocalDate}
+     */
+    static long marchYearAndDay(long epochDay) {
+        EPOCH_DAY.checkValidValue(epochDay);
+        // the algorithm of LocalDate.ofEpochDay()
+        long zeroDay = epochDay + DAYS_0000_TO_1970 - 60;  // adjust to 0000-03-01 so leap day is at end of four year cycle
+        long adjust = 0;
+        if (zeroDay < 0) {
+            // adjust negative years to positive for calculation
+            long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+            adjust = adjustCycles * 400;
+            zeroDay += -adjustCycles * DAYS_PER_CYCLE;
+        }
+        long yearEst = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        }
+        return ((yearEst + adjust) << 9) | doyEst;
+    }
+
+    /**
+     * Obtains the year.
+     *
+     * @param marchYearAndDay  the result of {@link #marchYearAndDay(long)}
+     * @return the year
+     */
+    static int year(long marchYearAndDay) {
+        return (int) (marchYearAndDay >> 9) + marchMonth0(marchYearAndDay) / 10;
+    }
+
+    /**
+     * Obtains the month-of-year.
+     *
+     * @param marchYearAndDay  the result of {@link #marchYearAndDay(long)}
+     * @return the month-of-year, from 1 to 12
+     */
+    static int monthOfYear(long marchYearAndDay) {
+        return (marchMonth0(marchYearAndDay) + 2) % 12 + 1;
+    }
+
+    /**
+     * Obtains the day-of-month.
+     *
+     * @param marchYearAndDay  the result of {@link #marchYearAndDay(long)}
+     * @return the day-of-month, from 1 to 31
+     */
+    static int dayOfMonth(long marchYearAndDay) {
+        return marchDoy0(marchYearAndDay) - (marchMonth0(marchYearAndDay) * 306 + 5) / 10 + 1;
+    }
+
+    /**
+     * Obtains the day-of-year.
+     *
+     * @param marchYearAndDay  the result of {@link #marchYearAndDay(long)}
+     * @return the day-of-year, from 1 to 366
+     */
+    static int dayOfYear(long marchYearAndDay) {
+        int marchDoy0 = marchDoy0(marchYearAndDay);
+        if (marchDoy0 >= 306) {
+            // January or February, which are at the end of the March-based year
+            return marchDoy0 - 305;
+        }
+        boolean leap = IsoChronology.INSTANCE.isLeapYear(marchYearAndDay >> 9);
+        return marchDoy0 + (leap ? 61 : 60);
+    }
+
+    // the zero-based day within the March-based year
+    private static int marchDoy0(long marchYearAndDay) {
+        return (int) (marchYearAndDay & 511);
+    }
+
+    // the zero-based month within the March-based year
+    private static int marchMonth0(long marchYearAndDay) {
+        return (marchDoy0(marchYearAndDay) * 5 + 2) / 153;
+    }
+
+}
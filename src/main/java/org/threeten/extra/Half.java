@@ -124,6 +124,42 @@ public enum Half implements TemporalAccessor, TemporalAdjuster {
         return of(monthOfYear <= 6 ? 1 : 2);
     }
 
+    /**
+     * Obtains an instance of {@code Half} from an epoch-day.
+     * <p>
+     * This has the same result as {@code Half.from(LocalDate.ofEpochDay(epochDay))}
+     * but calculates the half-of-year directly, without creating a date.
+     * For example, the epoch-day 16772, which is 2015-12-03, is in {@code H2}.
+     *
+     * @param epochDay  the epoch-day to convert, from the epoch-day of {@code LocalDate.MIN}
+     *  to the epoch-day of {@code LocalDate.MAX}
+     * @return the half-of-year, not null
+     * @throws DateTimeException if the epoch-day is invalid
+     * @since 1.11.0
+     */
+    public static Half ofEpochDay(long epochDay) {
+        return of(EpochDayFields.monthOfYear(EpochDayFields.marchYearAndDay(epochDay)) <= 6 ? 1 : 2);
+    }
+
+    /**
+     * Obtains the half-of-year values of an array of epoch-days.
+     * <p>
+     * This is the equivalent of calling {@link #ofEpochDay(long)} followed by
+     * {@link #getValue()} for each element.
+     *
+     * @param epochDays  the epoch-days to convert, not null
+     * @param halfOfYearValues  the array to store the half-of-year values in, from 1 to 2, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if an epoch-day is invalid
+     * @since 1.11.0
+     */
+    public static void ofEpochDay(long[] epochDays, int[] halfOfYearValues) {
+        Temporals.checkLengths(epochDays.length, halfOfYearValues.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            halfOfYearValues[i] = EpochDayFields.monthOfYear(EpochDayFields.marchYearAndDay(epochDays[i])) <= 6 ? 1 : 2;
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Obtains an instance of {@code Half} from a temporal object.
@@ -117,6 +117,16 @@ public final class HourMinute
      * Minutes per day.
      */
     private static final int MINUTES_PER_DAY = MINUTES_PER_HOUR * HOURS_PER_DAY;
+    /**
+     * Cache of singleton instances, indexed by minute-of-day.
+     */
+    private static final HourMinute[] VALUES = new HourMinute[MINUTES_PER_DAY];
+    static {
+        VALUES[0] = MIDNIGHT;
+        for (int i = 1; i < MINUTES_PER_DAY; i++) {
+            VALUES[i] = new HourMinute(i / MINUTES_PER_HOUR, i % MINUTES_PER_HOUR);
+        }
+    }
 
     /**
      * The hour-of-day.
@@ -187,7 +197,22 @@ public final class HourMinute
     public static HourMinute of(int hour, int minute) {
         HOUR_OF_DAY.checkValidValue(hour);
         MINUTE_OF_HOUR.checkValidValue(minute);
-        return new HourMinute(hour, minute);
+        return VALUES[hour * MINUTES_PER_HOUR + minute];
+    }
+
+    /**
+     * Obtains an instance of {@code HourMinute} from the packed form.
+     * <p>
+     * The packed form is {@code hour * 100 + minute}, such as 1130 for 11:30,
+     * as returned by {@link #toPackedInt()} and used by {@link PackedFields#PACKED_HOUR_MIN}.
+     *
+     * @param packed  the packed hour-minute, from 0 to 2359
+     * @return the hour-minute, not null
+     * @throws DateTimeException if either field value is invalid
+     * @since 1.11.0
+     */
+    public static HourMinute ofPackedInt(int packed) {
+        return of(packed / 100, packed % 100);
     }
 
     //-----------------------------------------------------------------------
@@ -277,18 +302,14 @@ public final class HourMinute
     }
 
     /**
-     * Returns a copy of this hour-minute with the new hour and minute, checking
-     * to see if a new object is in fact required.
+     * Returns the cached hour-minute with the new hour and minute.
      *
-     * @param newYear  the hour to represent, validated from 0 to 23
+     * @param newHour  the hour to represent, validated from 0 to 23
      * @param newMinute  the minute-of-hour to represent, validated from 0 to 59
      * @return the hour-minute, not null
      */
-    private HourMinute with(int newYear, int newMinute) {
-        if (hour == newYear && minute == newMinute) {
-            return this;
-        }
-        return new HourMinute(newYear, newMinute);
+    private static HourMinute with(int newHour, int newMinute) {
+        return VALUES[newHour * MINUTES_PER_HOUR + newMinute];
     }
 
     //-----------------------------------------------------------------------
@@ -755,12 +776,7 @@ public final class HourMinute
         }
         int mofd = hour * MINUTES_PER_HOUR + minute;
         int newMofd = ((int) (minutesToAdd % MINUTES_PER_DAY) + mofd + MINUTES_PER_DAY) % MINUTES_PER_DAY;
-        if (mofd == newMofd) {
-            return this;
-        }
-        int newHour = newMofd / MINUTES_PER_HOUR;
-        int newMinute = newMofd % MINUTES_PER_HOUR;
-        return with(newHour, newMinute);
+        return VALUES[newMofd];
     }
 
     //-----------------------------------------------------------------------
@@ -998,6 +1014,22 @@ public final class HourMinute
         return LocalTime.of(hour, minute);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Converts this hour-minute to the packed form.
+     * <p>
+     * The packed form is {@code hour * 100 + minute}, such as 1130 for 11:30,
+     * matching {@link PackedFields#PACKED_HOUR_MIN}.
+     * The numeric order of the packed form is the same as the order of the hour-minutes,
+     * making it suitable as a compact sortable key.
+     *
+     * @return the packed hour-minute, from 0 to 2359
+     * @since 1.11.0
+     */
+    public int toPackedInt() {
+        return hour * 100 + minute;
+    }
+
     //-------------------------------------------------------------------------
     /**
      * Compares this hour-minute to another
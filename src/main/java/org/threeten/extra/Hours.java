@@ -45,8 +45,6 @@ import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.joda.convert.FromString;
 import org.joda.convert.ToString;
@@ -85,13 +83,25 @@ public final class Hours
     private static final int HOURS_PER_DAY = 24;
 
     /**
-     * The pattern for parsing.
+     * The parser.
      */
-    private static final Pattern PATTERN =
-            Pattern.compile("([-+]?)P"
-                    + "(?:([-+]?[0-9]+)D)?"
-                    + "(?:T"
-                    + "(?:([-+]?[0-9]+)H)?)?", Pattern.CASE_INSENSITIVE);
+    private static final AmountParser PARSER =
+            AmountParser.ofDateTime("Hours", "D", "H", new int[] {HOURS_PER_DAY, 1}, new String[] {"days", "hours"});
+
+    /**
+     * The largest cached value.
+     */
+    private static final int MAX_CACHED = 168;
+    /**
+     * Cache of instances from zero to {@code MAX_CACHED}, covering a week.
+     */
+    private static final Hours[] VALUES = new Hours[MAX_CACHED + 1];
+    static {
+        VALUES[0] = ZERO;
+        for (int i = 1; i <= MAX_CACHED; i++) {
+            VALUES[i] = new Hours(i);
+        }
+    }
 
     /**
      * The number of hours.
@@ -107,11 +117,10 @@ public final class Hours
      * @return the number of hours, not null
      */
     public static Hours of(int hours) {
-        if (hours == 0) {
-            return ZERO;
-        } else {
-            return new Hours(hours);
+        if (hours >= 0 && hours <= MAX_CACHED) {
+            return VALUES[hours];
         }
+        return new Hours(hours);
     }
     
     //-----------------------------------------------------------------------
@@ -193,32 +202,26 @@ public final class Hours
     @FromString
     public static Hours parse(CharSequence text) {
         Objects.requireNonNull(text, "text");
-        Matcher matcher = PATTERN.matcher(text);
-        if (matcher.matches()) {
-            int negate = "-".equals(matcher.group(1)) ? -1 : 1;
-            String daysStr = matcher.group(2);
-            String hoursStr = matcher.group(3);
-            if (daysStr != null || hoursStr != null) {
-                int hours = 0;
-                if (hoursStr != null) {
-                    try {
-                        hours = Integer.parseInt(hoursStr);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to Hours, non-numeric hours", text, 0, ex);
-                    }
-                }
-                if (daysStr != null) {
-                    try {
-                        int daysAsHours = Math.multiplyExact(Integer.parseInt(daysStr), HOURS_PER_DAY);
-                        hours = Math.addExact(hours, daysAsHours);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to Hours, non-numeric days", text, 0, ex);
-                    }
-                }
-                return of(Math.multiplyExact(hours, negate));
-            }
-        }
-        throw new DateTimeParseException("Text cannot be parsed to Hours", text, 0);
+        return of(PARSER.parse(text, 0, text.length()));
+    }
+
+    /**
+     * Obtains a {@code Hours} from a section of a text string such as {@code PTnH}.
+     * <p>
+     * This parses the specified characters of the text, using the same format
+     * as {@link #parse(CharSequence)}, without extracting them as a separate string.
+     *
+     * @param text  the text to parse, not null
+     * @param offset  the offset of the first character to parse
+     * @param length  the number of characters to parse
+     * @return the parsed period, not null
+     * @throws IndexOutOfBoundsException if the offset and length are outside the text
+     * @throws DateTimeParseException if the text cannot be parsed to a period
+     * @since 1.11.0
+     */
+    public static Hours parse(CharSequence text, int offset, int length) {
+        Objects.requireNonNull(text, "text");
+        return of(PARSER.parse(text, offset, length));
     }
 
     //-----------------------------------------------------------------------
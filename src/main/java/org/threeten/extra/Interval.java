@@ -35,13 +35,32 @@ import java.io.Serializable;
 import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.joda.convert.FromString;
 import org.joda.convert.ToString;
@@ -78,6 +97,10 @@ public final class Interval
      * Serialization version.
      */
     private static final long serialVersionUID = 8375285238652L;
+    /**
+     * Seconds per day.
+     */
+    private static final long SECONDS_PER_DAY = 86400L;
 
     /**
      * The start instant (inclusive).
@@ -203,6 +226,10 @@ public final class Interval
         Objects.requireNonNull(text, "text");
         for (int i = 0; i < text.length(); i++) {
             if (text.charAt(i) == '/') {
+                Interval interval = FastParser.parse(text, i);
+                if (interval != null) {
+                    return interval;
+                }
                 return parseSplit(text.subSequence(0, i), text.subSequence(i + 1, text.length()));
             }
         }
@@ -280,6 +307,338 @@ public final class Interval
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Parser for the common forms of interval text.
+     * <p>
+     * This handles an offset date-time with a four digit year, followed by another
+     * date-time or a day-time duration, or a day-time duration followed by a date-time.
+     * It works directly on the text without creating intermediate objects or exceptions.
+     * Any other input results in null, and is then handled by the full parser,
+     * which also produces the error for invalid input.
+     */
+    private static final class FastParser {
+        /**
+         * The maximum number of digits in a duration component, avoiding overflow.
+         */
+        private static final int MAX_DIGITS = 9;
+
+        /**
+         * The text being parsed.
+         */
+        private final CharSequence text;
+        /**
+         * The current position.
+         */
+        private int pos;
+        /**
+         * The parsed seconds, either epoch-seconds or the length of the duration.
+         */
+        private long seconds;
+        /**
+         * The parsed nano-of-second.
+         */
+        private int nanos;
+        /**
+         * The parsed offset in seconds, valid if {@code hasOffset} is true.
+         */
+        private int offsetSeconds;
+        /**
+         * Whether the parsed date-time had an offset.
+         */
+        private boolean hasOffset;
+
+        private FastParser(CharSequence text) {
+            this.text = text;
+        }
+
+        // parses the text, where the slash is at the specified index, returning null if not handled
+        static @Nullable Interval parse(CharSequence text, int slash) {
+            FastParser parser = new FastParser(text);
+            int length = text.length();
+            if (text.charAt(0) == 'P') {
+                // duration followed by instant
+                if (!parser.parseDuration(0, slash)) {
+                    return null;
+                }
+                long amountSeconds = parser.seconds;
+                int amountNanos = parser.nanos;
+                if (!parser.parseDateTime(slash + 1, length) || !parser.hasOffset) {
+                    return null;
+                }
+                long endSeconds = parser.seconds - parser.offsetSeconds;
+                return Interval.of(
+                        Instant.ofEpochSecond(endSeconds - amountSeconds, parser.nanos - amountNanos),
+                        Instant.ofEpochSecond(endSeconds, parser.nanos));
+            }
+            // instant followed by instant or duration
+            if (!parser.parseDateTime(0, slash) || !parser.hasOffset) {
+                return null;
+            }
+            int offset = parser.offsetSeconds;
+            long startSeconds = parser.seconds - offset;
+            int startNanos = parser.nanos;
+            if (slash + 1 < length && text.charAt(slash + 1) == 'P') {
+                if (!parser.parseDuration(slash + 1, length)) {
+                    return null;
+                }
+                return Interval.of(
+                        Instant.ofEpochSecond(startSeconds, startNanos),
+                        Instant.ofEpochSecond(startSeconds + parser.seconds, startNanos + parser.nanos));
+            }
+            if (!parser.parseDateTime(slash + 1, length)) {
+                return null;
+            }
+            // infer offset from start if not specified by end
+            long endSeconds = parser.seconds - (parser.hasOffset ? parser.offsetSeconds : offset);
+            return Interval.of(
+                    Instant.ofEpochSecond(startSeconds, startNanos),
+                    Instant.ofEpochSecond(endSeconds, parser.nanos));
+        }
+
+        // parses 'yyyy-MM-ddTHH:mm[:ss[.nnnnnnnnn]][Z|+HH:MM[:SS]]' storing local epoch-seconds
+        private boolean parseDateTime(int start, int end) {
+            pos = start;
+            int year = parseFixed(4, end);
+            if (year < 0 || !parseChar('-', end)) {
+                return false;
+            }
+            int month = parseFixed(2, end);
+            if (month < 1 || month > 12 || !parseChar('-', end)) {
+                return false;
+            }
+            int day = parseFixed(2, end);
+            if (day < 1 || day > lengthOfMonth(year, month) || !parseChar('T', end)) {
+                return false;
+            }
+            int hour = parseFixed(2, end);
+            if (hour < 0 || hour > 23 || !parseChar(':', end)) {
+                return false;
+            }
+            int minute = parseFixed(2, end);
+            if (minute < 0 || minute > 59) {
+                return false;
+            }
+            int second = 0;
+            int nano = 0;
+            if (parseChar(':', end)) {
+                second = parseFixed(2, end);
+                if (second < 0 || second > 59) {
+                    return false;
+                }
+                if (parseChar('.', end)) {
+                    nano = parseFraction(end);
+                    if (nano < 0) {
+                        return false;
+                    }
+                }
+            }
+            seconds = epochDay(year, month, day) * 86400L + hour * 3600 + minute * 60 + second;
+            nanos = nano;
+            hasOffset = false;
+            if (pos == end) {
+                return true;
+            }
+            hasOffset = true;
+            if (parseChar('Z', end)) {
+                offsetSeconds = 0;
+                return pos == end;
+            }
+            char sign = text.charAt(pos);
+            if (sign != '+' && sign != '-') {
+                return false;
+            }
+            pos++;
+            int offsetHours = parseFixed(2, end);
+            if (offsetHours < 0 || !parseChar(':', end)) {
+                return false;
+            }
+            int offsetMinutes = parseFixed(2, end);
+            if (offsetMinutes < 0 || offsetMinutes > 59) {
+                return false;
+            }
+            int offsetSecs = 0;
+            if (parseChar(':', end)) {
+                offsetSecs = parseFixed(2, end);
+                if (offsetSecs < 0 || offsetSecs > 59) {
+                    return false;
+                }
+            }
+            int total = offsetHours * 3600 + offsetMinutes * 60 + offsetSecs;
+            if (total > 18 * 3600) {
+                return false;
+            }
+            offsetSeconds = sign == '-' ? -total : total;
+            return pos == end;
+        }
+
+        // parses 'P[nW][nD][T[nH][nM][n[.nnnnnnnnn]S]]' storing the length in seconds and nanos
+        private boolean parseDuration(int start, int end) {
+            pos = start + 1;
+            long total = 0;
+            int nano = 0;
+            boolean found = false;
+            boolean inTime = false;
+            // the designators in the order they may appear, with the time designator as zero
+            String designators = "WDTHMS";
+            int designatorIndex = 0;
+            while (pos < end) {
+                if (text.charAt(pos) == 'T') {
+                    if (inTime) {
+                        return false;
+                    }
+                    inTime = true;
+                    designatorIndex = 3;
+                    pos++;
+                    if (pos == end) {
+                        return false;
+                    }
+                    continue;
+                }
+                long value = parseNumber(end);
+                if (value < 0 || pos == end) {
+                    return false;
+                }
+                char c = text.charAt(pos);
+                if (c == '.' && inTime) {
+                    pos++;
+                    nano = parseFraction(end);
+                    if (nano < 0 || pos == end) {
+                        return false;
+                    }
+                    c = text.charAt(pos);
+                    if (c != 'S') {
+                        return false;
+                    }
+                }
+                int index = designators.indexOf(c, designatorIndex);
+                if (index < 0 || index == 2 || (index > 2) != inTime) {
+                    return false;
+                }
+                designatorIndex = index + 1;
+                switch (c) {
+                    case 'W':
+                        total += value * 7 * 86400;
+                        break;
+                    case 'D':
+                        total += value * 86400;
+                        break;
+                    case 'H':
+                        total += value * 3600;
+                        break;
+                    case 'M':
+                        total += value * 60;
+                        break;
+                    default:
+                        total += value;
+                        break;
+                }
+                found = true;
+                pos++;
+            }
+            seconds = total;
+            nanos = nano;
+            return found;
+        }
+
+        // parses a fixed number of digits, returning -1 if not possible
+        private int parseFixed(int digits, int end) {
+            if (pos + digits > end) {
+                return -1;
+            }
+            int value = 0;
+            for (int i = 0; i < digits; i++) {
+                int digit = text.charAt(pos++) - '0';
+                if (digit < 0 || digit > 9) {
+                    return -1;
+                }
+                value = value * 10 + digit;
+            }
+            return value;
+        }
+
+        // parses one to nine digits, returning -1 if not possible
+        private long parseNumber(int end) {
+            int startPos = pos;
+            long value = 0;
+            while (pos < end && pos - startPos < MAX_DIGITS + 1) {
+                int digit = text.charAt(pos) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                value = value * 10 + digit;
+                pos++;
+            }
+            int count = pos - startPos;
+            return count == 0 || count > MAX_DIGITS ? -1 : value;
+        }
+
+        // parses one to nine digits of fraction as a nano-of-second, returning -1 if not possible
+        private int parseFraction(int end) {
+            int startPos = pos;
+            int value = 0;
+            while (pos < end && pos - startPos < 10) {
+                int digit = text.charAt(pos) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                value = value * 10 + digit;
+                pos++;
+            }
+            int count = pos - startPos;
+            if (count == 0 || count > 9) {
+                return -1;
+            }
+            for (int i = count; i < 9; i++) {
+                value *= 10;
+            }
+            return value;
+        }
+
+        // parses the specified character, returning false if not found
+        private boolean parseChar(char expected, int end) {
+            if (pos < end && text.charAt(pos) == expected) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private static int lengthOfMonth(int year, int month) {
+            switch (month) {
+                case 2:
+                    return isLeap(year) ? 29 : 28;
+                case 4:
+                case 6:
+                case 9:
+                case 11:
+                    return 30;
+                default:
+                    return 31;
+            }
+        }
+
+        private static boolean isLeap(long year) {
+            return ((year & 3) == 0) && ((year % 100) != 0 || (year % 400) == 0);
+        }
+
+        // same algorithm as LocalDate.toEpochDay(), for a non-negative year
+        private static long epochDay(int year, int month, int day) {
+            long y = year;
+            long m = month;
+            long total = 365 * y + (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+            total += (367 * m - 362) / 12;
+            total += day - 1;
+            if (m > 2) {
+                total--;
+                if (!isLeap(year)) {
+                    total--;
+                }
+            }
+            return total - EpochDayFields.DAYS_0000_TO_1970;
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructor.
@@ -506,6 +865,163 @@ public final class Interval
         return Interval.of(newStart, newEnd);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Joins two sequences of intervals, passing each pair of overlapping intervals to the action.
+     * <p>
+     * Both iterators must return intervals sorted by start instant.
+     * The action is invoked with an interval from {@code left} and an interval from {@code right}
+     * for every pair where {@link #overlaps(Interval)} is true.
+     * Each pair is passed once the later starting interval of the pair has been read.
+     * <p>
+     * This is a single pass merge-join. Memory use is proportional to the number of intervals
+     * that overlap at any one time, not the total number of intervals.
+     *
+     * @param left  the left sequence of intervals, sorted by start, not null
+     * @param right  the right sequence of intervals, sorted by start, not null
+     * @param action  the action to invoke with each overlapping left and right interval, not null
+     * @throws IllegalArgumentException if either sequence is not sorted by start
+     * @since 1.11.0
+     */
+    public static void joinOverlapping(
+            Iterator<Interval> left,
+            Iterator<Interval> right,
+            BiConsumer<? super Interval, ? super Interval> action) {
+
+        Objects.requireNonNull(action, "action");
+        OverlapJoiner joiner = new OverlapJoiner(left, right);
+        while (joiner.advance(action)) {
+            // loop until both sides are exhausted
+        }
+    }
+
+    /**
+     * Joins two streams of intervals, returning the intersection of each pair of overlapping intervals.
+     * <p>
+     * Both streams must be sorted by start instant.
+     * The result contains {@code l.intersection(r)} for every interval {@code l} from {@code left}
+     * and interval {@code r} from {@code right} where {@code l.overlaps(r)} is true.
+     * <p>
+     * The result is lazy, consuming the input streams as it is consumed.
+     * Memory use is proportional to the number of intervals that overlap at any one time,
+     * not the total number of intervals.
+     *
+     * @param left  the left stream of intervals, sorted by start, not null
+     * @param right  the right stream of intervals, sorted by start, not null
+     * @return the stream of intersections, not null
+     * @throws IllegalArgumentException if either stream is not sorted by start, thrown when the result is consumed
+     * @since 1.11.0
+     */
+    public static Stream<Interval> joinIntersections(Stream<Interval> left, Stream<Interval> right) {
+        Objects.requireNonNull(left, "left");
+        Objects.requireNonNull(right, "right");
+        OverlapJoiner joiner = new OverlapJoiner(left.iterator(), right.iterator());
+        // type parameter needed for inner class in Java 8
+        Spliterator<Interval> spliterator = new Spliterators.AbstractSpliterator<Interval>(
+                Long.MAX_VALUE, Spliterator.IMMUTABLE | Spliterator.NONNULL | Spliterator.ORDERED) {
+
+            private final Deque<Interval> pending = new ArrayDeque<>();
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Interval> action) {
+                while (pending.isEmpty()) {
+                    if (!joiner.advance((l, r) -> pending.add(l.intersection(r)))) {
+                        return false;
+                    }
+                }
+                action.accept(pending.remove());
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false)
+                .onClose(left::close)
+                .onClose(right::close);
+    }
+
+    /**
+     * Performs a merge-join of two sequences of intervals sorted by start.
+     * <p>
+     * Each step reads the interval with the earliest start from either side, discards the
+     * intervals from the other side that ended before it, and matches it against the rest.
+     */
+    static final class OverlapJoiner {
+        private final Iterator<Interval> left;
+        private final Iterator<Interval> right;
+        private final Deque<Interval> activeLeft = new ArrayDeque<>();
+        private final Deque<Interval> activeRight = new ArrayDeque<>();
+        private @Nullable Interval nextLeft;
+        private @Nullable Interval nextRight;
+
+        OverlapJoiner(Iterator<Interval> left, Iterator<Interval> right) {
+            this.left = Objects.requireNonNull(left, "left");
+            this.right = Objects.requireNonNull(right, "right");
+            this.nextLeft = read(left, null);
+            this.nextRight = read(right, null);
+        }
+
+        // processes the next interval, returning false if there are none left
+        boolean advance(BiConsumer<? super Interval, ? super Interval> action) {
+            Interval l = nextLeft;
+            Interval r = nextRight;
+            if (l != null && (r == null || l.start.compareTo(r.start) <= 0)) {
+                nextLeft = read(left, l);
+                evict(activeRight, l.start);
+                for (Interval active : activeRight) {
+                    if (l.overlaps(active)) {
+                        action.accept(l, active);
+                    }
+                }
+                if (nextRight != null && canOverlapFrom(l, nextRight.start)) {
+                    activeLeft.add(l);
+                }
+                return true;
+            }
+            if (r != null) {
+                nextRight = read(right, r);
+                evict(activeLeft, r.start);
+                for (Interval active : activeLeft) {
+                    if (active.overlaps(r)) {
+                        action.accept(active, r);
+                    }
+                }
+                if (nextLeft != null && canOverlapFrom(r, nextLeft.start)) {
+                    activeRight.add(r);
+                }
+                return true;
+            }
+            return false;
+        }
+
+        // reads the next interval, validating the order
+        private static @Nullable Interval read(Iterator<Interval> iterator, @Nullable Interval previous) {
+            if (!iterator.hasNext()) {
+                return null;
+            }
+            Interval next = Objects.requireNonNull(iterator.next(), "intervals must not contain null");
+            if (previous != null && next.start.compareTo(previous.start) < 0) {
+                throw new IllegalArgumentException("Intervals must be sorted by start: " + next + " after " + previous);
+            }
+            return next;
+        }
+
+        // the number of buffered intervals, which is bounded by the overlap depth
+        int bufferedCount() {
+            return activeLeft.size() + activeRight.size();
+        }
+
+        // removes intervals that cannot overlap anything starting at or after the instant
+        private static void evict(Deque<Interval> active, Instant instant) {
+            active.removeIf(interval -> !canOverlapFrom(interval, instant));
+        }
+
+        // checks if the interval can overlap an interval starting at or after the instant
+        private static boolean canOverlapFrom(Interval interval, Instant instant) {
+            // an empty interval overlaps an equal empty interval, so is retained until passed
+            int cmp = interval.end.compareTo(instant);
+            return cmp > 0 || (cmp == 0 && interval.isEmpty());
+        }
+    }
+
     //-------------------------------------------------------------------------
     /**
      * Checks if this interval is after the specified interval.
@@ -701,6 +1217,153 @@ public final class Interval
         return endsAtOrBefore(instant) && startsBefore(instant);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Splits this interval into sub-intervals aligned to a unit in a time-zone.
+     * <p>
+     * This returns the list of intervals formed by splitting this interval at
+     * each instant where the local date-time in the zone starts a new unit.
+     * For example, splitting by {@code DAYS} in {@code Europe/Paris} splits at each local midnight,
+     * producing 23 or 25 hour intervals on the days of daylight saving transitions.
+     * The first and last intervals are truncated by the start and end of this interval.
+     * <p>
+     * When a transition causes the local start of a unit to be skipped, the split occurs
+     * at the instant of the transition. When a transition repeats the local start of a unit,
+     * a split occurs at both instants.
+     * <p>
+     * The supported units are {@code SECONDS}, {@code MINUTES}, {@code HOURS}, {@code DAYS},
+     * {@code WEEKS} (starting on Monday), {@code MONTHS} and {@code YEARS}.
+     * An empty interval results in a list containing this interval.
+     *
+     * @param zone  the time-zone to align to, not null
+     * @param unit  the unit to split by, not null
+     * @return the list of intervals, in order, not null
+     * @throws DateTimeException if this interval is unbounded
+     * @throws UnsupportedTemporalTypeException if the unit is not supported
+     * @since 1.11.0
+     */
+    public List<Interval> split(ZoneId zone, TemporalUnit unit) {
+        long[] points = splitPoints(zone, unit);
+        List<Interval> result = new ArrayList<>(points.length + 1);
+        Instant current = start;
+        for (long point : points) {
+            Instant next = Instant.ofEpochSecond(point);
+            result.add(new Interval(current, next));
+            current = next;
+        }
+        result.add(new Interval(current, end));
+        return result;
+    }
+
+    /**
+     * Finds the instants at which this interval would be split into sub-intervals
+     * aligned to a unit in a time-zone.
+     * <p>
+     * This is the primitive form of {@link #split(ZoneId, TemporalUnit)}, returning the
+     * epoch-seconds of the split instants, excluding the start and end of this interval.
+     * The split instants are always whole seconds.
+     * <p>
+     * The zone transitions affecting this interval are determined once, with the instants
+     * between them calculated arithmetically.
+     *
+     * @param zone  the time-zone to align to, not null
+     * @param unit  the unit to split by, not null
+     * @return the epoch-seconds of the split instants, in ascending order, not null
+     * @throws DateTimeException if this interval is unbounded
+     * @throws UnsupportedTemporalTypeException if the unit is not supported
+     * @since 1.11.0
+     */
+    public long[] splitPoints(ZoneId zone, TemporalUnit unit) {
+        Objects.requireNonNull(zone, "zone");
+        Objects.requireNonNull(unit, "unit");
+        if (!isSupportedSplitUnit(unit)) {
+            throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+        }
+        if (isUnboundedStart() || isUnboundedEnd()) {
+            throw new DateTimeException("Unbounded interval cannot be split: " + this);
+        }
+        ChronoUnit chronoUnit = (ChronoUnit) unit;
+        ZoneRules rules = zone.getRules();
+        // split points are whole seconds, so the exclusive limit rounds up the end
+        long limit = end.getEpochSecond() + (end.getNano() > 0 ? 1 : 0);
+        long segmentStart = start.getEpochSecond();
+        int offset = rules.getOffset(start).getTotalSeconds();
+        ZoneOffsetTransition trans = rules.isFixedOffset() ? null : rules.nextTransition(start);
+        long[] points = new long[16];
+        int size = 0;
+        while (true) {
+            long transSecond = trans != null ? trans.getInstant().getEpochSecond() : Long.MAX_VALUE;
+            long segmentLimit = Math.min(transSecond, limit);
+            // points within a segment of constant offset are found arithmetically
+            long local = alignNext(alignFloor(segmentStart + offset, chronoUnit), chronoUnit);
+            while (local - offset < segmentLimit) {
+                if (size == points.length) {
+                    points = Arrays.copyOf(points, size * 2);
+                }
+                points[size++] = local - offset;
+                local = alignNext(local, chronoUnit);
+            }
+            if (trans == null || transSecond >= limit) {
+                break;
+            }
+            // split at the transition if it starts a new unit
+            long localAfter = transSecond + trans.getOffsetAfter().getTotalSeconds();
+            long localBefore = transSecond + trans.getOffsetBefore().getTotalSeconds() - 1;
+            long floorAfter = alignFloor(localAfter, chronoUnit);
+            if (floorAfter == localAfter || floorAfter != alignFloor(localBefore, chronoUnit)) {
+                if (size == points.length) {
+                    points = Arrays.copyOf(points, size * 2);
+                }
+                points[size++] = transSecond;
+            }
+            segmentStart = transSecond;
+            offset = trans.getOffsetAfter().getTotalSeconds();
+            trans = rules.nextTransition(trans.getInstant());
+        }
+        return Arrays.copyOf(points, size);
+    }
+
+    private static boolean isSupportedSplitUnit(TemporalUnit unit) {
+        return unit == ChronoUnit.SECONDS || unit == ChronoUnit.MINUTES || unit == ChronoUnit.HOURS ||
+                unit == ChronoUnit.DAYS || unit == ChronoUnit.WEEKS ||
+                unit == ChronoUnit.MONTHS || unit == ChronoUnit.YEARS;
+    }
+
+    // finds the start of the unit containing the local epoch-second
+    private static long alignFloor(long localSecond, ChronoUnit unit) {
+        switch (unit) {
+            case WEEKS: {
+                long epochDay = Math.floorDiv(localSecond, SECONDS_PER_DAY);
+                // 1970-01-01 is a Thursday, three days after a Monday
+                return (epochDay - Math.floorMod(epochDay + 3, 7)) * SECONDS_PER_DAY;
+            }
+            case MONTHS:
+                return LocalDate.ofEpochDay(Math.floorDiv(localSecond, SECONDS_PER_DAY))
+                        .withDayOfMonth(1).toEpochDay() * SECONDS_PER_DAY;
+            case YEARS:
+                return LocalDate.ofEpochDay(Math.floorDiv(localSecond, SECONDS_PER_DAY))
+                        .withDayOfYear(1).toEpochDay() * SECONDS_PER_DAY;
+            default: {
+                long unitSeconds = unit.getDuration().getSeconds();
+                return Math.floorDiv(localSecond, unitSeconds) * unitSeconds;
+            }
+        }
+    }
+
+    // finds the start of the next unit, given the local epoch-second of the start of a unit
+    private static long alignNext(long alignedLocalSecond, ChronoUnit unit) {
+        switch (unit) {
+            case MONTHS:
+                return LocalDate.ofEpochDay(alignedLocalSecond / SECONDS_PER_DAY)
+                        .plusMonths(1).toEpochDay() * SECONDS_PER_DAY;
+            case YEARS:
+                return LocalDate.ofEpochDay(alignedLocalSecond / SECONDS_PER_DAY)
+                        .plusYears(1).toEpochDay() * SECONDS_PER_DAY;
+            default:
+                return alignedLocalSecond + unit.getDuration().getSeconds();
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Obtains the duration of this interval.
@@ -0,0 +1,398 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An immutable column of intervals stored as primitive values.
+ * <p>
+ * An {@code IntervalColumn} holds many intervals in a compact form, storing
+ * the start and end of each as an epoch-second {@code long} and a nano-of-second {@code int}.
+ * This avoids the three objects that each {@link Interval} requires, and allows
+ * predicates such as {@link #overlaps(Interval)} and {@link #contains(Instant)} to be
+ * evaluated across the whole column using primitive comparisons.
+ * <p>
+ * The semantics of each interval in the column are identical to {@code Interval}.
+ * The start is inclusive and the end exclusive, with {@link Instant#MIN} and
+ * {@link Instant#MAX} treated as unbounded.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ *
+ * @since 1.11.0
+ */
+public final class IntervalColumn {
+
+    /**
+     * An empty column.
+     */
+    private static final IntervalColumn EMPTY = new IntervalColumn(new long[0], new int[0], new long[0], new int[0]);
+    /**
+     * The epoch-second of {@code Instant.MAX}.
+     */
+    private static final long MAX_SECOND = Instant.MAX.getEpochSecond();
+    /**
+     * The nano-of-second of {@code Instant.MAX}.
+     */
+    private static final int MAX_NANO = Instant.MAX.getNano();
+
+    /**
+     * The start epoch-seconds.
+     */
+    private final long[] startSeconds;
+    /**
+     * The start nano-of-seconds.
+     */
+    private final int[] startNanos;
+    /**
+     * The end epoch-seconds.
+     */
+    private final long[] endSeconds;
+    /**
+     * The end nano-of-seconds.
+     */
+    private final int[] endNanos;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code IntervalColumn} from a collection of intervals.
+     * <p>
+     * The order of the column matches the iteration order of the collection.
+     *
+     * @param intervals  the intervals, not null, no null elements
+     * @return the column, not null
+     */
+    public static IntervalColumn of(Collection<Interval> intervals) {
+        Objects.requireNonNull(intervals, "intervals");
+        if (intervals.isEmpty()) {
+            return EMPTY;
+        }
+        int size = intervals.size();
+        long[] startSeconds = new long[size];
+        int[] startNanos = new int[size];
+        long[] endSeconds = new long[size];
+        int[] endNanos = new int[size];
+        int i = 0;
+        for (Interval interval : intervals) {
+            Objects.requireNonNull(interval, "intervals must not contain null");
+            Instant start = interval.getStart();
+            Instant end = interval.getEnd();
+            startSeconds[i] = start.getEpochSecond();
+            startNanos[i] = start.getNano();
+            endSeconds[i] = end.getEpochSecond();
+            endNanos[i] = end.getNano();
+            i++;
+        }
+        return new IntervalColumn(startSeconds, startNanos, endSeconds, endNanos);
+    }
+
+    /**
+     * Obtains an instance of {@code IntervalColumn} from arrays of primitive values.
+     * <p>
+     * The four arrays must have the same length, with each index defining one interval.
+     * The arrays are copied.
+     *
+     * @param startSeconds  the start epoch-seconds, not null
+     * @param startNanos  the start nano-of-seconds, from 0 to 999,999,999, not null
+     * @param endSeconds  the end epoch-seconds, not null
+     * @param endNanos  the end nano-of-seconds, from 0 to 999,999,999, not null
+     * @return the column, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if any value is outside the range of {@code Instant},
+     *  or if any end is before its start
+     */
+    public static IntervalColumn of(long[] startSeconds, int[] startNanos, long[] endSeconds, int[] endNanos) {
+        Objects.requireNonNull(startSeconds, "startSeconds");
+        Objects.requireNonNull(startNanos, "startNanos");
+        Objects.requireNonNull(endSeconds, "endSeconds");
+        Objects.requireNonNull(endNanos, "endNanos");
+        int size = startSeconds.length;
+        if (startNanos.length != size || endSeconds.length != size || endNanos.length != size) {
+            throw new IllegalArgumentException("Arrays must have the same length");
+        }
+        for (int i = 0; i < size; i++) {
+            validate(startSeconds[i], startNanos[i]);
+            validate(endSeconds[i], endNanos[i]);
+            if (isBefore(endSeconds[i], endNanos[i], startSeconds[i], startNanos[i])) {
+                throw new DateTimeException("End instant must be equal or after start instant at index " + i);
+            }
+        }
+        return new IntervalColumn(startSeconds.clone(), startNanos.clone(), endSeconds.clone(), endNanos.clone());
+    }
+
+    // validates an epoch-second and nano-of-second are within the range of Instant
+    private static void validate(long epochSecond, int nano) {
+        if (nano < 0 || nano > 999_999_999) {
+            throw new DateTimeException("Invalid nano-of-second: " + nano);
+        }
+        if (epochSecond < Instant.MIN.getEpochSecond() || epochSecond > MAX_SECOND) {
+            throw new DateTimeException("Instant exceeds minimum or maximum instant: " + epochSecond);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor.
+     *
+     * @param startSeconds  the start epoch-seconds, validated
+     * @param startNanos  the start nano-of-seconds, validated
+     * @param endSeconds  the end epoch-seconds, validated
+     * @param endNanos  the end nano-of-seconds, validated
+     */
+    private IntervalColumn(long[] startSeconds, int[] startNanos, long[] endSeconds, int[] endNanos) {
+        this.startSeconds = startSeconds;
+        this.startNanos = startNanos;
+        this.endSeconds = endSeconds;
+        this.endNanos = endNanos;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of intervals in the column.
+     *
+     * @return the number of intervals, zero or greater
+     */
+    public int size() {
+        return startSeconds.length;
+    }
+
+    /**
+     * Gets the interval at the specified index.
+     * <p>
+     * This creates a new {@code Interval} from the primitive values.
+     *
+     * @param index  the index, from 0 to {@code size() - 1}
+     * @return the interval, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public Interval get(int index) {
+        return Interval.of(
+                Instant.ofEpochSecond(startSeconds[index], startNanos[index]),
+                Instant.ofEpochSecond(endSeconds[index], endNanos[index]));
+    }
+
+    /**
+     * Gets the start epoch-second of the interval at the specified index.
+     *
+     * @param index  the index, from 0 to {@code size() - 1}
+     * @return the start epoch-second
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public long getStartEpochSecond(int index) {
+        return startSeconds[index];
+    }
+
+    /**
+     * Gets the start nano-of-second of the interval at the specified index.
+     *
+     * @param index  the index, from 0 to {@code size() - 1}
+     * @return the start nano-of-second, from 0 to 999,999,999
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public int getStartNano(int index) {
+        return startNanos[index];
+    }
+
+    /**
+     * Gets the end epoch-second of the interval at the specified index.
+     *
+     * @param index  the index, from 0 to {@code size() - 1}
+     * @return the end epoch-second
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public long getEndEpochSecond(int index) {
+        return endSeconds[index];
+    }
+
+    /**
+     * Gets the end nano-of-second of the interval at the specified index.
+     *
+     * @param index  the index, from 0 to {@code size() - 1}
+     * @return the end nano-of-second, from 0 to 999,999,999
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public int getEndNano(int index) {
+        return endNanos[index];
+    }
+
+    /**
+     * Converts this column to a list of intervals.
+     *
+     * @return the mutable list of intervals, not null
+     */
+    public List<Interval> toIntervals() {
+        List<Interval> list = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++) {
+            list.add(get(i));
+        }
+        return list;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Finds the intervals in this column that overlap the specified interval.
+     * <p>
+     * Bit {@code i} of the result is set if {@code get(i).overlaps(other)} would return true.
+     *
+     * @param other  the interval to compare to, not null
+     * @return the set of matching indices, not null
+     */
+    public BitSet overlaps(Interval other) {
+        Objects.requireNonNull(other, "other");
+        long otherStartSecond = other.getStart().getEpochSecond();
+        int otherStartNano = other.getStart().getNano();
+        long otherEndSecond = other.getEnd().getEpochSecond();
+        int otherEndNano = other.getEnd().getNano();
+        BitSet result = new BitSet(size());
+        for (int i = 0; i < startSeconds.length; i++) {
+            long startSecond = startSeconds[i];
+            int startNano = startNanos[i];
+            long endSecond = endSeconds[i];
+            int endNano = endNanos[i];
+            boolean overlaps =
+                    (isBefore(startSecond, startNano, otherEndSecond, otherEndNano) &&
+                            isBefore(otherStartSecond, otherStartNano, endSecond, endNano)) ||
+                    (startSecond == otherStartSecond && startNano == otherStartNano &&
+                            endSecond == otherEndSecond && endNano == otherEndNano);
+            if (overlaps) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the intervals in this column that contain the specified instant.
+     * <p>
+     * Bit {@code i} of the result is set if {@code get(i).contains(instant)} would return true.
+     *
+     * @param instant  the instant, not null
+     * @return the set of matching indices, not null
+     */
+    public BitSet contains(Instant instant) {
+        Objects.requireNonNull(instant, "instant");
+        long second = instant.getEpochSecond();
+        int nano = instant.getNano();
+        BitSet result = new BitSet(size());
+        for (int i = 0; i < startSeconds.length; i++) {
+            long endSecond = endSeconds[i];
+            int endNano = endNanos[i];
+            boolean contains = !isBefore(second, nano, startSeconds[i], startNanos[i]) &&
+                    (isBefore(second, nano, endSecond, endNano) || (endSecond == MAX_SECOND && endNano == MAX_NANO));
+            if (contains) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Counts the intervals in this column that overlap the specified interval.
+     *
+     * @param other  the interval to compare to, not null
+     * @return the number of overlapping intervals
+     */
+    public int countOverlaps(Interval other) {
+        return overlaps(other).cardinality();
+    }
+
+    /**
+     * Counts the intervals in this column that contain the specified instant.
+     *
+     * @param instant  the instant, not null
+     * @return the number of intervals containing the instant
+     */
+    public int countContains(Instant instant) {
+        return contains(instant).cardinality();
+    }
+
+    // checks if the first instant is strictly before the second
+    private static boolean isBefore(long second1, int nano1, long second2, int nano2) {
+        return second1 < second2 || (second1 == second2 && nano1 < nano2);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this column is equal to another column.
+     * <p>
+     * The comparison is based on the intervals, in order.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other column
+     */
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof IntervalColumn) {
+            IntervalColumn other = (IntervalColumn) obj;
+            return Arrays.equals(startSeconds, other.startSeconds) &&
+                    Arrays.equals(startNanos, other.startNanos) &&
+                    Arrays.equals(endSeconds, other.endSeconds) &&
+                    Arrays.equals(endNanos, other.endNanos);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this column.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(startSeconds) ^ Arrays.hashCode(startNanos) ^
+                Arrays.hashCode(endSeconds) ^ Arrays.hashCode(endNanos);
+    }
+
+    /**
+     * Outputs this column as a {@code String}, listing each interval.
+     *
+     * @return a string representation of this column, not null
+     */
+    @Override
+    public String toString() {
+        return toIntervals().toString();
+    }
+
+}
@@ -42,7 +42,11 @@ import java.time.format.DateTimeParseException;
 import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAdjuster;
 import java.time.temporal.TemporalQueries;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -90,6 +94,10 @@ public final class LocalDateRange
      * The day before the MAX date.
      */
     private static final LocalDate MAXM1 = LocalDate.MAX.minusDays(1);
+    /**
+     * The epoch-day of the MAX date.
+     */
+    private static final long MAX_EPOCH_DAY = LocalDate.MAX.toEpochDay();
     /**
      * A range over the whole time-line.
      */
@@ -665,6 +673,209 @@ public final class LocalDateRange
         return LocalDateRange.of(newStart, newEnd);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Merges a collection of ranges into the minimal sorted list of disjoint ranges.
+     * <p>
+     * Ranges that are {@linkplain #isConnected(LocalDateRange) connected} are combined,
+     * as per {@link #union(LocalDateRange)}. Empty ranges contain no dates and are ignored.
+     * The result is sorted by start date and no two ranges in the result are connected.
+     * <p>
+     * This is equivalent to repeatedly calling {@code union}, but sorts the input once
+     * and runs in {@code O(n log n)} time.
+     *
+     * @param ranges  the ranges to merge, not null, no null elements
+     * @return the merged ranges, sorted by start date, not null
+     * @since 1.11.0
+     */
+    public static List<LocalDateRange> merge(Collection<LocalDateRange> ranges) {
+        long[] merged = mergeEpochDays(ranges);
+        List<LocalDateRange> result = new ArrayList<>(merged.length / 2);
+        for (int i = 0; i < merged.length; i += 2) {
+            result.add(new LocalDateRange(startFromEpochDay(merged[i]), endFromEpochDay(merged[i + 1])));
+        }
+        return result;
+    }
+
+    /**
+     * Finds the gaps within a bounding range that are not covered by any of the ranges.
+     * <p>
+     * This returns the ranges of dates within {@code within} that are not contained in
+     * any of the specified ranges. The result is sorted by start date and contains no empty ranges.
+     * If the ranges cover the whole of {@code within} the result is empty.
+     * <p>
+     * This sorts the input once and runs in {@code O(n log n)} time.
+     *
+     * @param ranges  the ranges covering the bounding range, not null, no null elements
+     * @param within  the bounding range to find gaps in, not null
+     * @return the gaps, sorted by start date, not null
+     * @throws DateTimeException if a gap cannot be represented as a range,
+     *  which can only happen at the extremes of {@code LocalDate.MIN} or {@code LocalDate.MAX}
+     * @since 1.11.0
+     */
+    public static List<LocalDateRange> gaps(Collection<LocalDateRange> ranges, LocalDateRange within) {
+        Objects.requireNonNull(within, "within");
+        long[] merged = mergeEpochDays(ranges);
+        long boundStart = startEpochDay(within);
+        long boundEnd = endEpochDay(within);
+        List<LocalDateRange> result = new ArrayList<>();
+        long cursor = boundStart;
+        for (int i = 0; i < merged.length && cursor < boundEnd; i += 2) {
+            long gapEnd = Math.min(merged[i], boundEnd);
+            if (cursor < gapEnd) {
+                result.add(new LocalDateRange(startFromEpochDay(cursor), endFromEpochDay(gapEnd)));
+            }
+            cursor = Math.max(cursor, merged[i + 1]);
+        }
+        if (cursor < boundEnd) {
+            result.add(new LocalDateRange(startFromEpochDay(cursor), endFromEpochDay(boundEnd)));
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the maximum number of ranges that contain any single date.
+     * <p>
+     * This returns the largest number of the specified ranges that
+     * {@linkplain #contains(LocalDate) contain} the same date.
+     * Ranges that abut do not overlap, and empty ranges are ignored.
+     * Zero is returned if the collection is empty or only contains empty ranges.
+     * <p>
+     * This sorts the input once and runs in {@code O(n log n)} time.
+     *
+     * @param ranges  the ranges to check, not null, no null elements
+     * @return the maximum number of overlapping ranges, zero or greater
+     * @since 1.11.0
+     */
+    public static int maxOverlap(Collection<LocalDateRange> ranges) {
+        Objects.requireNonNull(ranges, "ranges");
+        long[] starts = new long[ranges.size()];
+        long[] ends = new long[ranges.size()];
+        int size = toEpochDays(ranges, starts, ends);
+        int count = 0;
+        int max = 0;
+        for (int i = 0, j = 0; i < size; ) {
+            // ends are processed first when equal, as the end is exclusive
+            if (starts[i] < ends[j]) {
+                count++;
+                max = Math.max(max, count);
+                i++;
+            } else {
+                count--;
+                j++;
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Counts the number of ranges that contain each date within a bounding range.
+     * <p>
+     * The result has one element for each date in {@code within}, where the element at index
+     * {@code i} is the number of the specified ranges that contain {@code within.getStart().plusDays(i)}.
+     * Ranges, or parts of ranges, outside the bounding range are ignored.
+     * <p>
+     * This runs in {@code O(n + d)} time, where {@code d} is the number of days in the bounding range.
+     *
+     * @param ranges  the ranges to count, not null, no null elements
+     * @param within  the bounding range, not null
+     * @return the number of ranges containing each date, not null
+     * @throws DateTimeException if the bounding range is unbounded or too large
+     * @since 1.11.0
+     */
+    public static int[] coverageByDay(Collection<LocalDateRange> ranges, LocalDateRange within) {
+        Objects.requireNonNull(ranges, "ranges");
+        Objects.requireNonNull(within, "within");
+        int length = within.lengthInDays();
+        if (length == Integer.MAX_VALUE) {
+            throw new DateTimeException("Bounding range must not be unbounded or too large: " + within);
+        }
+        long boundStart = startEpochDay(within);
+        long boundEnd = endEpochDay(within);
+        // difference array, one extra element to avoid a bounds check at the end
+        int[] counts = new int[length + 1];
+        for (LocalDateRange range : ranges) {
+            Objects.requireNonNull(range, "ranges must not contain null");
+            long start = Math.max(startEpochDay(range), boundStart);
+            long end = Math.min(endEpochDay(range), boundEnd);
+            if (start < end) {
+                counts[(int) (start - boundStart)]++;
+                counts[(int) (end - boundStart)]--;
+            }
+        }
+        int[] result = new int[length];
+        int running = 0;
+        for (int i = 0; i < length; i++) {
+            running += counts[i];
+            result[i] = running;
+        }
+        return result;
+    }
+
+    // merges the ranges to an array of start/end epoch-day pairs
+    private static long[] mergeEpochDays(Collection<LocalDateRange> ranges) {
+        Objects.requireNonNull(ranges, "ranges");
+        long[] starts = new long[ranges.size()];
+        long[] ends = new long[ranges.size()];
+        int size = toEpochDays(ranges, starts, ends);
+        // the starts and ends can be sorted independently, as only the coverage count matters
+        long[] merged = new long[size * 2];
+        int mergedSize = 0;
+        int count = 0;
+        for (int i = 0, j = 0; j < size; ) {
+            // starts are processed first when equal, so that abutting ranges are merged
+            if (i < size && starts[i] <= ends[j]) {
+                if (count == 0) {
+                    merged[mergedSize] = starts[i];
+                }
+                count++;
+                i++;
+            } else {
+                count--;
+                if (count == 0) {
+                    merged[mergedSize + 1] = ends[j];
+                    mergedSize += 2;
+                }
+                j++;
+            }
+        }
+        return mergedSize == merged.length ? merged : Arrays.copyOf(merged, mergedSize);
+    }
+
+    // extracts the sorted start and end epoch-days of the non-empty ranges, returning the number found
+    private static int toEpochDays(Collection<LocalDateRange> ranges, long[] starts, long[] ends) {
+        int size = 0;
+        for (LocalDateRange range : ranges) {
+            Objects.requireNonNull(range, "ranges must not contain null");
+            if (!range.isEmpty()) {
+                starts[size] = startEpochDay(range);
+                ends[size] = endEpochDay(range);
+                size++;
+            }
+        }
+        Arrays.sort(starts, 0, size);
+        Arrays.sort(ends, 0, size);
+        return size;
+    }
+
+    // the start epoch-day, inclusive
+    private static long startEpochDay(LocalDateRange range) {
+        return range.start.toEpochDay();
+    }
+
+    // the end epoch-day, exclusive, where an unbounded end is one after LocalDate.MAX
+    private static long endEpochDay(LocalDateRange range) {
+        return range.isUnboundedEnd() ? MAX_EPOCH_DAY + 1 : range.end.toEpochDay();
+    }
+
+    private static LocalDate startFromEpochDay(long epochDay) {
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    private static LocalDate endFromEpochDay(long epochDay) {
+        return epochDay > MAX_EPOCH_DAY ? LocalDate.MAX : LocalDate.ofEpochDay(epochDay);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Streams the set of dates included in the range.
@@ -45,8 +45,6 @@ import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.joda.convert.FromString;
 import org.joda.convert.ToString;
@@ -89,14 +87,26 @@ public final class Minutes
     private static final int MINUTES_PER_HOUR = 60;
 
     /**
-     * The pattern for parsing.
+     * The parser.
      */
-    private static final Pattern PATTERN =
-            Pattern.compile("([-+]?)P"
-                    + "(?:([-+]?[0-9]+)D)?"
-                    + "(?:T"
-                    + "(?:([-+]?[0-9]+)H)?"
-                    + "(?:([-+]?[0-9]+)M)?)?", Pattern.CASE_INSENSITIVE);
+    private static final AmountParser PARSER =
+            AmountParser.ofDateTime("Minutes", "D", "HM",
+                    new int[] {MINUTES_PER_DAY, MINUTES_PER_HOUR, 1}, new String[] {"days", "hours", "minutes"});
+
+    /**
+     * The largest cached value.
+     */
+    private static final int MAX_CACHED = 1440;
+    /**
+     * Cache of instances from zero to {@code MAX_CACHED}, covering a day.
+     */
+    private static final Minutes[] VALUES = new Minutes[MAX_CACHED + 1];
+    static {
+        VALUES[0] = ZERO;
+        for (int i = 1; i <= MAX_CACHED; i++) {
+            VALUES[i] = new Minutes(i);
+        }
+    }
 
     /**
      * The number of minutes.
@@ -112,8 +122,8 @@ public final class Minutes
      * @return the number of minutes, not null
      */
     public static Minutes of(int minutes) {
-        if (minutes == 0) {
-            return ZERO;
+        if (minutes >= 0 && minutes <= MAX_CACHED) {
+            return VALUES[minutes];
         }
         return new Minutes(minutes);
     }
@@ -133,7 +143,7 @@ public final class Minutes
         if (hours == 0) {
             return ZERO;
         }
-        return new Minutes(Math.multiplyExact(hours, MINUTES_PER_HOUR));
+        return of(Math.multiplyExact(hours, MINUTES_PER_HOUR));
     }
 
     //-----------------------------------------------------------------------
@@ -218,41 +228,26 @@ public final class Minutes
     @FromString
     public static Minutes parse(CharSequence text) {
         Objects.requireNonNull(text, "text");
-        Matcher matcher = PATTERN.matcher(text);
-        if (matcher.matches()) {
-            int negate = "-".equals(matcher.group(1)) ? -1 : 1;
-            String daysStr = matcher.group(2);
-            String hoursStr = matcher.group(3);
-            String minutesStr = matcher.group(4);
-            if (daysStr != null || hoursStr != null || minutesStr != null) {
-                int minutes = 0;
-                if (minutesStr != null) {
-                    try {
-                        minutes = Integer.parseInt(minutesStr);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to Minutes, non-numeric minutes", text, 0, ex);
-                    }
-                }
-                if (hoursStr != null) {
-                    try {
-                        int hoursAsMins = Math.multiplyExact(Integer.parseInt(hoursStr), MINUTES_PER_HOUR);
-                        minutes = Math.addExact(minutes, hoursAsMins);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to Minutes, non-numeric hours", text, 0, ex);
-                    }
-                }
-                if (daysStr != null) {
-                    try {
-                        int daysAsMins = Math.multiplyExact(Integer.parseInt(daysStr), MINUTES_PER_DAY);
-                        minutes = Math.addExact(minutes, daysAsMins);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to Minutes, non-numeric days", text, 0, ex);
-                    }
-                }
-                return of(Math.multiplyExact(minutes, negate));
-            }
-        }
-        throw new DateTimeParseException("Text cannot be parsed to Minutes", text, 0);
+        return of(PARSER.parse(text, 0, text.length()));
+    }
+
+    /**
+     * Obtains a {@code Minutes} from a section of a text string such as {@code PTnM}.
+     * <p>
+     * This parses the specified characters of the text, using the same format
+     * as {@link #parse(CharSequence)}, without extracting them as a separate string.
+     *
+     * @param text  the text to parse, not null
+     * @param offset  the offset of the first character to parse
+     * @param length  the number of characters to parse
+     * @return the parsed period, not null
+     * @throws IndexOutOfBoundsException if the offset and length are outside the text
+     * @throws DateTimeParseException if the text cannot be parsed to a period
+     * @since 1.11.0
+     */
+    public static Minutes parse(CharSequence text, int offset, int length) {
+        Objects.requireNonNull(text, "text");
+        return of(PARSER.parse(text, offset, length));
     }
 
     //-----------------------------------------------------------------------
@@ -45,8 +45,6 @@ import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.joda.convert.FromString;
 import org.joda.convert.ToString;
@@ -87,12 +85,26 @@ public final class Months
      */
     private static final int MONTHS_PER_YEAR = 12;
     /**
-     * The pattern for parsing.
+     * The parser.
      */
-    private static final Pattern PATTERN =
-            Pattern.compile("([-+]?)P"
-                    + "(?:([-+]?[0-9]+)Y)?"
-                    + "(?:([-+]?[0-9]+)M)?", Pattern.CASE_INSENSITIVE);
+    private static final AmountParser PARSER =
+            AmountParser.ofDate("a Months", "YM", new int[] {MONTHS_PER_YEAR, 1}, new String[] {"years", "months"});
+
+    /**
+     * The largest cached value.
+     */
+    private static final int MAX_CACHED = 120;
+    /**
+     * Cache of instances from zero to {@code MAX_CACHED}, covering ten years.
+     */
+    private static final Months[] VALUES = new Months[MAX_CACHED + 1];
+    static {
+        VALUES[0] = ZERO;
+        VALUES[1] = ONE;
+        for (int i = 2; i <= MAX_CACHED; i++) {
+            VALUES[i] = new Months(i);
+        }
+    }
 
     /**
      * The number of months.
@@ -108,10 +120,8 @@ public final class Months
      * @return the number of months, not null
      */
     public static Months of(int months) {
-        if (months == 0) {
-            return ZERO;
-        } else if (months == 1) {
-            return ONE;
+        if (months >= 0 && months <= MAX_CACHED) {
+            return VALUES[months];
         }
         return new Months(months);
     }
@@ -131,7 +141,7 @@ public final class Months
         if (years == 0) {
             return ZERO;
         }
-        return new Months(Math.multiplyExact(years, MONTHS_PER_YEAR));
+        return of(Math.multiplyExact(years, MONTHS_PER_YEAR));
     }
 
     //-----------------------------------------------------------------------
@@ -210,32 +220,26 @@ public final class Months
     @FromString
     public static Months parse(CharSequence text) {
         Objects.requireNonNull(text, "text");
-        Matcher matcher = PATTERN.matcher(text);
-        if (matcher.matches()) {
-            int negate = "-".equals(matcher.group(1)) ? -1 : 1;
-            String weeksStr = matcher.group(2);
-            String daysStr = matcher.group(3);
-            if (weeksStr != null || daysStr != null) {
-                int months = 0;
-                if (daysStr != null) {
-                    try {
-                        months = Integer.parseInt(daysStr);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to a Months, non-numeric months", text, 0, ex);
-                    }
-                }
-                if (weeksStr != null) {
-                    try {
-                        int years = Math.multiplyExact(Integer.parseInt(weeksStr), MONTHS_PER_YEAR);
-                        months = Math.addExact(months, years);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to a Months, non-numeric years", text, 0, ex);
-                    }
-                }
-                return of(Math.multiplyExact(months, negate));
-            }
-        }
-        throw new DateTimeParseException("Text cannot be parsed to a Months", text, 0);
+        return of(PARSER.parse(text, 0, text.length()));
+    }
+
+    /**
+     * Obtains a {@code Months} from a section of a text string such as {@code PnM}.
+     * <p>
+     * This parses the specified characters of the text, using the same format
+     * as {@link #parse(CharSequence)}, without extracting them as a separate string.
+     *
+     * @param text  the text to parse, not null
+     * @param offset  the offset of the first character to parse
+     * @param length  the number of characters to parse
+     * @return the parsed period, not null
+     * @throws IndexOutOfBoundsException if the offset and length are outside the text
+     * @throws DateTimeParseException if the text cannot be parsed to a period
+     * @since 1.11.0
+     */
+    public static Months parse(CharSequence text, int offset, int length) {
+        Objects.requireNonNull(text, "text");
+        return of(PARSER.parse(text, offset, length));
     }
 
     //-----------------------------------------------------------------------
@@ -65,6 +65,7 @@ import java.time.temporal.TemporalUnit;
 import java.time.temporal.UnsupportedTemporalTypeException;
 import java.time.temporal.ValueRange;
 import java.time.zone.ZoneRules;
+import java.util.Arrays;
 import java.util.Objects;
 
 import org.joda.convert.FromString;
@@ -118,6 +119,10 @@ public final class OffsetDate
      * The number of seconds per day.
      */
     private static final long SECONDS_PER_DAY = 86400;
+    /**
+     * The maximum offset in seconds.
+     */
+    private static final long MAX_OFFSET_SECONDS = 18 * 3600;
 
     /**
      * The local date.
@@ -127,6 +132,10 @@ public final class OffsetDate
      * The offset from UTC/Greenwich.
      */
     private final ZoneOffset offset;
+    /**
+     * The packed form, cached so that comparisons are a single {@code long} comparison.
+     */
+    private final transient long packed;
 
     //-----------------------------------------------------------------------
     /**
@@ -298,6 +307,32 @@ public final class OffsetDate
         return formatter.parse(text, OffsetDate::from);
     }
 
+    /**
+     * Obtains an instance of {@code OffsetDate} from the packed form.
+     * <p>
+     * The packed form is as returned by {@link #toPackedLong()}.
+     *
+     * @param packed  the packed offset date
+     * @return the offset date, not null
+     * @throws DateTimeException if the packed value is invalid
+     * @since 1.11.0
+     */
+    public static OffsetDate ofPackedLong(long packed) {
+        long epochSecond = packed >> 1;
+        long epochDay = firstCandidateDay(epochSecond) + (packed & 1);
+        EPOCH_DAY.checkValidValue(epochDay);
+        long offsetSecs = epochDay * SECONDS_PER_DAY - epochSecond;
+        if (offsetSecs > MAX_OFFSET_SECONDS) {
+            throw new DateTimeException("Invalid packed OffsetDate: " + packed);
+        }
+        return new OffsetDate(LocalDate.ofEpochDay(epochDay), ZoneOffset.ofTotalSeconds((int) offsetSecs));
+    }
+
+    // the earliest epoch-day that can start at the epoch-second, using the maximum offset
+    private static long firstCandidateDay(long epochSecond) {
+        return -Math.floorDiv(MAX_OFFSET_SECONDS - epochSecond, SECONDS_PER_DAY);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructor.
@@ -308,6 +343,10 @@ public final class OffsetDate
     private OffsetDate(LocalDate date, ZoneOffset offset) {
         this.date = Objects.requireNonNull(date, "date");
         this.offset = Objects.requireNonNull(offset, "offset");
+        long epochDay = date.toEpochDay();
+        long epochSecond = epochDay * SECONDS_PER_DAY - offset.getTotalSeconds();
+        // at most two dates start at the same instant, the earlier one being the first candidate day
+        this.packed = (epochSecond << 1) | (epochDay - firstCandidateDay(epochSecond));
     }
 
     /**
@@ -1210,9 +1249,7 @@ public final class OffsetDate
      * @return the epoch seconds value
      */
     private long toEpochSecond() {
-        long epochDay = date.toEpochDay();
-        long secs = epochDay * SECONDS_PER_DAY;
-        return secs - offset.getTotalSeconds();
+        return packed >> 1;
     }
 
     /**
@@ -1233,6 +1270,24 @@ public final class OffsetDate
         return toEpochSecond() + time.toSecondOfDay();
     }
 
+    /**
+     * Converts this date to the packed form.
+     * <p>
+     * The packed form is the epoch-second of midnight at the start of the date,
+     * shifted left by one bit, with the lowest bit set for the later of the two
+     * dates that can start at the same instant.
+     * The numeric order of the packed form is the same as the order of {@link #compareTo},
+     * and two packed values are equal if and only if the dates are equal.
+     * As such, the packed form is suitable for sorting and deduplicating large numbers
+     * of dates as a {@code long[]}.
+     *
+     * @return the packed offset date
+     * @since 1.11.0
+     */
+    public long toPackedLong() {
+        return packed;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Compares this {@code OffsetDate} to another date.
@@ -1260,14 +1315,7 @@ public final class OffsetDate
      */
     @Override
     public int compareTo(OffsetDate other) {
-        if (offset.equals(other.offset)) {
-            return date.compareTo(other.date);
-        }
-        int compare = Long.compare(toEpochSecond(), other.toEpochSecond());
-        if (compare == 0) {
-            compare = date.compareTo(other.date);
-        }
-        return compare;
+        return Long.compare(packed, other.packed);
     }
 
     //-----------------------------------------------------------------------
@@ -1316,6 +1364,31 @@ public final class OffsetDate
         return toEpochSecond() == other.toEpochSecond();
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Sorts an array of dates and removes the duplicates.
+     * <p>
+     * The array is sorted into the order of {@link #compareTo}, then the distinct
+     * dates are moved to the start of the array, as determined by {@link #equals}.
+     * The number of distinct dates is returned, and the elements from that index
+     * to the end of the array are left in an unspecified state.
+     * Each comparison is a single {@code long} comparison.
+     *
+     * @param dates  the dates to sort, not null, no null elements
+     * @return the number of distinct dates at the start of the array
+     * @since 1.11.0
+     */
+    public static int sortDistinct(OffsetDate[] dates) {
+        Arrays.sort(dates);
+        int count = 0;
+        for (OffsetDate date : dates) {
+            if (count == 0 || date.packed != dates[count - 1].packed) {
+                dates[count++] = date;
+            }
+        }
+        return count;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks if this date is equal to another date.
@@ -32,18 +32,24 @@
 package org.threeten.extra;
 
 import static java.time.temporal.ChronoField.EPOCH_DAY;
+import static java.time.temporal.ChronoField.DAY_OF_MONTH;
 import static java.time.temporal.ChronoField.HOUR_OF_DAY;
+import static java.time.temporal.ChronoField.MILLI_OF_SECOND;
 import static java.time.temporal.ChronoField.MINUTE_OF_DAY;
 import static java.time.temporal.ChronoField.MINUTE_OF_HOUR;
+import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
 import static java.time.temporal.ChronoField.SECOND_OF_DAY;
 import static java.time.temporal.ChronoField.SECOND_OF_MINUTE;
 import static java.time.temporal.ChronoUnit.DAYS;
 import static java.time.temporal.ChronoUnit.FOREVER;
+import static java.time.temporal.ChronoUnit.MILLIS;
 import static java.time.temporal.ChronoUnit.MINUTES;
 import static java.time.temporal.ChronoUnit.SECONDS;
 
 import java.time.DateTimeException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.chrono.ChronoLocalDate;
 import java.time.chrono.Chronology;
 import java.time.format.ResolverStyle;
@@ -59,7 +65,11 @@ import org.jspecify.annotations.Nullable;
 /**
  * Temporal fields based on a packed representation.
  * <p>
- * This provides three fields that use a packed integer representation for dates and times.
+ * This provides fields that use a packed integer representation for dates and times.
+ * <p>
+ * Static methods are also provided to convert directly between the packed values
+ * and the epoch-day, minute-of-day or second-of-day, avoiding the creation of
+ * temporal objects when processing large numbers of values.
  */
 public final class PackedFields {
 
@@ -106,6 +116,62 @@ public final class PackedFields {
      * times will be accepted. For example, 107310 will result in 11:13:10.
      */
     public static final TemporalField PACKED_TIME = PackedTime.INSTANCE;
+    /**
+     * Packed date-time field.
+     * <p>
+     * This returns the date-time as a single long value, combining {@link #PACKED_DATE}
+     * and {@link #PACKED_TIME} as {@code yyyymmddhhmmss}.
+     * Only dates from year 1000 to year 9999 are supported.
+     * The output is always a 14 digit integer.
+     * For example, the date-time 2015-12-03T11:30:52 is packed to the integer 20151203113052.
+     * <p>
+     * This field has invalid values within the range of value values.
+     * For example, 20121301113052 is invalid as it implies month 13.
+     * <p>
+     * When parsing in {@linkplain ResolverStyle#LENIENT lenient mode}, invalid
+     * date-times will be accepted. For example, 20121301107310 will result in 2013-01-01T11:13:10.
+     *
+     * @since 1.11.0
+     */
+    public static final TemporalField PACKED_DATE_TIME = PackedDateTime.DATE_TIME;
+    /**
+     * Packed date-time field with milliseconds.
+     * <p>
+     * This returns the date-time as a single long value, combining {@link #PACKED_DATE},
+     * {@link #PACKED_TIME} and the millisecond as {@code yyyymmddhhmmssfff}.
+     * Only dates from year 1000 to year 9999 are supported.
+     * The output is always a 17 digit integer.
+     * For example, the date-time 2015-12-03T11:30:52.123 is packed to the integer 20151203113052123.
+     * <p>
+     * There is no equivalent field with microseconds, as the 20 digit value
+     * would not fit in a {@code long}.
+     * <p>
+     * This field has invalid values within the range of value values.
+     * For example, 20121301113052000 is invalid as it implies month 13.
+     * <p>
+     * When parsing in {@linkplain ResolverStyle#LENIENT lenient mode}, invalid
+     * date-times will be accepted. For example, 20121301107310000 will result in 2013-01-01T11:13:10.
+     *
+     * @since 1.11.0
+     */
+    public static final TemporalField PACKED_DATE_TIME_MILLIS = PackedDateTime.DATE_TIME_MILLIS;
+
+    /**
+     * The epoch-day of 1000-01-01.
+     */
+    private static final long MIN_EPOCH_DAY = -354285;
+    /**
+     * The epoch-day of 9999-12-31.
+     */
+    private static final long MAX_EPOCH_DAY = 2932896;
+    /**
+     * The number of seconds per day.
+     */
+    private static final int SECONDS_PER_DAY = 86400;
+    /**
+     * The multiplier of the packed date in a packed date-time.
+     */
+    private static final long PACKED_TIME_FACTOR = 1_000_000L;
 
     /**
      * Restricted constructor.
@@ -113,6 +179,473 @@ public final class PackedFields {
     private PackedFields() {
     }
 
+    //-------------------------------------------------------------------------
+    /**
+     * Packs an epoch-day to the packed date form.
+     * <p>
+     * This has the same result as querying {@link #PACKED_DATE} on the equivalent {@code LocalDate}.
+     * For example, the epoch-day 16772, which is 2015-12-03, is packed to the integer 20151203.
+     *
+     * @param epochDay  the epoch-day to pack
+     * @return the packed date, from 10000101 to 99991231
+     * @throws DateTimeException if the year is outside the range 1000 to 9999
+     * @since 1.11.0
+     */
+    public static int packDate(long epochDay) {
+        if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY) {
+            throw new DateTimeException("Unable to obtain PackedDate from LocalDate: " + LocalDate.ofEpochDay(epochDay));
+        }
+        long marchYearAndDay = EpochDayFields.marchYearAndDay(epochDay);
+        int year = EpochDayFields.year(marchYearAndDay);
+        int month = EpochDayFields.monthOfYear(marchYearAndDay);
+        int dom = EpochDayFields.dayOfMonth(marchYearAndDay);
+        return year * 10000 + month * 100 + dom;
+    }
+
+    /**
+     * Unpacks a packed date to the epoch-day.
+     * <p>
+     * This has the same result as adjusting a {@code LocalDate} using {@link #PACKED_DATE}
+     * and obtaining the epoch-day.
+     * For example, the integer 20151203 is unpacked to the epoch-day 16772, which is 2015-12-03.
+     *
+     * @param packedDate  the packed date to unpack
+     * @return the epoch-day
+     * @throws DateTimeException if the packed date is invalid
+     * @since 1.11.0
+     */
+    public static long unpackToEpochDay(int packedDate) {
+        if (packedDate < PackedDate.RANGE.getMinimum() || packedDate > PackedDate.RANGE.getMaximum()) {
+            throw new DateTimeException("Invalid value: PackedDate " + packedDate);
+        }
+        int year = packedDate / 10000;
+        int month = (packedDate % 10000) / 100;
+        int dom = packedDate % 100;
+        MONTH_OF_YEAR.checkValidValue(month);
+        DAY_OF_MONTH.checkValidValue(dom);
+        boolean leap = (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+        if (dom > 28 && dom > lengthOfMonth(month, leap)) {
+            // throws the same exception as LocalDate
+            return LocalDate.of(year, month, dom).toEpochDay();
+        }
+        // the algorithm of LocalDate.toEpochDay(), simplified for positive years
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += dom - 1;
+        if (month > 2) {
+            total -= leap ? 1 : 2;
+        }
+        return total - EpochDayFields.DAYS_0000_TO_1970;
+    }
+
+    // the length of the month
+    private static int lengthOfMonth(int month, boolean leap) {
+        switch (month) {
+            case 2:
+                return leap ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Packs an array of epoch-days to the packed date form.
+     * <p>
+     * This is the equivalent of calling {@link #packDate(long)} for each element.
+     *
+     * @param epochDays  the epoch-days to pack, not null
+     * @param packedDates  the array to store the packed dates in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if the year of an epoch-day is outside the range 1000 to 9999
+     * @since 1.11.0
+     */
+    public static void packDate(long[] epochDays, int[] packedDates) {
+        Temporals.checkLengths(epochDays.length, packedDates.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            packedDates[i] = packDate(epochDays[i]);
+        }
+    }
+
+    /**
+     * Unpacks an array of packed dates to epoch-days.
+     * <p>
+     * This is the equivalent of calling {@link #unpackToEpochDay(int)} for each element.
+     *
+     * @param packedDates  the packed dates to unpack, not null
+     * @param epochDays  the array to store the epoch-days in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if a packed date is invalid
+     * @since 1.11.0
+     */
+    public static void unpackToEpochDay(int[] packedDates, long[] epochDays) {
+        Temporals.checkLengths(packedDates.length, epochDays.length);
+        for (int i = 0; i < packedDates.length; i++) {
+            epochDays[i] = unpackToEpochDay(packedDates[i]);
+        }
+    }
+
+    //-------------------------------------------------------------------------
+    /**
+     * Packs a minute-of-day to the packed hour-minute form.
+     * <p>
+     * This has the same result as querying {@link #PACKED_HOUR_MIN} on the equivalent {@code LocalTime}.
+     * For example, the minute-of-day 690, which is 11:30, is packed to the integer 1130.
+     *
+     * @param minuteOfDay  the minute-of-day to pack, from 0 to 1439
+     * @return the packed hour-minute, from 0 to 2359
+     * @throws DateTimeException if the minute-of-day is invalid
+     * @since 1.11.0
+     */
+    public static int packHourMin(int minuteOfDay) {
+        MINUTE_OF_DAY.checkValidValue(minuteOfDay);
+        return (minuteOfDay / 60) * 100 + minuteOfDay % 60;
+    }
+
+    /**
+     * Unpacks a packed hour-minute to the minute-of-day.
+     * <p>
+     * For example, the integer 1130 is unpacked to the minute-of-day 690, which is 11:30.
+     *
+     * @param packedHourMin  the packed hour-minute to unpack
+     * @return the minute-of-day, from 0 to 1439
+     * @throws DateTimeException if the packed hour-minute is invalid
+     * @since 1.11.0
+     */
+    public static int unpackToMinuteOfDay(int packedHourMin) {
+        int hour = packedHourMin / 100;
+        int min = packedHourMin % 100;
+        HOUR_OF_DAY.checkValidValue(hour);
+        MINUTE_OF_HOUR.checkValidValue(min);
+        return hour * 60 + min;
+    }
+
+    /**
+     * Packs an array of minute-of-day values to the packed hour-minute form.
+     * <p>
+     * This is the equivalent of calling {@link #packHourMin(int)} for each element.
+     * The arrays may be the same.
+     *
+     * @param minuteOfDays  the minute-of-day values to pack, not null
+     * @param packedHourMins  the array to store the packed hour-minutes in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if a minute-of-day is invalid
+     * @since 1.11.0
+     */
+    public static void packHourMin(int[] minuteOfDays, int[] packedHourMins) {
+        Temporals.checkLengths(minuteOfDays.length, packedHourMins.length);
+        for (int i = 0; i < minuteOfDays.length; i++) {
+            packedHourMins[i] = packHourMin(minuteOfDays[i]);
+        }
+    }
+
+    /**
+     * Unpacks an array of packed hour-minutes to minute-of-day values.
+     * <p>
+     * This is the equivalent of calling {@link #unpackToMinuteOfDay(int)} for each element.
+     * The arrays may be the same.
+     *
+     * @param packedHourMins  the packed hour-minutes to unpack, not null
+     * @param minuteOfDays  the array to store the minute-of-day values in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if a packed hour-minute is invalid
+     * @since 1.11.0
+     */
+    public static void unpackToMinuteOfDay(int[] packedHourMins, int[] minuteOfDays) {
+        Temporals.checkLengths(packedHourMins.length, minuteOfDays.length);
+        for (int i = 0; i < packedHourMins.length; i++) {
+            minuteOfDays[i] = unpackToMinuteOfDay(packedHourMins[i]);
+        }
+    }
+
+    //-------------------------------------------------------------------------
+    /**
+     * Packs a second-of-day to the packed time form.
+     * <p>
+     * This has the same result as querying {@link #PACKED_TIME} on the equivalent {@code LocalTime}.
+     * For example, the second-of-day 41452, which is 11:30:52, is packed to the integer 113052.
+     *
+     * @param secondOfDay  the second-of-day to pack, from 0 to 86399
+     * @return the packed time, from 0 to 235959
+     * @throws DateTimeException if the second-of-day is invalid
+     * @since 1.11.0
+     */
+    public static int packTime(int secondOfDay) {
+        SECOND_OF_DAY.checkValidValue(secondOfDay);
+        int hour = secondOfDay / 3600;
+        int min = (secondOfDay / 60) % 60;
+        int sec = secondOfDay % 60;
+        return hour * 10000 + min * 100 + sec;
+    }
+
+    /**
+     * Unpacks a packed time to the second-of-day.
+     * <p>
+     * For example, the integer 113052 is unpacked to the second-of-day 41452, which is 11:30:52.
+     *
+     * @param packedTime  the packed time to unpack
+     * @return the second-of-day, from 0 to 86399
+     * @throws DateTimeException if the packed time is invalid
+     * @since 1.11.0
+     */
+    public static int unpackToSecondOfDay(int packedTime) {
+        PackedTime.RANGE.checkValidValue(packedTime, PACKED_TIME);
+        int hour = packedTime / 10000;
+        int min = (packedTime % 10000) / 100;
+        int sec = packedTime % 100;
+        HOUR_OF_DAY.checkValidValue(hour);
+        MINUTE_OF_HOUR.checkValidValue(min);
+        SECOND_OF_MINUTE.checkValidValue(sec);
+        return 3600 * hour + 60 * min + sec;
+    }
+
+    /**
+     * Packs an array of second-of-day values to the packed time form.
+     * <p>
+     * This is the equivalent of calling {@link #packTime(int)} for each element.
+     * The arrays may be the same.
+     *
+     * @param secondOfDays  the second-of-day values to pack, not null
+     * @param packedTimes  the array to store the packed times in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if a second-of-day is invalid
+     * @since 1.11.0
+     */
+    public static void packTime(int[] secondOfDays, int[] packedTimes) {
+        Temporals.checkLengths(secondOfDays.length, packedTimes.length);
+        for (int i = 0; i < secondOfDays.length; i++) {
+            packedTimes[i] = packTime(secondOfDays[i]);
+        }
+    }
+
+    /**
+     * Unpacks an array of packed times to second-of-day values.
+     * <p>
+     * This is the equivalent of calling {@link #unpackToSecondOfDay(int)} for each element.
+     * The arrays may be the same.
+     *
+     * @param packedTimes  the packed times to unpack, not null
+     * @param secondOfDays  the array to store the second-of-day values in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if a packed time is invalid
+     * @since 1.11.0
+     */
+    public static void unpackToSecondOfDay(int[] packedTimes, int[] secondOfDays) {
+        Temporals.checkLengths(packedTimes.length, secondOfDays.length);
+        for (int i = 0; i < packedTimes.length; i++) {
+            secondOfDays[i] = unpackToSecondOfDay(packedTimes[i]);
+        }
+    }
+
+    //-------------------------------------------------------------------------
+    /**
+     * Packs a local epoch-second to the packed date-time form.
+     * <p>
+     * The local epoch-second is the number of seconds from 1970-01-01T00:00 in the local time-line,
+     * as returned by {@code LocalDateTime.toEpochSecond(ZoneOffset.UTC)}.
+     * This has the same result as querying {@link #PACKED_DATE_TIME} on the equivalent {@code LocalDateTime}.
+     * For example, 2015-12-03T11:30:52 is packed to the integer 20151203113052.
+     *
+     * @param epochSecond  the local epoch-second to pack
+     * @return the packed date-time, from 10000101000000 to 99991231235959
+     * @throws DateTimeException if the year is outside the range 1000 to 9999
+     * @since 1.11.0
+     */
+    public static long packDateTime(long epochSecond) {
+        long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+        return packDate(epochDay) * PACKED_TIME_FACTOR + packTime(secondOfDay);
+    }
+
+    /**
+     * Unpacks a packed date-time to the local epoch-second.
+     * <p>
+     * The local epoch-second is the number of seconds from 1970-01-01T00:00 in the local time-line,
+     * as returned by {@code LocalDateTime.toEpochSecond(ZoneOffset.UTC)}.
+     * For example, the integer 20151203113052 is unpacked to the epoch-second of 2015-12-03T11:30:52.
+     *
+     * @param packedDateTime  the packed date-time to unpack
+     * @return the local epoch-second
+     * @throws DateTimeException if the packed date-time is invalid
+     * @since 1.11.0
+     */
+    public static long unpackToEpochSecond(long packedDateTime) {
+        PackedDateTime.DATE_TIME.checkValidValue(packedDateTime);
+        long epochDay = unpackToEpochDay((int) (packedDateTime / PACKED_TIME_FACTOR));
+        return epochDay * SECONDS_PER_DAY + unpackToSecondOfDay((int) (packedDateTime % PACKED_TIME_FACTOR));
+    }
+
+    /**
+     * Packs a date-time to the packed date-time form.
+     * <p>
+     * This has the same result as querying {@link #PACKED_DATE_TIME}.
+     * Any fraction of a second is ignored.
+     *
+     * @param dateTime  the date-time to pack, not null
+     * @return the packed date-time, from 10000101000000 to 99991231235959
+     * @throws DateTimeException if the year is outside the range 1000 to 9999
+     * @since 1.11.0
+     */
+    public static long packDateTime(LocalDateTime dateTime) {
+        return packDate(dateTime.toLocalDate().toEpochDay()) * PACKED_TIME_FACTOR +
+                packTime(dateTime.toLocalTime().toSecondOfDay());
+    }
+
+    /**
+     * Unpacks a packed date-time to a {@code LocalDateTime}.
+     *
+     * @param packedDateTime  the packed date-time to unpack
+     * @return the date-time, not null
+     * @throws DateTimeException if the packed date-time is invalid
+     * @since 1.11.0
+     */
+    public static LocalDateTime unpackToLocalDateTime(long packedDateTime) {
+        PackedDateTime.DATE_TIME.checkValidValue(packedDateTime);
+        return LocalDateTime.of(
+                LocalDate.ofEpochDay(unpackToEpochDay((int) (packedDateTime / PACKED_TIME_FACTOR))),
+                LocalTime.ofSecondOfDay(unpackToSecondOfDay((int) (packedDateTime % PACKED_TIME_FACTOR))));
+    }
+
+    /**
+     * Packs an array of local epoch-seconds to the packed date-time form.
+     * <p>
+     * This is the equivalent of calling {@link #packDateTime(long)} for each element.
+     * The arrays may be the same.
+     *
+     * @param epochSeconds  the local epoch-seconds to pack, not null
+     * @param packedDateTimes  the array to store the packed date-times in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if the year of an epoch-second is outside the range 1000 to 9999
+     * @since 1.11.0
+     */
+    public static void packDateTime(long[] epochSeconds, long[] packedDateTimes) {
+        Temporals.checkLengths(epochSeconds.length, packedDateTimes.length);
+        for (int i = 0; i < epochSeconds.length; i++) {
+            packedDateTimes[i] = packDateTime(epochSeconds[i]);
+        }
+    }
+
+    /**
+     * Unpacks an array of packed date-times to local epoch-seconds.
+     * <p>
+     * This is the equivalent of calling {@link #unpackToEpochSecond(long)} for each element.
+     * The arrays may be the same.
+     *
+     * @param packedDateTimes  the packed date-times to unpack, not null
+     * @param epochSeconds  the array to store the local epoch-seconds in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if a packed date-time is invalid
+     * @since 1.11.0
+     */
+    public static void unpackToEpochSecond(long[] packedDateTimes, long[] epochSeconds) {
+        Temporals.checkLengths(packedDateTimes.length, epochSeconds.length);
+        for (int i = 0; i < packedDateTimes.length; i++) {
+            epochSeconds[i] = unpackToEpochSecond(packedDateTimes[i]);
+        }
+    }
+
+    //-------------------------------------------------------------------------
+    /**
+     * Packs a local epoch-millisecond to the packed date-time form with milliseconds.
+     * <p>
+     * The local epoch-millisecond is the number of milliseconds from 1970-01-01T00:00 in the local time-line.
+     * This has the same result as querying {@link #PACKED_DATE_TIME_MILLIS} on the equivalent {@code LocalDateTime}.
+     * For example, 2015-12-03T11:30:52.123 is packed to the integer 20151203113052123.
+     *
+     * @param epochMilli  the local epoch-millisecond to pack
+     * @return the packed date-time, from 10000101000000000 to 99991231235959999
+     * @throws DateTimeException if the year is outside the range 1000 to 9999
+     * @since 1.11.0
+     */
+    public static long packDateTimeMillis(long epochMilli) {
+        return packDateTime(Math.floorDiv(epochMilli, 1000)) * 1000 + Math.floorMod(epochMilli, 1000);
+    }
+
+    /**
+     * Unpacks a packed date-time with milliseconds to the local epoch-millisecond.
+     * <p>
+     * The local epoch-millisecond is the number of milliseconds from 1970-01-01T00:00 in the local time-line.
+     *
+     * @param packedDateTime  the packed date-time with milliseconds to unpack
+     * @return the local epoch-millisecond
+     * @throws DateTimeException if the packed date-time is invalid
+     * @since 1.11.0
+     */
+    public static long unpackToEpochMilli(long packedDateTime) {
+        PackedDateTime.DATE_TIME_MILLIS.checkValidValue(packedDateTime);
+        return unpackToEpochSecond(packedDateTime / 1000) * 1000 + packedDateTime % 1000;
+    }
+
+    /**
+     * Packs a date-time to the packed date-time form with milliseconds.
+     * <p>
+     * This has the same result as querying {@link #PACKED_DATE_TIME_MILLIS}.
+     * Any fraction of a millisecond is ignored.
+     *
+     * @param dateTime  the date-time to pack, not null
+     * @return the packed date-time, from 10000101000000000 to 99991231235959999
+     * @throws DateTimeException if the year is outside the range 1000 to 9999
+     * @since 1.11.0
+     */
+    public static long packDateTimeMillis(LocalDateTime dateTime) {
+        return packDateTime(dateTime) * 1000 + dateTime.getNano() / 1_000_000;
+    }
+
+    /**
+     * Unpacks a packed date-time with milliseconds to a {@code LocalDateTime}.
+     *
+     * @param packedDateTime  the packed date-time with milliseconds to unpack
+     * @return the date-time, not null
+     * @throws DateTimeException if the packed date-time is invalid
+     * @since 1.11.0
+     */
+    public static LocalDateTime unpackMillisToLocalDateTime(long packedDateTime) {
+        PackedDateTime.DATE_TIME_MILLIS.checkValidValue(packedDateTime);
+        return unpackToLocalDateTime(packedDateTime / 1000).withNano((int) (packedDateTime % 1000) * 1_000_000);
+    }
+
+    /**
+     * Packs an array of local epoch-milliseconds to the packed date-time form with milliseconds.
+     * <p>
+     * This is the equivalent of calling {@link #packDateTimeMillis(long)} for each element.
+     * The arrays may be the same.
+     *
+     * @param epochMillis  the local epoch-milliseconds to pack, not null
+     * @param packedDateTimes  the array to store the packed date-times in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if the year of an epoch-millisecond is outside the range 1000 to 9999
+     * @since 1.11.0
+     */
+    public static void packDateTimeMillis(long[] epochMillis, long[] packedDateTimes) {
+        Temporals.checkLengths(epochMillis.length, packedDateTimes.length);
+        for (int i = 0; i < epochMillis.length; i++) {
+            packedDateTimes[i] = packDateTimeMillis(epochMillis[i]);
+        }
+    }
+
+    /**
+     * Unpacks an array of packed date-times with milliseconds to local epoch-milliseconds.
+     * <p>
+     * This is the equivalent of calling {@link #unpackToEpochMilli(long)} for each element.
+     * The arrays may be the same.
+     *
+     * @param packedDateTimes  the packed date-times to unpack, not null
+     * @param epochMillis  the array to store the local epoch-milliseconds in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if a packed date-time is invalid
+     * @since 1.11.0
+     */
+    public static void unpackToEpochMilli(long[] packedDateTimes, long[] epochMillis) {
+        Temporals.checkLengths(packedDateTimes.length, epochMillis.length);
+        for (int i = 0; i < packedDateTimes.length; i++) {
+            epochMillis[i] = unpackToEpochMilli(packedDateTimes[i]);
+        }
+    }
+
     //-------------------------------------------------------------------------
     /**
      * Implementation of packed date.
@@ -165,25 +698,21 @@ public final class PackedFields {
 
         @Override
         public long getFrom(TemporalAccessor temporal) {
-            LocalDate date = LocalDate.ofEpochDay(temporal.getLong(EPOCH_DAY));
-            int year = date.getYear();
-            if (year < 1000 || year > 9999) {
-                throw new DateTimeException("Unable to obtain PackedDate from LocalDate: " + date);
-            }
-            int moy = date.getMonthValue();
-            int dom = date.getDayOfMonth();
-            return year * 10000 + moy * 100 + dom;
+            return packDate(temporal.getLong(EPOCH_DAY));
         }
 
         @SuppressWarnings("unchecked")
         @Override
         public <R extends Temporal> R adjustInto(R temporal, long newValue) {
-            LocalDate date = toDate(newValue);
-            return (R) temporal.with(date);
+            if (!RANGE.isValidValue(newValue)) {
+                throw new DateTimeException("Invalid value: PackedDate " + newValue);
+            }
+            // equivalent to adjusting using the LocalDate
+            return (R) temporal.with(EPOCH_DAY, unpackToEpochDay((int) newValue));
         }
 
-        private LocalDate toDate(long newValue) {
-            if (!range().isValidValue(newValue)) {
+        private static LocalDate toDate(long newValue) {
+            if (!RANGE.isValidValue(newValue)) {
                 throw new DateTimeException("Invalid value: PackedDate " + newValue);
             }
             int val = (int) newValue;
@@ -198,17 +727,19 @@ public final class PackedFields {
         public ChronoLocalDate resolve(
                 Map<TemporalField, Long> fieldValues, TemporalAccessor partialTemporal, ResolverStyle resolverStyle) {
             long value = fieldValues.remove(this);
-            LocalDate date;
+            Chronology chrono = Chronology.from(partialTemporal);
+            return chrono.date(resolveDate(value, resolverStyle));
+        }
+
+        // resolves the packed date, which is only validated if not lenient
+        static LocalDate resolveDate(long value, ResolverStyle resolverStyle) {
             if (resolverStyle == ResolverStyle.LENIENT) {
                 int year = Math.toIntExact(value / 10000);
                 int moy = (int) ((value % 10000) / 100);
                 long dom = value % 100;
-                date = LocalDate.of(year, 1, 1).plusMonths(moy - 1).plusDays(dom - 1);
-            } else {
-                date = toDate(value);
+                return LocalDate.of(year, 1, 1).plusMonths(moy - 1).plusDays(dom - 1);
             }
-            Chronology chrono = Chronology.from(partialTemporal);
-            return chrono.date(date);
+            return toDate(value);
         }
 
         //-----------------------------------------------------------------------
@@ -270,10 +801,7 @@ public final class PackedFields {
 
         @Override
         public long getFrom(TemporalAccessor temporal) {
-            int mod = temporal.get(MINUTE_OF_DAY);
-            int hour = mod / 60;
-            int min = mod % 60;
-            return hour * 100L + min;
+            return packHourMin(temporal.get(MINUTE_OF_DAY));
         }
 
         @SuppressWarnings("unchecked")
@@ -361,25 +889,14 @@ public final class PackedFields {
 
         @Override
         public long getFrom(TemporalAccessor temporal) {
-            int sod = temporal.get(SECOND_OF_DAY);
-            int hour = sod / 3600;
-            int min = (sod / 60) % 60;
-            int sec = sod % 60;
-            return hour * 10000L + min * 100 + sec;
+            return packTime(temporal.get(SECOND_OF_DAY));
         }
 
         @SuppressWarnings("unchecked")
         @Override
         public <R extends Temporal> R adjustInto(R temporal, long newValue) {
             RANGE.checkValidValue(newValue, INSTANCE);
-            long hour = newValue / 10000;
-            long min = (newValue % 10000) / 100;
-            long sec = newValue % 100;
-            HOUR_OF_DAY.checkValidValue(hour);
-            MINUTE_OF_HOUR.checkValidValue(min);
-            SECOND_OF_MINUTE.checkValidValue(sec);
-            long sod = 3600 * hour + 60 * min + sec;
-            return (R) temporal.with(SECOND_OF_DAY, sod);
+            return (R) temporal.with(SECOND_OF_DAY, unpackToSecondOfDay((int) newValue));
         }
 
         //-----------------------------------------------------------------------
@@ -407,6 +924,144 @@ public final class PackedFields {
         }
     }
 
+    //-------------------------------------------------------------------------
+    /**
+     * Implementation of packed date-time.
+     */
+    private static enum PackedDateTime implements TemporalField {
+        DATE_TIME("PackedDateTime", 1, ValueRange.of(10000101000000L, 99991231235959L)),
+        DATE_TIME_MILLIS("PackedDateTimeMillis", 1000, ValueRange.of(10000101000000000L, 99991231235959999L));
+
+        private static final long serialVersionUID = -6237591358413256L;
+
+        /**
+         * The name of the field.
+         */
+        private final String name;
+        /**
+         * The number of fractional units per second.
+         */
+        private final int fractionPerSecond;
+        /**
+         * The range of the field.
+         */
+        private final ValueRange range;
+
+        private PackedDateTime(String name, int fractionPerSecond, ValueRange range) {
+            this.name = name;
+            this.fractionPerSecond = fractionPerSecond;
+            this.range = range;
+        }
+
+        //-----------------------------------------------------------------------
+        @Override
+        public TemporalUnit getBaseUnit() {
+            return fractionPerSecond == 1 ? SECONDS : MILLIS;
+        }
+
+        @Override
+        public TemporalUnit getRangeUnit() {
+            return FOREVER;
+        }
+
+        @Override
+        public boolean isDateBased() {
+            return false;
+        }
+
+        @Override
+        public boolean isTimeBased() {
+            return false;
+        }
+
+        @Override
+        public ValueRange range() {
+            return range;
+        }
+
+        //-----------------------------------------------------------------------
+        @Override
+        public boolean isSupportedBy(TemporalAccessor temporal) {
+            return temporal.isSupported(EPOCH_DAY) &&
+                    temporal.isSupported(SECOND_OF_DAY) &&
+                    (fractionPerSecond == 1 || temporal.isSupported(MILLI_OF_SECOND));
+        }
+
+        @Override
+        public ValueRange rangeRefinedBy(TemporalAccessor temporal) {
+            if (!temporal.isSupported(this)) {
+                throw new DateTimeException("Unsupported field: " + this);
+            }
+            return range();
+        }
+
+        @Override
+        public long getFrom(TemporalAccessor temporal) {
+            long packed = packDate(temporal.getLong(EPOCH_DAY)) * PACKED_TIME_FACTOR + packTime(temporal.get(SECOND_OF_DAY));
+            return fractionPerSecond == 1 ? packed : packed * fractionPerSecond + temporal.get(MILLI_OF_SECOND);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <R extends Temporal> R adjustInto(R temporal, long newValue) {
+            checkValidValue(newValue);
+            long packed = newValue / fractionPerSecond;
+            long epochDay = unpackToEpochDay((int) (packed / PACKED_TIME_FACTOR));
+            int secondOfDay = unpackToSecondOfDay((int) (packed % PACKED_TIME_FACTOR));
+            Temporal result = temporal.with(EPOCH_DAY, epochDay).with(SECOND_OF_DAY, secondOfDay);
+            if (fractionPerSecond != 1) {
+                result = result.with(MILLI_OF_SECOND, newValue % fractionPerSecond);
+            }
+            return (R) result;
+        }
+
+        // checks the value is within the range
+        void checkValidValue(long value) {
+            if (!range.isValidValue(value)) {
+                throw new DateTimeException("Invalid value: " + name + " " + value);
+            }
+        }
+
+        //-----------------------------------------------------------------------
+        @Override
+        public ChronoLocalDate resolve(
+                Map<TemporalField, Long> fieldValues, TemporalAccessor partialTemporal, ResolverStyle resolverStyle) {
+            long value = fieldValues.remove(this);
+            if (resolverStyle != ResolverStyle.LENIENT) {
+                checkValidValue(value);
+            }
+            long packed = value / fractionPerSecond;
+            long time = packed % PACKED_TIME_FACTOR;
+            long hour = time / 10000;
+            long min = (time % 10000) / 100;
+            long sec = time % 100;
+            if (resolverStyle != ResolverStyle.LENIENT) {
+                HOUR_OF_DAY.checkValidValue(hour);
+                MINUTE_OF_HOUR.checkValidValue(min);
+                SECOND_OF_MINUTE.checkValidValue(sec);
+            }
+            LocalDate date = PackedDate.resolveDate(packed / PACKED_TIME_FACTOR, resolverStyle);
+            long sod = 3600 * hour + 60 * min + sec;
+            if (resolverStyle == ResolverStyle.LENIENT) {
+                // excess time is added to the date
+                date = date.plusDays(Math.floorDiv(sod, SECONDS_PER_DAY));
+                sod = Math.floorMod(sod, SECONDS_PER_DAY);
+            }
+            updateCheckConflict(fieldValues, this, SECOND_OF_DAY, sod);
+            if (fractionPerSecond != 1) {
+                updateCheckConflict(fieldValues, this, MILLI_OF_SECOND, value % fractionPerSecond);
+            }
+            Chronology chrono = Chronology.from(partialTemporal);
+            return chrono.date(date);
+        }
+
+        //-----------------------------------------------------------------------
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
     //-------------------------------------------------------------------------
     private static void updateCheckConflict(
             Map<TemporalField, Long> fieldValues,
@@ -40,9 +40,14 @@ import static java.time.temporal.ChronoUnit.YEARS;
 import java.io.Serializable;
 import java.time.DateTimeException;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.OffsetDateTime;
 import java.time.Period;
+import java.time.Year;
+import java.time.ZonedDateTime;
 import java.time.chrono.ChronoPeriod;
 import java.time.chrono.IsoChronology;
 import java.time.format.DateTimeParseException;
@@ -163,6 +168,19 @@ public final class PeriodDuration
         return new PeriodDuration(Period.ZERO, duration);
     }
 
+    /**
+     * Obtains a mutable accumulator, initially zero, for summing amounts.
+     * <p>
+     * This is intended for summing many amounts without creating
+     * intermediate {@code Period}, {@code Duration} and {@code PeriodDuration} instances.
+     *
+     * @return the new accumulator, not null
+     * @since 1.11.0
+     */
+    public static Accumulator accumulator() {
+        return new Accumulator();
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Obtains an instance from a temporal amount.
@@ -283,6 +301,10 @@ public final class PeriodDuration
     @FromString
     public static PeriodDuration parse(CharSequence text) {
         Objects.requireNonNull(text, "text");
+        PeriodDuration parsed = FastParser.parse(text);
+        if (parsed != null) {
+            return parsed;
+        }
         String upper = text.toString().toUpperCase(Locale.ENGLISH);
         String negate = "";
         if (upper.startsWith("+")) {
@@ -483,7 +505,8 @@ public final class PeriodDuration
      */
     public PeriodDuration plus(TemporalAmount amountToAdd) {
         PeriodDuration other = PeriodDuration.from(amountToAdd);
-        return of(period.plus(other.period), duration.plus(other.duration));
+        Period newPeriod = other.period.isZero() ? period : period.plus(other.period);
+        return of(newPeriod, duration.plus(other.duration));
     }
 
     //-----------------------------------------------------------------------
@@ -502,7 +525,8 @@ public final class PeriodDuration
      */
     public PeriodDuration minus(TemporalAmount amountToAdd) {
         PeriodDuration other = PeriodDuration.from(amountToAdd);
-        return of(period.minus(other.period), duration.minus(other.duration));
+        Period newPeriod = other.period.isZero() ? period : period.minus(other.period);
+        return of(newPeriod, duration.minus(other.duration));
     }
 
     //-----------------------------------------------------------------------
@@ -599,6 +623,10 @@ public final class PeriodDuration
      * This returns a temporal object of the same observable type as the input
      * with this amount added. This simply adds the period and duration to the temporal.
      * <p>
+     * The calculation is performed directly on the fields of {@code LocalDateTime},
+     * {@code OffsetDateTime}, {@code ZonedDateTime} and {@code Instant}, with the
+     * same result as adding the period and then the duration.
+     * <p>
      * This instance is immutable and unaffected by this method call.
      *
      * @param temporal  the temporal object to adjust, not null
@@ -609,7 +637,75 @@ public final class PeriodDuration
      */
     @Override
     public Temporal addTo(Temporal temporal) {
-        return temporal.plus(period).plus(duration);
+        Temporal result = addToKnownType(
+                temporal, period.getYears(), period.getMonths(), period.getDays(), duration.getSeconds(), duration.getNano());
+        return result != null ? result : temporal.plus(period).plus(duration);
+    }
+
+    // adds the amount to the common temporal types, returning null if the type is not handled
+    private static @Nullable Temporal addToKnownType(
+            Temporal temporal, int years, int months, int days, long seconds, int nanos) {
+
+        if (temporal instanceof LocalDateTime) {
+            return plusLocal((LocalDateTime) temporal, years, months, days, seconds, nanos);
+        }
+        if (temporal instanceof ZonedDateTime) {
+            ZonedDateTime zdt = (ZonedDateTime) temporal;
+            LocalDateTime ldt = zdt.toLocalDateTime();
+            if ((years | months | days) != 0) {
+                // the period is added to the local date-time, retaining the offset if possible
+                zdt = ZonedDateTime.ofLocal(plusLocal(ldt, years, months, days, 0, 0), zdt.getZone(), zdt.getOffset());
+                ldt = zdt.toLocalDateTime();
+            }
+            if ((seconds | nanos) == 0) {
+                return zdt;
+            }
+            // the duration is added to the instant
+            return ZonedDateTime.ofInstant(plusLocal(ldt, 0, 0, 0, seconds, nanos), zdt.getOffset(), zdt.getZone());
+        }
+        if (temporal instanceof OffsetDateTime) {
+            OffsetDateTime odt = (OffsetDateTime) temporal;
+            LocalDateTime ldt = odt.toLocalDateTime();
+            LocalDateTime result = plusLocal(ldt, years, months, days, seconds, nanos);
+            return result == ldt ? odt : OffsetDateTime.of(result, odt.getOffset());
+        }
+        if (temporal instanceof Instant && years == 0 && months == 0) {
+            Instant instant = (Instant) temporal;
+            if (days != 0) {
+                instant = instant.plusSeconds(Math.multiplyExact(days, SECONDS_PER_DAY));
+            }
+            if ((seconds | nanos) == 0) {
+                return instant;
+            }
+            long epochSecond = Math.addExact(instant.getEpochSecond(), seconds);
+            if (epochSecond < Instant.MIN.getEpochSecond() || epochSecond > Instant.MAX.getEpochSecond()) {
+                // the seconds are added before the nanoseconds, so the intermediate result must be valid
+                return instant.plusSeconds(seconds);
+            }
+            return Instant.ofEpochSecond(epochSecond, (long) instant.getNano() + nanos);
+        }
+        return null;
+    }
+
+    // adds the period and then the duration to the local date-time
+    private static LocalDateTime plusLocal(LocalDateTime ldt, int years, int months, int days, long seconds, int nanos) {
+        LocalDate date = ldt.toLocalDate();
+        LocalTime time = ldt.toLocalTime();
+        long totalMonths = years * 12L + months;
+        LocalDate newDate = date.plusMonths(totalMonths).plusDays(days);
+        LocalTime newTime = time;
+        if ((seconds | nanos) != 0) {
+            long nanoOfDay = time.toNanoOfDay();
+            long totalNanos = Math.floorMod(seconds, SECONDS_PER_DAY) * NANOS_PER_SECOND + nanos + nanoOfDay;
+            long newNanoOfDay = totalNanos % NANOS_PER_DAY;
+            newDate = newDate.plusDays(Math.floorDiv(seconds, SECONDS_PER_DAY) + totalNanos / NANOS_PER_DAY);
+            newTime = newNanoOfDay == nanoOfDay ? time : LocalTime.ofNanoOfDay(newNanoOfDay);
+            if (newDate.getYear() == Year.MIN_VALUE && seconds != 0 && nanos != 0) {
+                // the seconds are added before the nanoseconds, so the intermediate result must be valid
+                return LocalDateTime.of(date.plusMonths(totalMonths).plusDays(days), time).plusSeconds(seconds).plusNanos(nanos);
+            }
+        }
+        return newDate == date && newTime == time ? ldt : LocalDateTime.of(newDate, newTime);
     }
 
     /**
@@ -724,4 +820,415 @@ public final class PeriodDuration
         return period.toString() + duration.toString().substring(1);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * A mutable accumulator of a period and duration.
+     * <p>
+     * This sums amounts using primitive fields, with the same result as
+     * the equivalent calls to {@link PeriodDuration#plus(TemporalAmount)} and
+     * {@link PeriodDuration#minus(TemporalAmount)}.
+     * The years, months and days are summed separately, as in {@code Period},
+     * and the seconds and nanoseconds are summed as in {@code Duration}.
+     * If a method throws an exception, the accumulator is unchanged.
+     * <p>
+     * Obtain an instance using {@link PeriodDuration#accumulator()}.
+     *
+     * <h3>Implementation Requirements:</h3>
+     * This class is mutable and not thread-safe.
+     *
+     * @since 1.11.0
+     */
+    public static final class Accumulator {
+        /**
+         * The number of years.
+         */
+        private int years;
+        /**
+         * The number of months.
+         */
+        private int months;
+        /**
+         * The number of days.
+         */
+        private int days;
+        /**
+         * The number of seconds.
+         */
+        private long seconds;
+        /**
+         * The nano-of-second, from 0 to 999,999,999.
+         */
+        private int nanos;
+
+        private Accumulator() {
+        }
+
+        //-----------------------------------------------------------------------
+        /**
+         * Adds the specified amount to this accumulator.
+         *
+         * @param amount  the amount to add, not null
+         * @return this accumulator, for chaining, not null
+         * @throws ArithmeticException if numeric overflow occurs
+         */
+        public Accumulator plus(PeriodDuration amount) {
+            Objects.requireNonNull(amount, "amount");
+            Period period = amount.getPeriod();
+            Duration duration = amount.getDuration();
+            return plus(period.getYears(), period.getMonths(), period.getDays(), duration.getSeconds(), duration.getNano());
+        }
+
+        /**
+         * Adds the specified period to this accumulator.
+         *
+         * @param period  the period to add, not null
+         * @return this accumulator, for chaining, not null
+         * @throws ArithmeticException if numeric overflow occurs
+         */
+        public Accumulator plus(Period period) {
+            Objects.requireNonNull(period, "period");
+            return plus(period.getYears(), period.getMonths(), period.getDays(), 0, 0);
+        }
+
+        /**
+         * Adds the specified duration to this accumulator.
+         *
+         * @param duration  the duration to add, not null
+         * @return this accumulator, for chaining, not null
+         * @throws ArithmeticException if numeric overflow occurs
+         */
+        public Accumulator plus(Duration duration) {
+            Objects.requireNonNull(duration, "duration");
+            return plus(0, 0, 0, duration.getSeconds(), duration.getNano());
+        }
+
+        /**
+         * Adds the specified amounts to this accumulator.
+         *
+         * @param yearsToAdd  the years to add, positive or negative
+         * @param monthsToAdd  the months to add, positive or negative
+         * @param daysToAdd  the days to add, positive or negative
+         * @param secondsToAdd  the seconds to add, positive or negative
+         * @param nanosToAdd  the nano-of-second to add, from 0 to 999,999,999
+         * @return this accumulator, for chaining, not null
+         * @throws DateTimeException if the nano-of-second is invalid
+         * @throws ArithmeticException if numeric overflow occurs
+         */
+        public Accumulator plus(int yearsToAdd, int monthsToAdd, int daysToAdd, long secondsToAdd, int nanosToAdd) {
+            checkNano(nanosToAdd);
+            int newYears = Math.addExact(years, yearsToAdd);
+            int newMonths = Math.addExact(months, monthsToAdd);
+            int newDays = Math.addExact(days, daysToAdd);
+            long newSeconds = Math.addExact(seconds, secondsToAdd);
+            int newNanos = nanos + nanosToAdd;
+            if (newNanos >= NANOS_PER_SECOND) {
+                newSeconds = Math.addExact(newSeconds, 1);
+                newNanos -= NANOS_PER_SECOND;
+            }
+            return set(newYears, newMonths, newDays, newSeconds, newNanos);
+        }
+
+        /**
+         * Subtracts the specified amount from this accumulator.
+         *
+         * @param amount  the amount to subtract, not null
+         * @return this accumulator, for chaining, not null
+         * @throws ArithmeticException if numeric overflow occurs
+         */
+        public Accumulator minus(PeriodDuration amount) {
+            Objects.requireNonNull(amount, "amount");
+            Period period = amount.getPeriod();
+            Duration duration = amount.getDuration();
+            int newYears = Math.subtractExact(years, period.getYears());
+            int newMonths = Math.subtractExact(months, period.getMonths());
+            int newDays = Math.subtractExact(days, period.getDays());
+            long newSeconds = Math.subtractExact(seconds, duration.getSeconds());
+            int newNanos = nanos - duration.getNano();
+            if (newNanos < 0) {
+                newSeconds = Math.subtractExact(newSeconds, 1);
+                newNanos += NANOS_PER_SECOND;
+            }
+            return set(newYears, newMonths, newDays, newSeconds, newNanos);
+        }
+
+        /**
+         * Resets this accumulator to zero.
+         *
+         * @return this accumulator, for chaining, not null
+         */
+        public Accumulator reset() {
+            return set(0, 0, 0, 0, 0);
+        }
+
+        private Accumulator set(int years, int months, int days, long seconds, int nanos) {
+            this.years = years;
+            this.months = months;
+            this.days = days;
+            this.seconds = seconds;
+            this.nanos = nanos;
+            return this;
+        }
+
+        private static void checkNano(int nano) {
+            if (nano < 0 || nano >= NANOS_PER_SECOND) {
+                throw new DateTimeException("Invalid nano-of-second: " + nano);
+            }
+        }
+
+        //-----------------------------------------------------------------------
+        /**
+         * Checks if the accumulated amount is zero.
+         *
+         * @return true if the accumulated amount is zero
+         */
+        public boolean isZero() {
+            return (years | months | days | seconds | nanos) == 0;
+        }
+
+        /**
+         * Adds the accumulated amount to the specified temporal object.
+         * <p>
+         * This has the same result as {@code toPeriodDuration().addTo(temporal)}.
+         *
+         * @param temporal  the temporal object to adjust, not null
+         * @return an object of the same type with the adjustment made, not null
+         * @throws DateTimeException if unable to add
+         * @throws UnsupportedTemporalTypeException if the DAYS unit is not supported
+         * @throws ArithmeticException if numeric overflow occurs
+         */
+        public Temporal addTo(Temporal temporal) {
+            Objects.requireNonNull(temporal, "temporal");
+            Temporal result = addToKnownType(temporal, years, months, days, seconds, nanos);
+            return result != null ? result : toPeriodDuration().addTo(temporal);
+        }
+
+        /**
+         * Obtains the accumulated amount as a {@code PeriodDuration}.
+         *
+         * @return the accumulated amount, not null
+         */
+        public PeriodDuration toPeriodDuration() {
+            if (isZero()) {
+                return ZERO;
+            }
+            return PeriodDuration.of(Period.of(years, months, days), Duration.ofSeconds(seconds, nanos));
+        }
+
+        /**
+         * Outputs the accumulated amount as a {@code String}, such as {@code P6Y3M1DT12H}.
+         *
+         * @return a string representation of the accumulated amount, not null
+         */
+        @Override
+        public String toString() {
+            return toPeriodDuration().toString();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Single pass parser for the common form of the text.
+     * <p>
+     * This builds the period and duration directly, without copying the text.
+     * If the text is not handled, null is returned and the full parser is used,
+     * which produces the exception for invalid text.
+     */
+    private static final class FastParser {
+        /**
+         * The maximum number of digits in a date-based number, checked for int range separately.
+         */
+        private static final int MAX_DATE_DIGITS = 10;
+        /**
+         * The maximum number of digits in a time-based number, avoiding overflow of a long.
+         */
+        private static final int MAX_TIME_DIGITS = 18;
+        /**
+         * The date-based suffixes, in order.
+         */
+        private static final String DATE_SUFFIXES = "YMWD";
+        /**
+         * The time-based suffixes, in order.
+         */
+        private static final String TIME_SUFFIXES = "HMS";
+        /**
+         * The number of seconds per hour.
+         */
+        private static final long SECONDS_PER_HOUR = 3600;
+        /**
+         * The number of seconds per minute.
+         */
+        private static final long SECONDS_PER_MINUTE = 60;
+        /**
+         * The number of days per week.
+         */
+        private static final int DAYS_PER_WEEK = 7;
+        /**
+         * The marker for a number that is not handled.
+         */
+        private static final long NOT_HANDLED = Long.MIN_VALUE;
+
+        /**
+         * The text being parsed.
+         */
+        private final CharSequence text;
+        /**
+         * The current position.
+         */
+        private int pos;
+
+        private FastParser(CharSequence text) {
+            this.text = text;
+        }
+
+        // parses the text, returning null if not handled
+        static @Nullable PeriodDuration parse(CharSequence text) {
+            try {
+                return new FastParser(text).parse();
+            } catch (ArithmeticException ex) {
+                // let the full parser produce the exception
+                return null;
+            }
+        }
+
+        private @Nullable PeriodDuration parse() {
+            int end = text.length();
+            int negate = 1;
+            if (pos < end && (text.charAt(pos) == '-' || text.charAt(pos) == '+')) {
+                negate = text.charAt(pos) == '-' ? -1 : 1;
+                pos++;
+            }
+            if (pos == end || upper(text.charAt(pos)) != 'P') {
+                return null;
+            }
+            pos++;
+            // date-based sections, each number negated as done by Period.parse()
+            int years = 0;
+            int months = 0;
+            int weeks = 0;
+            int days = 0;
+            boolean hasDate = false;
+            int next = 0;
+            while (pos < end && upper(text.charAt(pos)) != 'T') {
+                long value = parseNumber(MAX_DATE_DIGITS, end);
+                if (value == NOT_HANDLED || value < Integer.MIN_VALUE || value > Integer.MAX_VALUE || pos == end) {
+                    return null;
+                }
+                int index = DATE_SUFFIXES.indexOf(upper(text.charAt(pos)), next);
+                if (index < 0) {
+                    return null;
+                }
+                int negated = Math.multiplyExact((int) value, negate);
+                if (index == 0) {
+                    years = negated;
+                } else if (index == 1) {
+                    months = negated;
+                } else if (index == 2) {
+                    weeks = negated;
+                } else {
+                    days = negated;
+                }
+                hasDate = true;
+                next = index + 1;
+                pos++;
+            }
+            // time-based sections, the fraction taking the sign of the seconds as done by Duration.parse()
+            long hoursAsSecs = 0;
+            long minutesAsSecs = 0;
+            long seconds = 0;
+            int nanos = 0;
+            boolean hasTime = false;
+            if (pos < end) {
+                pos++;
+                next = 0;
+                while (pos < end) {
+                    int numberStart = pos;
+                    long value = parseNumber(MAX_TIME_DIGITS, end);
+                    if (value == NOT_HANDLED || pos == end) {
+                        return null;
+                    }
+                    char ch = text.charAt(pos);
+                    if (ch == '.' || ch == ',') {
+                        pos++;
+                        int fraction = parseFraction(end);
+                        if (fraction < 0 || pos == end || upper(text.charAt(pos)) != 'S') {
+                            return null;
+                        }
+                        nanos = text.charAt(numberStart) == '-' ? -fraction : fraction;
+                    }
+                    int index = TIME_SUFFIXES.indexOf(upper(text.charAt(pos)), next);
+                    if (index < 0) {
+                        return null;
+                    }
+                    if (index == 0) {
+                        hoursAsSecs = Math.multiplyExact(value, SECONDS_PER_HOUR);
+                    } else if (index == 1) {
+                        minutesAsSecs = Math.multiplyExact(value, SECONDS_PER_MINUTE);
+                    } else {
+                        seconds = value;
+                    }
+                    hasTime = true;
+                    next = index + 1;
+                    pos++;
+                }
+                if (!hasTime) {
+                    return null;
+                }
+            } else if (!hasDate) {
+                return null;
+            }
+            Period period = Period.of(years, months, Math.addExact(days, Math.multiplyExact(weeks, DAYS_PER_WEEK)));
+            Duration duration = Duration.ofSeconds(Math.addExact(hoursAsSecs, Math.addExact(minutesAsSecs, seconds)), nanos);
+            return PeriodDuration.of(period, negate < 0 ? duration.negated() : duration);
+        }
+
+        // parses an optionally signed number, returning NOT_HANDLED if absent or too long
+        private long parseNumber(int maxDigits, int end) {
+            boolean negative = false;
+            if (pos < end && (text.charAt(pos) == '-' || text.charAt(pos) == '+')) {
+                negative = text.charAt(pos) == '-';
+                pos++;
+            }
+            int start = pos;
+            long value = 0;
+            while (pos < end && pos - start < maxDigits) {
+                char ch = text.charAt(pos);
+                if (ch < '0' || ch > '9') {
+                    break;
+                }
+                value = value * 10 + (ch - '0');
+                pos++;
+            }
+            if (pos == start || (pos < end && text.charAt(pos) >= '0' && text.charAt(pos) <= '9')) {
+                return NOT_HANDLED;
+            }
+            return negative ? -value : value;
+        }
+
+        // parses one to nine digits of fraction, returning the nanos or -1 if not handled
+        private int parseFraction(int end) {
+            int start = pos;
+            int value = 0;
+            while (pos < end && pos - start < 9) {
+                char ch = text.charAt(pos);
+                if (ch < '0' || ch > '9') {
+                    break;
+                }
+                value = value * 10 + (ch - '0');
+                pos++;
+            }
+            if (pos == start || (pos < end && text.charAt(pos) >= '0' && text.charAt(pos) <= '9')) {
+                return -1;
+            }
+            for (int i = pos - start; i < 9; i++) {
+                value *= 10;
+            }
+            return value;
+        }
+
+        // converts an ASCII letter to upper case, matching the case insensitive parsing of Period and Duration
+        private static char upper(char ch) {
+            return ch >= 'a' && ch <= 'z' ? (char) (ch - 32) : ch;
+        }
+    }
+
 }
@@ -144,6 +144,42 @@ public enum Quarter implements TemporalAccessor, TemporalAdjuster {
         return of((monthOfYear - 1) / 3 + 1);
     }
 
+    /**
+     * Obtains an instance of {@code Quarter} from an epoch-day.
+     * <p>
+     * This has the same result as {@code Quarter.from(LocalDate.ofEpochDay(epochDay))}
+     * but calculates the quarter-of-year directly, without creating a date.
+     * For example, the epoch-day 16772, which is 2015-12-03, is in {@code Q4}.
+     *
+     * @param epochDay  the epoch-day to convert, from the epoch-day of {@code LocalDate.MIN}
+     *  to the epoch-day of {@code LocalDate.MAX}
+     * @return the quarter-of-year, not null
+     * @throws DateTimeException if the epoch-day is invalid
+     * @since 1.11.0
+     */
+    public static Quarter ofEpochDay(long epochDay) {
+        return of((EpochDayFields.monthOfYear(EpochDayFields.marchYearAndDay(epochDay)) - 1) / 3 + 1);
+    }
+
+    /**
+     * Obtains the quarter-of-year values of an array of epoch-days.
+     * <p>
+     * This is the equivalent of calling {@link #ofEpochDay(long)} followed by
+     * {@link #getValue()} for each element.
+     *
+     * @param epochDays  the epoch-days to convert, not null
+     * @param quarterOfYearValues  the array to store the quarter-of-year values in, from 1 to 4, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if an epoch-day is invalid
+     * @since 1.11.0
+     */
+    public static void ofEpochDay(long[] epochDays, int[] quarterOfYearValues) {
+        Temporals.checkLengths(epochDays.length, quarterOfYearValues.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            quarterOfYearValues[i] = (EpochDayFields.monthOfYear(EpochDayFields.marchYearAndDay(epochDays[i])) - 1) / 3 + 1;
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Obtains an instance of {@code Quarter} from a temporal object.
@@ -45,8 +45,6 @@ import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.joda.convert.FromString;
 import org.joda.convert.ToString;
@@ -95,15 +93,27 @@ public final class Seconds
     private static final int SECONDS_PER_MINUTE = 60;
 
     /**
-     * The pattern for parsing.
+     * The parser.
      */
-    private static final Pattern PATTERN =
-            Pattern.compile("([-+]?)P"
-                    + "(?:([-+]?[0-9]+)D)?"
-                    + "(?:T"
-                    + "(?:([-+]?[0-9]+)H)?"
-                    + "(?:([-+]?[0-9]+)M)?"
-                    + "(?:([-+]?[0-9]+)S)?)?", Pattern.CASE_INSENSITIVE);
+    private static final AmountParser PARSER =
+            AmountParser.ofDateTime("Seconds", "D", "HMS",
+                    new int[] {SECONDS_PER_DAY, SECONDS_PER_HOUR, SECONDS_PER_MINUTE, 1},
+                    new String[] {"days", "hours", "minutes", "seconds"});
+
+    /**
+     * The largest cached value.
+     */
+    private static final int MAX_CACHED = 3600;
+    /**
+     * Cache of instances from zero to {@code MAX_CACHED}, covering an hour.
+     */
+    private static final Seconds[] VALUES = new Seconds[MAX_CACHED + 1];
+    static {
+        VALUES[0] = ZERO;
+        for (int i = 1; i <= MAX_CACHED; i++) {
+            VALUES[i] = new Seconds(i);
+        }
+    }
 
     /**
      * The number of seconds.
@@ -119,8 +129,8 @@ public final class Seconds
      * @return the number of seconds, not null
      */
     public static Seconds of(int seconds) {
-        if (seconds == 0) {
-            return ZERO;
+        if (seconds >= 0 && seconds <= MAX_CACHED) {
+            return VALUES[seconds];
         }
         return new Seconds(seconds);
     }
@@ -140,7 +150,7 @@ public final class Seconds
         if (hours == 0) {
             return ZERO;
         }
-        return new Seconds(Math.multiplyExact(hours, SECONDS_PER_HOUR));
+        return of(Math.multiplyExact(hours, SECONDS_PER_HOUR));
     }
 
     /**
@@ -158,7 +168,7 @@ public final class Seconds
         if (minutes == 0) {
             return ZERO;
         }
-        return new Seconds(Math.multiplyExact(minutes, SECONDS_PER_MINUTE));
+        return of(Math.multiplyExact(minutes, SECONDS_PER_MINUTE));
     }
 
     //-----------------------------------------------------------------------
@@ -244,50 +254,26 @@ public final class Seconds
     @FromString
     public static Seconds parse(CharSequence text) {
         Objects.requireNonNull(text, "text");
-        Matcher matcher = PATTERN.matcher(text);
-        if (matcher.matches()) {
-            int negate = "-".equals(matcher.group(1)) ? -1 : 1;
-            String daysStr = matcher.group(2);
-            String hoursStr = matcher.group(3);
-            String minutesStr = matcher.group(4);
-            String secondsStr = matcher.group(5);
-            if (daysStr != null || hoursStr != null || minutesStr != null || secondsStr != null) {
-                int seconds = 0;
-                if (secondsStr != null) {
-                    try {
-                        seconds = Integer.parseInt(secondsStr);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to Seconds, non-numeric seconds", text, 0, ex);
-                    }
-                }
-                if (minutesStr != null) {
-                    try {
-                        int minutesAsSecs = Math.multiplyExact(Integer.parseInt(minutesStr), SECONDS_PER_MINUTE);
-                        seconds = Math.addExact(seconds, minutesAsSecs);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to Seconds, non-numeric minutes", text, 0, ex);
-                    }
-                }
-                if (hoursStr != null) {
-                    try {
-                        int hoursAsSecs = Math.multiplyExact(Integer.parseInt(hoursStr), SECONDS_PER_HOUR);
-                        seconds = Math.addExact(seconds, hoursAsSecs);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to Seconds, non-numeric hours", text, 0, ex);
-                    }
-                }
-                if (daysStr != null) {
-                    try {
-                        int daysAsSecs = Math.multiplyExact(Integer.parseInt(daysStr), SECONDS_PER_DAY);
-                        seconds = Math.addExact(seconds, daysAsSecs);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to Seconds, non-numeric days", text, 0, ex);
-                    }
-                }
-                return of(Math.multiplyExact(seconds, negate));
-            }
-        }
-        throw new DateTimeParseException("Text cannot be parsed to Seconds", text, 0);
+        return of(PARSER.parse(text, 0, text.length()));
+    }
+
+    /**
+     * Obtains a {@code Seconds} from a section of a text string such as {@code PTnS}.
+     * <p>
+     * This parses the specified characters of the text, using the same format
+     * as {@link #parse(CharSequence)}, without extracting them as a separate string.
+     *
+     * @param text  the text to parse, not null
+     * @param offset  the offset of the first character to parse
+     * @param length  the number of characters to parse
+     * @return the parsed period, not null
+     * @throws IndexOutOfBoundsException if the offset and length are outside the text
+     * @throws DateTimeParseException if the text cannot be parsed to a period
+     * @since 1.11.0
+     */
+    public static Seconds parse(CharSequence text, int offset, int length) {
+        Objects.requireNonNull(text, "text");
+        return of(PARSER.parse(text, offset, length));
     }
 
     //-----------------------------------------------------------------------
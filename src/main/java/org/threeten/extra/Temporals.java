@@ -324,34 +324,62 @@ public final class Temporals {
      * @throws ArithmeticException if numeric overflow occurs
      */
     public static long[] convertAmount(long amount, TemporalUnit fromUnit, TemporalUnit toUnit) {
+        UnitConverter converter = unitConverter(fromUnit, toUnit);
+        return new long[] {converter.convert(amount), converter.remainder(amount)};
+    }
+
+    /**
+     * Obtains a converter of amounts from one unit to another.
+     * <p>
+     * This works on the same units as {@link #convertAmount(long, TemporalUnit, TemporalUnit)},
+     * but calculates the conversion factor once, allowing many amounts to be converted
+     * without allocation. Converters between two {@code ChronoUnit} values are shared.
+     *
+     * @param fromUnit  the unit to convert from, not null
+     * @param toUnit  the unit to convert to, not null
+     * @return the converter, not null
+     * @throws DateTimeException if the units cannot be converted
+     * @throws UnsupportedTemporalTypeException if the units are not supported
+     * @since 1.11.0
+     */
+    public static UnitConverter unitConverter(TemporalUnit fromUnit, TemporalUnit toUnit) {
         Objects.requireNonNull(fromUnit, "fromUnit");
         Objects.requireNonNull(toUnit, "toUnit");
         validateUnit(fromUnit);
         validateUnit(toUnit);
+        if (fromUnit instanceof ChronoUnit && toUnit instanceof ChronoUnit) {
+            int fromIndex = ((ChronoUnit) fromUnit).ordinal();
+            int toIndex = ((ChronoUnit) toUnit).ordinal();
+            UnitConverter converter = UnitConverter.CHRONO_CONVERTERS[fromIndex][toIndex];
+            if (converter != null) {
+                return converter;
+            }
+        }
+        return createConverter(fromUnit, toUnit);
+    }
+
+    // calculates the conversion factor, the units having been validated
+    private static UnitConverter createConverter(TemporalUnit fromUnit, TemporalUnit toUnit) {
         if (fromUnit.equals(toUnit)) {
-            return new long[] {amount, 0};
+            return new UnitConverter(fromUnit, toUnit, 1, 1);
         }
         // precise-based
         if (isPrecise(fromUnit) && isPrecise(toUnit)) {
             long fromNanos = fromUnit.getDuration().toNanos();
             long toNanos = toUnit.getDuration().toNanos();
             if (fromNanos > toNanos) {
-                long multiple = fromNanos / toNanos;
-                return new long[] {Math.multiplyExact(amount, multiple), 0};
+                return new UnitConverter(fromUnit, toUnit, fromNanos / toNanos, 1);
             } else {
-                long multiple = toNanos / fromNanos;
-                return new long[] {amount / multiple, amount % multiple};
+                return new UnitConverter(fromUnit, toUnit, 1, toNanos / fromNanos);
             }
         }
         // month-based
         int fromMonthFactor = monthMonthFactor(fromUnit, fromUnit, toUnit);
         int toMonthFactor = monthMonthFactor(toUnit, fromUnit, toUnit);
         if (fromMonthFactor > toMonthFactor) {
-            long multiple = fromMonthFactor / toMonthFactor;
-            return new long[] {Math.multiplyExact(amount, multiple), 0};
+            return new UnitConverter(fromUnit, toUnit, fromMonthFactor / toMonthFactor, 1);
         } else {
-            long multiple = toMonthFactor / fromMonthFactor;
-            return new long[] {amount / multiple, amount % multiple};
+            return new UnitConverter(fromUnit, toUnit, 1, toMonthFactor / fromMonthFactor);
         }
     }
 
@@ -390,6 +418,161 @@ public final class Temporals {
         return 3;  // quarters
     }
 
+    //-------------------------------------------------------------------------
+    /**
+     * Converts amounts from one unit to another.
+     * <p>
+     * An instance is obtained from {@link Temporals#unitConverter(TemporalUnit, TemporalUnit)}.
+     * The conversion factor is calculated when the instance is created, and the results
+     * match {@link Temporals#convertAmount(long, TemporalUnit, TemporalUnit)}.
+     * The whole number is available from {@code convert} and the remainder,
+     * in terms of the input unit, from {@code remainder}.
+     *
+     * <h3>Implementation Requirements:</h3>
+     * This class is immutable and thread-safe.
+     *
+     * @since 1.11.0
+     */
+    public static final class UnitConverter {
+        /**
+         * The shared converters between pairs of {@code ChronoUnit}, null if not convertible.
+         */
+        private static final UnitConverter[][] CHRONO_CONVERTERS;
+        static {
+            ChronoUnit[] units = ChronoUnit.values();
+            CHRONO_CONVERTERS = new UnitConverter[units.length][units.length];
+            for (ChronoUnit fromUnit : units) {
+                for (ChronoUnit toUnit : units) {
+                    if (fromUnit != ERAS && fromUnit != FOREVER && toUnit != ERAS && toUnit != FOREVER &&
+                            (fromUnit == toUnit || isPrecise(fromUnit) == isPrecise(toUnit))) {
+                        CHRONO_CONVERTERS[fromUnit.ordinal()][toUnit.ordinal()] = createConverter(fromUnit, toUnit);
+                    }
+                }
+            }
+        }
+
+        /**
+         * The unit to convert from.
+         */
+        private final TemporalUnit fromUnit;
+        /**
+         * The unit to convert to.
+         */
+        private final TemporalUnit toUnit;
+        /**
+         * The multiplier, one if converting to a larger unit.
+         */
+        private final long multiplier;
+        /**
+         * The divisor, one if converting to a smaller unit.
+         */
+        private final long divisor;
+
+        private UnitConverter(TemporalUnit fromUnit, TemporalUnit toUnit, long multiplier, long divisor) {
+            this.fromUnit = fromUnit;
+            this.toUnit = toUnit;
+            this.multiplier = multiplier;
+            this.divisor = divisor;
+        }
+
+        //-----------------------------------------------------------------------
+        /**
+         * Gets the unit to convert from.
+         *
+         * @return the unit to convert from, not null
+         */
+        public TemporalUnit getFromUnit() {
+            return fromUnit;
+        }
+
+        /**
+         * Gets the unit to convert to.
+         *
+         * @return the unit to convert to, not null
+         */
+        public TemporalUnit getToUnit() {
+            return toUnit;
+        }
+
+        //-----------------------------------------------------------------------
+        /**
+         * Converts an amount, returning the signed whole number in terms of the output unit.
+         *
+         * @param amount  the input amount in terms of the input unit
+         * @return the signed whole number in terms of the output unit
+         * @throws ArithmeticException if numeric overflow occurs
+         */
+        public long convert(long amount) {
+            return divisor == 1 ? Math.multiplyExact(amount, multiplier) : amount / divisor;
+        }
+
+        /**
+         * Converts an amount, returning the signed remainder in terms of the input unit.
+         *
+         * @param amount  the input amount in terms of the input unit
+         * @return the signed remainder in terms of the input unit
+         */
+        public long remainder(long amount) {
+            return amount % divisor;
+        }
+
+        /**
+         * Converts an array of amounts, storing the signed whole numbers in terms of the output unit.
+         * <p>
+         * The output array may be the same as the input array.
+         *
+         * @param amounts  the input amounts in terms of the input unit, not null
+         * @param converted  the array to store the signed whole numbers in, the same length as the input, not null
+         * @throws IllegalArgumentException if the arrays have different lengths
+         * @throws ArithmeticException if numeric overflow occurs
+         */
+        public void convert(long[] amounts, long[] converted) {
+            checkLengths(amounts, converted);
+            if (divisor == 1) {
+                for (int i = 0; i < amounts.length; i++) {
+                    converted[i] = Math.multiplyExact(amounts[i], multiplier);
+                }
+            } else {
+                for (int i = 0; i < amounts.length; i++) {
+                    converted[i] = amounts[i] / divisor;
+                }
+            }
+        }
+
+        /**
+         * Converts an array of amounts, storing the signed remainders in terms of the input unit.
+         * <p>
+         * The output array may be the same as the input array.
+         *
+         * @param amounts  the input amounts in terms of the input unit, not null
+         * @param remainders  the array to store the signed remainders in, the same length as the input, not null
+         * @throws IllegalArgumentException if the arrays have different lengths
+         */
+        public void remainder(long[] amounts, long[] remainders) {
+            checkLengths(amounts, remainders);
+            for (int i = 0; i < amounts.length; i++) {
+                remainders[i] = amounts[i] % divisor;
+            }
+        }
+
+        private static void checkLengths(long[] amounts, long[] results) {
+            Objects.requireNonNull(amounts, "amounts");
+            Objects.requireNonNull(results, "results");
+            Temporals.checkLengths(amounts.length, results.length);
+        }
+
+        //-----------------------------------------------------------------------
+        /**
+         * Outputs the converter as a {@code String}.
+         *
+         * @return a string describing the units, not null
+         */
+        @Override
+        public String toString() {
+            return "UnitConverter[" + fromUnit + " to " + toUnit + "]";
+        }
+    }
+
     //-------------------------------------------------------------------------
     /**
      * Converts a duration to a {@code BigDecimal} with a scale of 9.
@@ -424,10 +607,32 @@ public final class Temporals {
      * @return the {@code double} equivalent of the duration, in seconds
      */
     public static double durationToDoubleSeconds(Duration duration) {
-        if (duration.getSeconds() < 1_000_000_000) {
-            return duration.toNanos() / 1_000_000_000d;
+        return toDoubleSeconds(duration.getSeconds(), duration.getNano());
+    }
+
+    /**
+     * Converts an array of durations, held as seconds and nano-of-second, to {@code double} seconds.
+     * <p>
+     * This is the equivalent of calling {@link #durationToDoubleSeconds(Duration)} for each element,
+     * without creating a {@code Duration} or {@code BigDecimal} in most cases.
+     * The result is the {@code double} nearest to the exact number of seconds.
+     *
+     * @param seconds  the seconds of each duration, not null
+     * @param nanos  the nano-of-second of each duration, from 0 to 999,999,999, not null
+     * @param result  the array to store the number of seconds in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if a nano-of-second is invalid
+     * @since 1.11.0
+     */
+    public static void durationToDoubleSeconds(long[] seconds, int[] nanos, double[] result) {
+        Objects.requireNonNull(seconds, "seconds");
+        Objects.requireNonNull(nanos, "nanos");
+        Objects.requireNonNull(result, "result");
+        checkLengths(seconds.length, nanos.length);
+        checkLengths(seconds.length, result.length);
+        for (int i = 0; i < seconds.length; i++) {
+            result[i] = toDoubleSeconds(seconds[i], checkNano(nanos[i]));
         }
-        return durationToBigDecimalSeconds(duration).doubleValue();
     }
 
     /**
@@ -444,6 +649,39 @@ public final class Temporals {
         return durationFromBigDecimalSeconds(BigDecimal.valueOf(seconds));
     }
 
+    /**
+     * Converts an array of {@code double} seconds to durations, held as seconds and nano-of-second.
+     * <p>
+     * This is the equivalent of calling {@link #durationFromDoubleSeconds(double)} for each element,
+     * without creating a {@code Duration} or {@code BigDecimal} in most cases.
+     * The result arrays may be the same length as the input, and the duration
+     * saturates at the biggest positive or negative {@code Duration}.
+     *
+     * @param seconds  the number of seconds to convert, positive or negative, not null
+     * @param resultSeconds  the array to store the seconds of each duration in, not null
+     * @param resultNanos  the array to store the nano-of-second of each duration in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @since 1.11.0
+     */
+    public static void durationFromDoubleSeconds(double[] seconds, long[] resultSeconds, int[] resultNanos) {
+        Objects.requireNonNull(seconds, "seconds");
+        Objects.requireNonNull(resultSeconds, "resultSeconds");
+        Objects.requireNonNull(resultNanos, "resultNanos");
+        checkLengths(seconds.length, resultSeconds.length);
+        checkLengths(seconds.length, resultNanos.length);
+        for (int i = 0; i < seconds.length; i++) {
+            long totalNanos = DoubleSeconds.toNanos(seconds[i]);
+            if (totalNanos != DoubleSeconds.NOT_HANDLED) {
+                resultSeconds[i] = Math.floorDiv(totalNanos, DoubleSeconds.NANOS_PER_SECOND);
+                resultNanos[i] = (int) Math.floorMod(totalNanos, DoubleSeconds.NANOS_PER_SECOND);
+            } else {
+                Duration duration = durationFromDoubleSeconds(seconds[i]);
+                resultSeconds[i] = duration.getSeconds();
+                resultNanos[i] = duration.getNano();
+            }
+        }
+    }
+
     /**
      * Multiplies a duration by a {@code double}.
      * <p>
@@ -467,6 +705,95 @@ public final class Temporals {
         return durationFromBigDecimalSeconds(amount);
     }
 
+    /**
+     * Multiplies an array of durations, held as seconds and nano-of-second, by a {@code double}.
+     * <p>
+     * This is the equivalent of calling {@link #multiply(Duration, double)} for each element,
+     * without creating a {@code Duration} or {@code BigDecimal} in most cases.
+     * The multiplication uses exact integer arithmetic, rounding away from zero.
+     * The result arrays may be the same as the input arrays.
+     *
+     * @param seconds  the seconds of each duration, not null
+     * @param nanos  the nano-of-second of each duration, from 0 to 999,999,999, not null
+     * @param multiplicand  the multiplication factor
+     * @param resultSeconds  the array to store the seconds of each result in, not null
+     * @param resultNanos  the array to store the nano-of-second of each result in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if a nano-of-second is invalid
+     * @since 1.11.0
+     */
+    public static void multiply(long[] seconds, int[] nanos, double multiplicand, long[] resultSeconds, int[] resultNanos) {
+        Objects.requireNonNull(seconds, "seconds");
+        Objects.requireNonNull(nanos, "nanos");
+        Objects.requireNonNull(resultSeconds, "resultSeconds");
+        Objects.requireNonNull(resultNanos, "resultNanos");
+        checkLengths(seconds.length, nanos.length);
+        checkLengths(seconds.length, resultSeconds.length);
+        checkLengths(seconds.length, resultNanos.length);
+        // the multiplicand as an exact decimal, unscaled value and scale, as used by multiply(Duration, double)
+        long unscaled = DoubleSeconds.NOT_HANDLED;
+        int scale = 0;
+        if (!Double.isNaN(multiplicand) && !Double.isInfinite(multiplicand)) {
+            BigDecimal decimal = BigDecimal.valueOf(multiplicand);
+            if (decimal.scale() < 0) {
+                decimal = decimal.setScale(0);
+            }
+            if (decimal.unscaledValue().bitLength() < 63) {
+                unscaled = decimal.unscaledValue().longValue();
+                scale = decimal.scale();
+            }
+        }
+        for (int i = 0; i < seconds.length; i++) {
+            long secs = seconds[i];
+            int nano = checkNano(nanos[i]);
+            long totalNanos = DoubleSeconds.NOT_HANDLED;
+            if (unscaled != DoubleSeconds.NOT_HANDLED && secs > -DoubleSeconds.MAX_NANOS_SECONDS && secs < DoubleSeconds.MAX_NANOS_SECONDS) {
+                totalNanos = DoubleSeconds.multiply(secs * DoubleSeconds.NANOS_PER_SECOND + nano, unscaled, scale);
+            }
+            if (totalNanos != DoubleSeconds.NOT_HANDLED) {
+                resultSeconds[i] = Math.floorDiv(totalNanos, DoubleSeconds.NANOS_PER_SECOND);
+                resultNanos[i] = (int) Math.floorMod(totalNanos, DoubleSeconds.NANOS_PER_SECOND);
+            } else {
+                Duration duration = multiply(Duration.ofSeconds(secs, nano), multiplicand);
+                resultSeconds[i] = duration.getSeconds();
+                resultNanos[i] = duration.getNano();
+            }
+        }
+    }
+
+    // the double nearest to the exact number of seconds
+    private static double toDoubleSeconds(long seconds, int nanos) {
+        if (seconds > -DoubleSeconds.MAX_EXACT_SECONDS && seconds < DoubleSeconds.MAX_EXACT_SECONDS) {
+            // the total nanos is exact as a double, so a single division rounds correctly
+            return (seconds * DoubleSeconds.NANOS_PER_SECOND + nanos) / DoubleSeconds.NANOS_PER_SECOND_DOUBLE;
+        }
+        if (seconds >= -DoubleSeconds.MAX_EXACT_LONG && seconds <= DoubleSeconds.MAX_EXACT_LONG) {
+            // the rounding error of the fraction is too small to change the rounding of the sum
+            return seconds + nanos / DoubleSeconds.NANOS_PER_SECOND_DOUBLE;
+        }
+        return BigDecimal.valueOf(seconds).add(BigDecimal.valueOf(nanos, 9)).doubleValue();
+    }
+
+    private static int checkNano(int nano) {
+        if (nano < 0 || nano > 999_999_999) {
+            throw new DateTimeException("Invalid nano-of-second: " + nano);
+        }
+        return nano;
+    }
+
+    /**
+     * Checks that the input and output arrays of a bulk operation have the same length.
+     *
+     * @param inputLength  the length of the input array
+     * @param outputLength  the length of the output array
+     * @throws IllegalArgumentException if the lengths differ
+     */
+    static void checkLengths(int inputLength, int outputLength) {
+        if (inputLength != outputLength) {
+            throw new IllegalArgumentException("Array lengths must be equal: " + inputLength + " and " + outputLength);
+        }
+    }
+
     /**
      * Useful Duration constants expressed as BigDecimal seconds with a scale of 9.
      */
@@ -477,4 +804,134 @@ public final class Temporals {
         private BigDecimalSeconds() {
         }
     }
+
+    /**
+     * Exact arithmetic for converting between {@code double} seconds and nanoseconds.
+     */
+    private static final class DoubleSeconds {
+        /**
+         * The marker for a value that is not handled.
+         */
+        static final long NOT_HANDLED = Long.MIN_VALUE;
+        /**
+         * The number of nanoseconds per second.
+         */
+        static final long NANOS_PER_SECOND = 1_000_000_000L;
+        /**
+         * The number of nanoseconds per second as a double.
+         */
+        static final double NANOS_PER_SECOND_DOUBLE = 1_000_000_000d;
+        /**
+         * The limit of seconds below which the total nanoseconds is exact as a double, and
+         * the spacing of doubles is less than a nanosecond, 2^22.
+         */
+        static final long MAX_EXACT_SECONDS = 1L << 22;
+        /**
+         * The limit of longs that are exact as a double, 2^53.
+         */
+        static final long MAX_EXACT_LONG = 1L << 53;
+        /**
+         * The limit of seconds below which the total nanoseconds fits in a long.
+         */
+        static final long MAX_NANOS_SECONDS = Long.MAX_VALUE / NANOS_PER_SECOND;
+        /**
+         * The constant used to split a double into two halves, 2^27 + 1.
+         */
+        private static final double SPLITTER = 134_217_729d;
+        /**
+         * The largest power of ten used in a single division step.
+         */
+        private static final long MAX_POWER_STEP = 1_000_000_000L;
+        /**
+         * The mask for the low 32 bits.
+         */
+        private static final long MASK_32 = 0xFFFF_FFFFL;
+
+        private DoubleSeconds() {
+        }
+
+        // the total nanoseconds, matching durationFromDoubleSeconds(), or NOT_HANDLED
+        // the result is the nanosecond that a decimal representation of the double rounds up to
+        // if the nanosecond below rounds to the double then that decimal has 9 or fewer digits
+        static long toNanos(double seconds) {
+            double abs = Math.abs(seconds);
+            if (!(abs < MAX_EXACT_SECONDS)) {
+                return NOT_HANDLED;
+            }
+            // exact product as the sum of the rounded product and the error, using Dekker's algorithm
+            double product = abs * NANOS_PER_SECOND_DOUBLE;
+            double split = SPLITTER * abs;
+            double high = split - (split - abs);
+            double low = abs - high;
+            double error = (high * NANOS_PER_SECOND_DOUBLE - product) + low * NANOS_PER_SECOND_DOUBLE;
+            long floor = (long) product;
+            if (floor == product && error < 0) {
+                floor--;
+            }
+            long nanos = floor / NANOS_PER_SECOND_DOUBLE == abs ? floor : floor + 1;
+            return seconds < 0 ? -nanos : nanos;
+        }
+
+        // the total nanoseconds multiplied by unscaled * 10^-scale, rounded away from zero, or NOT_HANDLED
+        static long multiply(long totalNanos, long unscaled, int scale) {
+            if (totalNanos == 0 || unscaled == 0) {
+                return 0;
+            }
+            boolean negative = (totalNanos < 0) != (unscaled < 0);
+            long a = Math.abs(totalNanos);
+            long b = Math.abs(unscaled);
+            // unsigned 128 bit product, both inputs being less than 2^63
+            long high = multiplyHigh(a, b);
+            long low = a * b;
+            boolean inexact = false;
+            int remainingScale = scale;
+            while (remainingScale > 0 && (high != 0 || low != 0)) {
+                int step = Math.min(remainingScale, 9);
+                long divisor = POWERS_OF_TEN[step];
+                // divide 128 bits by a divisor less than 2^30 using 32 bit limbs
+                long rem = 0;
+                long limb3 = (rem << 32) | (high >>> 32);
+                long q3 = limb3 / divisor;
+                rem = limb3 % divisor;
+                long limb2 = (rem << 32) | (high & MASK_32);
+                long q2 = limb2 / divisor;
+                rem = limb2 % divisor;
+                long limb1 = (rem << 32) | (low >>> 32);
+                long q1 = limb1 / divisor;
+                rem = limb1 % divisor;
+                long limb0 = (rem << 32) | (low & MASK_32);
+                long q0 = limb0 / divisor;
+                rem = limb0 % divisor;
+                high = (q3 << 32) | q2;
+                low = (q1 << 32) | q0;
+                inexact |= rem != 0;
+                remainingScale -= step;
+            }
+            if (high != 0 || low < 0 || (low == Long.MAX_VALUE && inexact)) {
+                return NOT_HANDLED;
+            }
+            long result = inexact ? low + 1 : low;
+            return negative ? -result : result;
+        }
+
+        // the high 64 bits of the signed 128 bit product
+        private static long multiplyHigh(long x, long y) {
+            long x1 = x >> 32;
+            long x2 = x & MASK_32;
+            long y1 = y >> 32;
+            long y2 = y & MASK_32;
+            long z2 = x2 * y2;
+            long t = x1 * y2 + (z2 >>> 32);
+            long z1 = t & MASK_32;
+            long z0 = t >> 32;
+            z1 += x2 * y1;
+            return x1 * y1 + z0 + (z1 >> 32);
+        }
+
+        /**
+         * The powers of ten up to the maximum step.
+         */
+        private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, MAX_POWER_STEP};
+    }
 }
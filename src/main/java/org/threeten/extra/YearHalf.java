@@ -43,6 +43,7 @@ import static org.threeten.extra.TemporalFields.DAY_OF_HALF;
 import static org.threeten.extra.TemporalFields.HALF_OF_YEAR;
 import static org.threeten.extra.TemporalFields.HALF_YEARS;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.time.Clock;
 import java.time.DateTimeException;
@@ -119,6 +120,19 @@ public final class YearHalf
             .appendLiteral('H')
             .appendValue(HALF_OF_YEAR, 1)
             .toFormatter();
+    /**
+     * The first year held in the cache.
+     */
+    private static final int CACHE_MIN_YEAR = 1900;
+    /**
+     * The last year held in the cache.
+     */
+    private static final int CACHE_MAX_YEAR = 2100;
+    /**
+     * Cache of instances in the common range of years, populated lazily.
+     * Racy publication is safe as the class is immutable with final fields.
+     */
+    private static final YearHalf[] CACHE = new YearHalf[(CACHE_MAX_YEAR - CACHE_MIN_YEAR + 1) * 2];
 
     /**
      * The year.
@@ -212,7 +226,7 @@ public final class YearHalf
     public static YearHalf of(int year, Half half) {
         YEAR.checkValidValue(year);
         Objects.requireNonNull(half, "half");
-        return new YearHalf(year, half);
+        return create(year, half);
     }
 
     /**
@@ -225,7 +239,22 @@ public final class YearHalf
      */
     public static YearHalf of(int year, int half) {
         YEAR.checkValidValue(year);
-        return new YearHalf(year, Half.of(half));
+        return create(year, Half.of(half));
+    }
+
+    /**
+     * Obtains an instance of {@code YearHalf} from the packed form.
+     * <p>
+     * The packed form is {@code year * 10 + half}, such as 20152 for 2015-H2,
+     * as returned by {@link #toPackedLong()}.
+     *
+     * @param packed  the packed year-half
+     * @return the year-half, not null
+     * @throws DateTimeException if either field is invalid
+     * @since 1.11.0
+     */
+    public static YearHalf ofPackedLong(long packed) {
+        return of(YEAR.checkValidIntValue(Math.floorDiv(packed, 10)), (int) Math.floorMod(packed, 10));
     }
 
     //-----------------------------------------------------------------------
@@ -280,7 +309,56 @@ public final class YearHalf
      */
     @FromString
     public static YearHalf parse(CharSequence text) {
-        return parse(text, PARSER);
+        Objects.requireNonNull(text, "text");
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains an instance of {@code YearHalf} from a section of a text string such as {@code 2007-H1}.
+     * <p>
+     * This parses the specified characters of the text, using the same format
+     * as {@link #parse(CharSequence)}, without extracting them as a separate string.
+     * The common case of a four digit year is parsed directly, without using a formatter.
+     *
+     * @param text  the text to parse, not null
+     * @param offset  the offset of the first character to parse
+     * @param length  the number of characters to parse
+     * @return the parsed year-half, not null
+     * @throws IndexOutOfBoundsException if the offset and length are outside the text
+     * @throws DateTimeParseException if the text cannot be parsed
+     * @since 1.11.0
+     */
+    public static YearHalf parse(CharSequence text, int offset, int length) {
+        Objects.requireNonNull(text, "text");
+        if (offset < 0 || length < 0 || offset > text.length() - length) {
+            throw new IndexOutOfBoundsException(
+                    "Invalid offset or length: " + offset + ", " + length + " for text length " + text.length());
+        }
+        YearHalf parsed = parseCommon(text, offset, length);
+        if (parsed != null) {
+            return parsed;
+        }
+        return parse(text.subSequence(offset, offset + length), PARSER);
+    }
+
+    // parses the common form with a four digit year directly, returning null if not handled
+    private static @Nullable YearHalf parseCommon(CharSequence text, int offset, int length) {
+        if (length != 7 || text.charAt(offset + 4) != '-' || (text.charAt(offset + 5) | 0x20) != 'h') {
+            return null;
+        }
+        int year = 0;
+        for (int i = offset; i < offset + 4; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return null;
+            }
+            year = year * 10 + digit;
+        }
+        int half = text.charAt(offset + 6) - '0';
+        if (half < 1 || half > 2) {
+            return null;
+        }
+        return of(year, half);
     }
 
     /**
@@ -310,6 +388,26 @@ public final class YearHalf
         this.half = half;
     }
 
+    /**
+     * Obtains an instance, using the cache if the year is in the cached range.
+     *
+     * @param year  the year to represent, validated from MIN_YEAR to MAX_YEAR
+     * @param half  the half-of-year to represent, validated not null
+     * @return the year-half, not null
+     */
+    private static YearHalf create(int year, Half half) {
+        if (year < CACHE_MIN_YEAR || year > CACHE_MAX_YEAR) {
+            return new YearHalf(year, half);
+        }
+        int index = (year - CACHE_MIN_YEAR) * 2 + half.ordinal();
+        YearHalf cached = CACHE[index];
+        if (cached == null) {
+            cached = new YearHalf(year, half);
+            CACHE[index] = cached;
+        }
+        return cached;
+    }
+
     /**
      * Validates the input.
      *
@@ -332,7 +430,7 @@ public final class YearHalf
         if (year == newYear && half == newHalf) {
             return this;
         }
-        return new YearHalf(newYear, newHalf);
+        return create(newYear, newHalf);
     }
 
     //-----------------------------------------------------------------------
@@ -1186,6 +1284,21 @@ public final class YearHalf
         return LocalDate.of(year, month, month.maxLength());
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Converts this year-half to the packed form.
+     * <p>
+     * The packed form is {@code year * 10 + half}, such as 20152 for 2015-H2.
+     * The numeric order of the packed form is the same as the order of the year-halves,
+     * including for negative years, making it suitable as a compact sortable key.
+     *
+     * @return the packed year-half
+     * @since 1.11.0
+     */
+    public long toPackedLong() {
+        return year * 10L + half.getValue();
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Compares this year-half to another
@@ -1282,4 +1395,33 @@ public final class YearHalf
         return buf.append('-').append(half).toString();
     }
 
+    /**
+     * Outputs this year-half to an {@code Appendable}, such as {@code 2007-H1}.
+     * <p>
+     * The output is the same as {@link #toString()}, but is written directly
+     * to the appendable.
+     *
+     * @param appendable  the appendable to format to, not null
+     * @throws DateTimeException if an error occurs while writing to the appendable
+     * @since 1.11.0
+     */
+    public void formatTo(Appendable appendable) {
+        Objects.requireNonNull(appendable, "appendable");
+        try {
+            if (year >= 0 && year <= 9999) {
+                appendable.append((char) ('0' + year / 1000))
+                        .append((char) ('0' + year / 100 % 10))
+                        .append((char) ('0' + year / 10 % 10))
+                        .append((char) ('0' + year % 10))
+                        .append('-')
+                        .append('H')
+                        .append((char) ('0' + half.getValue()));
+            } else {
+                appendable.append(toString());
+            }
+        } catch (IOException ex) {
+            throw new DateTimeException(ex.getMessage(), ex);
+        }
+    }
+
 }
@@ -43,6 +43,7 @@ import static java.time.temporal.IsoFields.DAY_OF_QUARTER;
 import static java.time.temporal.IsoFields.QUARTER_OF_YEAR;
 import static java.time.temporal.IsoFields.QUARTER_YEARS;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.time.Clock;
 import java.time.DateTimeException;
@@ -120,6 +121,19 @@ public final class YearQuarter
             .appendLiteral('Q')
             .appendValue(QUARTER_OF_YEAR, 1)
             .toFormatter();
+    /**
+     * The first year held in the cache.
+     */
+    private static final int CACHE_MIN_YEAR = 1900;
+    /**
+     * The last year held in the cache.
+     */
+    private static final int CACHE_MAX_YEAR = 2100;
+    /**
+     * Cache of instances in the common range of years, populated lazily.
+     * Racy publication is safe as the class is immutable with final fields.
+     */
+    private static final YearQuarter[] CACHE = new YearQuarter[(CACHE_MAX_YEAR - CACHE_MIN_YEAR + 1) * 4];
 
     /**
      * The year.
@@ -213,7 +227,7 @@ public final class YearQuarter
     public static YearQuarter of(int year, Quarter quarter) {
         YEAR.checkValidValue(year);
         Objects.requireNonNull(quarter, "quarter");
-        return new YearQuarter(year, quarter);
+        return create(year, quarter);
     }
 
     /**
@@ -226,7 +240,22 @@ public final class YearQuarter
      */
     public static YearQuarter of(int year, int quarter) {
         YEAR.checkValidValue(year);
-        return new YearQuarter(year, Quarter.of(quarter));
+        return create(year, Quarter.of(quarter));
+    }
+
+    /**
+     * Obtains an instance of {@code YearQuarter} from the packed form.
+     * <p>
+     * The packed form is {@code year * 10 + quarter}, such as 20152 for 2015-Q2,
+     * as returned by {@link #toPackedLong()}.
+     *
+     * @param packed  the packed year-quarter
+     * @return the year-quarter, not null
+     * @throws DateTimeException if either field is invalid
+     * @since 1.11.0
+     */
+    public static YearQuarter ofPackedLong(long packed) {
+        return of(YEAR.checkValidIntValue(Math.floorDiv(packed, 10)), (int) Math.floorMod(packed, 10));
     }
 
     //-----------------------------------------------------------------------
@@ -281,7 +310,56 @@ public final class YearQuarter
      */
     @FromString
     public static YearQuarter parse(CharSequence text) {
-        return parse(text, PARSER);
+        Objects.requireNonNull(text, "text");
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains an instance of {@code YearQuarter} from a section of a text string such as {@code 2007-Q2}.
+     * <p>
+     * This parses the specified characters of the text, using the same format
+     * as {@link #parse(CharSequence)}, without extracting them as a separate string.
+     * The common case of a four digit year is parsed directly, without using a formatter.
+     *
+     * @param text  the text to parse, not null
+     * @param offset  the offset of the first character to parse
+     * @param length  the number of characters to parse
+     * @return the parsed year-quarter, not null
+     * @throws IndexOutOfBoundsException if the offset and length are outside the text
+     * @throws DateTimeParseException if the text cannot be parsed
+     * @since 1.11.0
+     */
+    public static YearQuarter parse(CharSequence text, int offset, int length) {
+        Objects.requireNonNull(text, "text");
+        if (offset < 0 || length < 0 || offset > text.length() - length) {
+            throw new IndexOutOfBoundsException(
+                    "Invalid offset or length: " + offset + ", " + length + " for text length " + text.length());
+        }
+        YearQuarter parsed = parseCommon(text, offset, length);
+        if (parsed != null) {
+            return parsed;
+        }
+        return parse(text.subSequence(offset, offset + length), PARSER);
+    }
+
+    // parses the common form with a four digit year directly, returning null if not handled
+    private static @Nullable YearQuarter parseCommon(CharSequence text, int offset, int length) {
+        if (length != 7 || text.charAt(offset + 4) != '-' || (text.charAt(offset + 5) | 0x20) != 'q') {
+            return null;
+        }
+        int year = 0;
+        for (int i = offset; i < offset + 4; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return null;
+            }
+            year = year * 10 + digit;
+        }
+        int quarter = text.charAt(offset + 6) - '0';
+        if (quarter < 1 || quarter > 4) {
+            return null;
+        }
+        return of(year, quarter);
     }
 
     /**
@@ -311,6 +389,26 @@ public final class YearQuarter
         this.quarter = quarter;
     }
 
+    /**
+     * Obtains an instance, using the cache if the year is in the cached range.
+     *
+     * @param year  the year to represent, validated from MIN_YEAR to MAX_YEAR
+     * @param quarter  the quarter-of-year to represent, validated not null
+     * @return the year-quarter, not null
+     */
+    private static YearQuarter create(int year, Quarter quarter) {
+        if (year < CACHE_MIN_YEAR || year > CACHE_MAX_YEAR) {
+            return new YearQuarter(year, quarter);
+        }
+        int index = (year - CACHE_MIN_YEAR) * 4 + quarter.ordinal();
+        YearQuarter cached = CACHE[index];
+        if (cached == null) {
+            cached = new YearQuarter(year, quarter);
+            CACHE[index] = cached;
+        }
+        return cached;
+    }
+
     /**
      * Validates the input.
      *
@@ -333,7 +431,7 @@ public final class YearQuarter
         if (year == newYear && quarter == newQuarter) {
             return this;
         }
-        return new YearQuarter(newYear, newQuarter);
+        return create(newYear, newQuarter);
     }
 
     //-----------------------------------------------------------------------
@@ -1187,6 +1285,21 @@ public final class YearQuarter
         return LocalDate.of(year, month, month.maxLength());
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Converts this year-quarter to the packed form.
+     * <p>
+     * The packed form is {@code year * 10 + quarter}, such as 20152 for 2015-Q2.
+     * The numeric order of the packed form is the same as the order of the year-quarters,
+     * including for negative years, making it suitable as a compact sortable key.
+     *
+     * @return the packed year-quarter
+     * @since 1.11.0
+     */
+    public long toPackedLong() {
+        return year * 10L + quarter.getValue();
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Compares this year-quarter to another
@@ -1285,4 +1398,33 @@ public final class YearQuarter
         return buf.append('-').append(quarter).toString();
     }
 
+    /**
+     * Outputs this year-quarter to an {@code Appendable}, such as {@code 2007-Q2}.
+     * <p>
+     * The output is the same as {@link #toString()}, but is written directly
+     * to the appendable.
+     *
+     * @param appendable  the appendable to format to, not null
+     * @throws DateTimeException if an error occurs while writing to the appendable
+     * @since 1.11.0
+     */
+    public void formatTo(Appendable appendable) {
+        Objects.requireNonNull(appendable, "appendable");
+        try {
+            if (year >= 0 && year <= 9999) {
+                appendable.append((char) ('0' + year / 1000))
+                        .append((char) ('0' + year / 100 % 10))
+                        .append((char) ('0' + year / 10 % 10))
+                        .append((char) ('0' + year % 10))
+                        .append('-')
+                        .append('Q')
+                        .append((char) ('0' + quarter.getValue()));
+            } else {
+                appendable.append(toString());
+            }
+        } catch (IOException ex) {
+            throw new DateTimeException(ex.getMessage(), ex);
+        }
+    }
+
 }
@@ -31,14 +31,12 @@
  */
 package org.threeten.extra;
 
-import static java.time.DayOfWeek.MONDAY;
-import static java.time.DayOfWeek.THURSDAY;
-import static java.time.DayOfWeek.WEDNESDAY;
 import static java.time.temporal.ChronoUnit.WEEKS;
 import static java.time.temporal.IsoFields.WEEK_BASED_YEAR;
 import static java.time.temporal.IsoFields.WEEK_BASED_YEARS;
 import static java.time.temporal.IsoFields.WEEK_OF_WEEK_BASED_YEAR;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.time.Clock;
 import java.time.DateTimeException;
@@ -116,6 +114,39 @@ public final class YearWeek
             .appendLiteral("-W")
             .appendValue(WEEK_OF_WEEK_BASED_YEAR, 2)
             .toFormatter();
+    /**
+     * The first week-based-year held in the caches.
+     */
+    private static final int CACHE_MIN_YEAR = 1900;
+    /**
+     * The last week-based-year held in the caches.
+     */
+    private static final int CACHE_MAX_YEAR = 2100;
+    /**
+     * Bitset of the cached week-based-years that have 53 weeks.
+     */
+    private static final long[] WEEK_53_YEARS = new long[(CACHE_MAX_YEAR - CACHE_MIN_YEAR + 64) / 64];
+    static {
+        for (int year = CACHE_MIN_YEAR; year <= CACHE_MAX_YEAR; year++) {
+            if (calculateWeekRange(year) == 53) {
+                int index = year - CACHE_MIN_YEAR;
+                WEEK_53_YEARS[index >>> 6] |= 1L << index;
+            }
+        }
+    }
+    /**
+     * Cache of instances in the common range of week-based-years, populated lazily.
+     * Racy publication is safe as the class is immutable with final fields.
+     */
+    private static final YearWeek[] CACHE = new YearWeek[(CACHE_MAX_YEAR - CACHE_MIN_YEAR + 1) * 53];
+    /**
+     * The minimum epoch-week, the first week of the minimum week-based-year.
+     */
+    private static final long MIN_EPOCH_WEEK = epochWeekOfWeekOne(Year.MIN_VALUE);
+    /**
+     * The maximum epoch-week, the last week of the maximum week-based-year.
+     */
+    private static final long MAX_EPOCH_WEEK = epochWeekOfWeekOne(Year.MAX_VALUE + 1L) - 1;
 
     /**
      * The week-based-year.
@@ -216,17 +247,82 @@ public final class YearWeek
             weekBasedYear++;
             WEEK_BASED_YEAR.range().checkValidValue(weekBasedYear, WEEK_BASED_YEAR);
         }
-        return new YearWeek(weekBasedYear, week);
+        return create(weekBasedYear, week);
     }
 
-    // from IsoFields in ThreeTen-Backport
+    // the 53-week years in the cached range are looked up in the bitset
     private static int weekRange(int weekBasedYear) {
-        LocalDate date = LocalDate.of(weekBasedYear, 1, 1);
-        // 53 weeks if year starts on Thursday, or Wed in a leap year
-        if (date.getDayOfWeek() == THURSDAY || (date.getDayOfWeek() == WEDNESDAY && date.isLeapYear())) {
-            return 53;
+        if (weekBasedYear < CACHE_MIN_YEAR || weekBasedYear > CACHE_MAX_YEAR) {
+            return calculateWeekRange(weekBasedYear);
+        }
+        int index = weekBasedYear - CACHE_MIN_YEAR;
+        return (WEEK_53_YEARS[index >>> 6] & (1L << index)) != 0 ? 53 : 52;
+    }
+
+    // the number of weeks from the start of this week-based-year to the start of the next
+    private static int calculateWeekRange(int weekBasedYear) {
+        return (int) (epochWeekOfWeekOne(weekBasedYear + 1L) - epochWeekOfWeekOne(weekBasedYear));
+    }
+
+    // the epoch-week of week one of the week-based-year, which is the week containing 4th January
+    private static long epochWeekOfWeekOne(long weekBasedYear) {
+        long y = weekBasedYear;
+        long jan4 = 365 * y + Math.floorDiv(y + 3, 4) - Math.floorDiv(y + 99, 100) + Math.floorDiv(y + 399, 400) -
+                EpochDayFields.DAYS_0000_TO_1970 + 3;
+        // epoch-day zero is a Thursday, thus adding three aligns the weeks to start on Monday
+        return Math.floorDiv(jan4 + 3, 7);
+    }
+
+    /**
+     * Obtains an instance of {@code YearWeek} from the packed form.
+     * <p>
+     * The packed form is {@code weekBasedYear * 100 + week}, such as 201513 for 2015-W13,
+     * as returned by {@link #toPackedLong()}.
+     * If the week is 53 and the year does not have 53 weeks, week one of the following
+     * year is selected, as per {@link #of(int, int)}.
+     *
+     * @param packed  the packed year-week
+     * @return the year-week, not null
+     * @throws DateTimeException if either field is invalid
+     * @since 1.11.0
+     */
+    public static YearWeek ofPackedLong(long packed) {
+        long weekBasedYear = Math.floorDiv(packed, 100);
+        WEEK_BASED_YEAR.range().checkValidValue(weekBasedYear, WEEK_BASED_YEAR);
+        return of((int) weekBasedYear, (int) Math.floorMod(packed, 100));
+    }
+
+    /**
+     * Obtains an instance of {@code YearWeek} from an epoch-week.
+     * <p>
+     * The epoch-week is a simple incrementing count of weeks where week zero is 1970-W01,
+     * the week containing 1970-01-01. Negative values represent earlier weeks.
+     * This is the inverse of {@link #toEpochWeek()}, and is calculated arithmetically.
+     *
+     * @param epochWeek  the epoch-week to convert
+     * @return the year-week, not null
+     * @throws DateTimeException if the epoch-week is outside the supported range
+     * @since 1.11.0
+     */
+    public static YearWeek ofEpochWeek(long epochWeek) {
+        if (epochWeek < MIN_EPOCH_WEEK || epochWeek > MAX_EPOCH_WEEK) {
+            throw new DateTimeException("Invalid epoch-week: " + epochWeek);
+        }
+        // estimate the year from the Thursday of the week, which is always in the week-based-year
+        long thursday = epochWeek * 7;
+        long year = Math.floorDiv((thursday + EpochDayFields.DAYS_0000_TO_1970) * 400, 146097);
+        long start = epochWeekOfWeekOne(year);
+        if (epochWeek < start) {
+            year--;
+            start = epochWeekOfWeekOne(year);
+        } else {
+            long next = epochWeekOfWeekOne(year + 1);
+            if (epochWeek >= next) {
+                year++;
+                start = next;
+            }
         }
-        return 52;
+        return create((int) year, (int) (epochWeek - start) + 1);
     }
 
     //-----------------------------------------------------------------------
@@ -283,7 +379,61 @@ public final class YearWeek
      */
     @FromString
     public static YearWeek parse(CharSequence text) {
-        return parse(text, PARSER);
+        Objects.requireNonNull(text, "text");
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains an instance of {@code YearWeek} from a section of a text string such as {@code 2007-W13}.
+     * <p>
+     * This parses the specified characters of the text, using the same format
+     * as {@link #parse(CharSequence)}, without extracting them as a separate string.
+     * The common case of a four digit year is parsed directly, without using a formatter.
+     *
+     * @param text  the text to parse, not null
+     * @param offset  the offset of the first character to parse
+     * @param length  the number of characters to parse
+     * @return the parsed year-week, not null
+     * @throws IndexOutOfBoundsException if the offset and length are outside the text
+     * @throws DateTimeParseException if the text cannot be parsed
+     * @since 1.11.0
+     */
+    public static YearWeek parse(CharSequence text, int offset, int length) {
+        Objects.requireNonNull(text, "text");
+        if (offset < 0 || length < 0 || offset > text.length() - length) {
+            throw new IndexOutOfBoundsException(
+                    "Invalid offset or length: " + offset + ", " + length + " for text length " + text.length());
+        }
+        YearWeek parsed = parseCommon(text, offset, length);
+        if (parsed != null) {
+            return parsed;
+        }
+        return parse(text.subSequence(offset, offset + length), PARSER);
+    }
+
+    // parses the common form with a four digit year directly, returning null if not handled
+    private static @Nullable YearWeek parseCommon(CharSequence text, int offset, int length) {
+        if (length != 8 || text.charAt(offset + 4) != '-' || (text.charAt(offset + 5) | 0x20) != 'w') {
+            return null;
+        }
+        int year = 0;
+        for (int i = offset; i < offset + 4; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return null;
+            }
+            year = year * 10 + digit;
+        }
+        int tens = text.charAt(offset + 6) - '0';
+        int units = text.charAt(offset + 7) - '0';
+        if (tens < 0 || tens > 9 || units < 0 || units > 9) {
+            return null;
+        }
+        int week = tens * 10 + units;
+        if (week < 1 || week > 53) {
+            return null;
+        }
+        return of(year, week);
     }
 
     /**
@@ -313,6 +463,26 @@ public final class YearWeek
         this.week = week;
     }
 
+    /**
+     * Obtains an instance, using the cache if the year is in the cached range.
+     *
+     * @param weekBasedYear  the week-based-year to represent, validated from MIN_YEAR to MAX_YEAR
+     * @param week  the week to represent, validated
+     * @return the year-week, not null
+     */
+    private static YearWeek create(int weekBasedYear, int week) {
+        if (weekBasedYear < CACHE_MIN_YEAR || weekBasedYear > CACHE_MAX_YEAR) {
+            return new YearWeek(weekBasedYear, week);
+        }
+        int index = (weekBasedYear - CACHE_MIN_YEAR) * 53 + week - 1;
+        YearWeek cached = CACHE[index];
+        if (cached == null) {
+            cached = new YearWeek(weekBasedYear, week);
+            CACHE[index] = cached;
+        }
+        return cached;
+    }
+
     /**
      * Validates the input.
      *
@@ -750,8 +920,11 @@ public final class YearWeek
         if (weeksToAdd == 0) {
             return this;
         }
-        LocalDate mondayOfWeek = atDay(MONDAY).plusWeeks(weeksToAdd);
-        return YearWeek.from(mondayOfWeek);
+        // amounts that overflow as a number of days throw ArithmeticException, as with LocalDate
+        if (weeksToAdd > Long.MAX_VALUE / 7 || weeksToAdd < Long.MIN_VALUE / 7) {
+            throw new ArithmeticException("long overflow");
+        }
+        return ofEpochWeek(Math.addExact(toEpochWeek(), weeksToAdd));
     }
 
     //-----------------------------------------------------------------------
@@ -835,8 +1008,10 @@ public final class YearWeek
         if (weeksToSubtract == 0) {
             return this;
         }
-        LocalDate mondayOfWeek = atDay(MONDAY).minusWeeks(weeksToSubtract);
-        return YearWeek.from(mondayOfWeek);
+        if (weeksToSubtract == Long.MIN_VALUE) {
+            return plusWeeks(Long.MAX_VALUE).plusWeeks(1);
+        }
+        return plusWeeks(-weeksToSubtract);
     }
 
     //-----------------------------------------------------------------------
@@ -949,7 +1124,7 @@ public final class YearWeek
     public long until(Temporal endExclusive, TemporalUnit unit) {
         YearWeek end = YearWeek.from(endExclusive);
         if (unit == WEEKS) {
-            return daysUntil(end);
+            return end.toEpochWeek() - toEpochWeek();
         } else if (unit == WEEK_BASED_YEARS) {
             return yearsUntil(end);
         } else if (unit instanceof ChronoUnit) {
@@ -958,13 +1133,6 @@ public final class YearWeek
         return unit.between(this, end);
     }
 
-    private long daysUntil(YearWeek end) {
-        LocalDate startDate = this.atDay(MONDAY);
-        LocalDate endDate = end.atDay(MONDAY);
-        long days = endDate.toEpochDay() - startDate.toEpochDay();
-        return days / 7;
-    }
-
     private long yearsUntil(YearWeek end) {
         long yearsDiff = end.year - this.year;
         if (yearsDiff > 0 && end.week < this.week) {
@@ -1020,6 +1188,36 @@ public final class YearWeek
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Converts this year-week to an epoch-week.
+     * <p>
+     * The epoch-week is a simple incrementing count of weeks where week zero is 1970-W01,
+     * the week containing 1970-01-01. Negative values represent earlier weeks.
+     * The difference between two epoch-weeks is the number of weeks between them,
+     * thus the epoch-week is suitable for arithmetic and as a compact sortable key.
+     *
+     * @return the epoch-week
+     * @since 1.11.0
+     */
+    public long toEpochWeek() {
+        return epochWeekOfWeekOne(year) + week - 1;
+    }
+
+    /**
+     * Converts this year-week to the packed form.
+     * <p>
+     * The packed form is {@code weekBasedYear * 100 + week}, such as 201513 for 2015-W13.
+     * The numeric order of the packed form is the same as the order of the year-weeks,
+     * including for negative years, making it suitable as a compact sortable key.
+     *
+     * @return the packed year-week
+     * @since 1.11.0
+     */
+    public long toPackedLong() {
+        return year * 100L + week;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Compares this year-week to another
@@ -1116,4 +1314,34 @@ public final class YearWeek
         return buf.append(week < 10 ? "-W0" : "-W").append(week).toString();
     }
 
+    /**
+     * Outputs this year-week to an {@code Appendable}, such as {@code 2007-W13}.
+     * <p>
+     * The output is the same as {@link #toString()}, but is written directly
+     * to the appendable.
+     *
+     * @param appendable  the appendable to format to, not null
+     * @throws DateTimeException if an error occurs while writing to the appendable
+     * @since 1.11.0
+     */
+    public void formatTo(Appendable appendable) {
+        Objects.requireNonNull(appendable, "appendable");
+        try {
+            if (year >= 0 && year <= 9999) {
+                appendable.append((char) ('0' + year / 1000))
+                        .append((char) ('0' + year / 100 % 10))
+                        .append((char) ('0' + year / 10 % 10))
+                        .append((char) ('0' + year % 10))
+                        .append('-')
+                        .append('W')
+                        .append((char) ('0' + week / 10))
+                        .append((char) ('0' + week % 10));
+            } else {
+                appendable.append(toString());
+            }
+        } catch (IOException ex) {
+            throw new DateTimeException(ex.getMessage(), ex);
+        }
+    }
+
 }
@@ -0,0 +1,450 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static java.time.DayOfWeek.MONDAY;
+
+import java.io.Serializable;
+import java.time.DateTimeException;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.joda.convert.FromString;
+import org.joda.convert.ToString;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A range of weeks.
+ * <p>
+ * A {@code YearWeekRange} represents a range of weeks, from a start week to an end week.
+ * Instances can be constructed from either a half-open or a closed range of weeks.
+ * Internally, the class stores the start and end weeks, with the start inclusive and the end exclusive.
+ * The end is always greater than or equal to the start.
+ * Empty ranges are allowed.
+ * <p>
+ * The {@linkplain #stream() stream} of weeks is sized and can be split efficiently
+ * for parallel processing, as each week is calculated directly from its position.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ * <p>
+ * This class must be treated as a value type. Do not synchronize, rely on the
+ * identity hash code or use the distinction between equals() and ==.
+ *
+ * @since 1.11.0
+ */
+public final class YearWeekRange
+        implements Serializable {
+
+    /**
+     * Serialization version.
+     */
+    private static final long serialVersionUID = 52673817493L;
+
+    /**
+     * The start week (inclusive).
+     */
+    private final YearWeek start;
+    /**
+     * The end week (exclusive).
+     */
+    private final YearWeek end;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a half-open range of weeks, including the start and excluding the end.
+     * <p>
+     * The end must be equal to or after the start.
+     * This definition permits an empty range located at a specific week.
+     *
+     * @param startInclusive  the inclusive start week, not null
+     * @param endExclusive  the exclusive end week, not null
+     * @return the half-open range, not null
+     * @throws DateTimeException if the end is before the start
+     */
+    public static YearWeekRange of(YearWeek startInclusive, YearWeek endExclusive) {
+        Objects.requireNonNull(startInclusive, "startInclusive");
+        Objects.requireNonNull(endExclusive, "endExclusive");
+        return new YearWeekRange(startInclusive, endExclusive);
+    }
+
+    /**
+     * Obtains a closed range of weeks, including the start and end.
+     * <p>
+     * The end must be equal to or after the start.
+     *
+     * @param startInclusive  the inclusive start week, not null
+     * @param endInclusive  the inclusive end week, not null
+     * @return the closed range, not null
+     * @throws DateTimeException if the end is before the start,
+     *   or the end is the last week that can be represented
+     */
+    public static YearWeekRange ofClosed(YearWeek startInclusive, YearWeek endInclusive) {
+        Objects.requireNonNull(startInclusive, "startInclusive");
+        Objects.requireNonNull(endInclusive, "endInclusive");
+        if (endInclusive.isBefore(startInclusive)) {
+            throw new DateTimeException("Start week must be on or before end week");
+        }
+        return new YearWeekRange(startInclusive, endInclusive.plusWeeks(1));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code YearWeekRange} from a text string such as
+     * {@code 2024-W05/2024-W09}, where the end week is exclusive.
+     * <p>
+     * The string must consist of a representation of a {@link YearWeek}, followed by a forward slash,
+     * followed by a representation of a {@link YearWeek}, as per {@link YearWeek#parse(CharSequence)}.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed range, not null
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    @FromString
+    public static YearWeekRange parse(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '/') {
+                YearWeek start = YearWeek.parse(text, 0, i);
+                YearWeek end = YearWeek.parse(text, i + 1, text.length() - i - 1);
+                try {
+                    return YearWeekRange.of(start, end);
+                } catch (DateTimeException ex) {
+                    throw new DateTimeParseException(ex.getMessage(), text, 0, ex);
+                }
+            }
+        }
+        throw new DateTimeParseException("YearWeekRange cannot be parsed, no forward slash found", text, 0);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor.
+     *
+     * @param startInclusive  the start week, inclusive, validated not null
+     * @param endExclusive  the end week, exclusive, validated not null
+     */
+    private YearWeekRange(YearWeek startInclusive, YearWeek endExclusive) {
+        if (endExclusive.isBefore(startInclusive)) {
+            throw new DateTimeException("End week must be on or after start week");
+        }
+        this.start = startInclusive;
+        this.end = endExclusive;
+    }
+
+    /**
+     * Validates the input.
+     *
+     * @return the valid object, not null
+     */
+    private Object readResolve() {
+        return of(start, end);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the start week of this range, inclusive.
+     *
+     * @return the start week
+     */
+    public YearWeek getStart() {
+        return start;
+    }
+
+    /**
+     * Gets the end week of this range, exclusive.
+     *
+     * @return the end week, exclusive
+     */
+    public YearWeek getEnd() {
+        return end;
+    }
+
+    /**
+     * Gets the end week of this range, inclusive.
+     * <p>
+     * This returns the week before the end week.
+     *
+     * @return the end week, inclusive
+     * @throws DateTimeException if the range is empty and starts at the first week that can be represented
+     */
+    public YearWeek getEndInclusive() {
+        return end.minusWeeks(1);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if the range is empty.
+     * <p>
+     * An empty range occurs when the start week equals the end week.
+     *
+     * @return true if the range is empty
+     */
+    public boolean isEmpty() {
+        return start.equals(end);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this range contains the specified week.
+     * <p>
+     * This checks if the specified week is within the bounds of this range.
+     * If this range is empty then this method always returns false.
+     *
+     * @param yearWeek  the week to check for, not null
+     * @return true if this range contains the week
+     */
+    public boolean contains(YearWeek yearWeek) {
+        Objects.requireNonNull(yearWeek, "yearWeek");
+        return start.compareTo(yearWeek) <= 0 && yearWeek.compareTo(end) < 0;
+    }
+
+    /**
+     * Checks if this range encloses the specified range.
+     * <p>
+     * This checks if the bounds of the specified range are within the bounds of this range.
+     * An empty range encloses itself.
+     *
+     * @param other  the other range to check for, not null
+     * @return true if this range contains all weeks in the other range
+     */
+    public boolean encloses(YearWeekRange other) {
+        Objects.requireNonNull(other, "other");
+        return start.compareTo(other.start) <= 0 && other.end.compareTo(end) <= 0;
+    }
+
+    /**
+     * Checks if this range abuts the specified range.
+     * <p>
+     * The result is true if the end of this range is the start of the other, or vice versa.
+     * An empty range does not abut itself.
+     *
+     * @param other  the other range, not null
+     * @return true if this range abuts the other range
+     */
+    public boolean abuts(YearWeekRange other) {
+        Objects.requireNonNull(other, "other");
+        return end.equals(other.start) ^ start.equals(other.end);
+    }
+
+    /**
+     * Checks if this range is connected to the specified range.
+     * <p>
+     * The result is true if the two ranges have an enclosed range in common, even if that range is empty.
+     * An empty range is connected to itself.
+     * <p>
+     * This is equivalent to {@code (overlaps(other) || abuts(other))}.
+     *
+     * @param other  the other range, not null
+     * @return true if this range is connected to the other range
+     */
+    public boolean isConnected(YearWeekRange other) {
+        Objects.requireNonNull(other, "other");
+        return this.equals(other) || (start.compareTo(other.end) <= 0 && other.start.compareTo(end) <= 0);
+    }
+
+    /**
+     * Checks if this range overlaps the specified range.
+     * <p>
+     * The result is true if the two ranges share at least one week.
+     * An empty range overlaps itself.
+     * <p>
+     * This is equivalent to {@code (isConnected(other) && !abuts(other))}.
+     *
+     * @param other  the other range, not null
+     * @return true if the ranges overlap
+     */
+    public boolean overlaps(YearWeekRange other) {
+        Objects.requireNonNull(other, "other");
+        return other.equals(this) || (start.compareTo(other.end) < 0 && other.start.compareTo(end) < 0);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Calculates the range that is the intersection of this range and the specified range.
+     * <p>
+     * This finds the intersection of two ranges.
+     * This throws an exception if the two ranges are not {@linkplain #isConnected(YearWeekRange) connected}.
+     *
+     * @param other  the other range to check for, not null
+     * @return the range that is the intersection of the two ranges
+     * @throws DateTimeException if the ranges do not connect
+     */
+    public YearWeekRange intersection(YearWeekRange other) {
+        Objects.requireNonNull(other, "other");
+        if (!isConnected(other)) {
+            throw new DateTimeException("Ranges do not connect: " + this + " and " + other);
+        }
+        int cmpStart = start.compareTo(other.start);
+        int cmpEnd = end.compareTo(other.end);
+        if (cmpStart >= 0 && cmpEnd <= 0) {
+            return this;
+        } else if (cmpStart <= 0 && cmpEnd >= 0) {
+            return other;
+        } else {
+            YearWeek newStart = (cmpStart >= 0 ? start : other.start);
+            YearWeek newEnd = (cmpEnd <= 0 ? end : other.end);
+            return new YearWeekRange(newStart, newEnd);
+        }
+    }
+
+    /**
+     * Calculates the range that is the union of this range and the specified range.
+     * <p>
+     * This finds the union of two ranges.
+     * This throws an exception if the two ranges are not {@linkplain #isConnected(YearWeekRange) connected}.
+     *
+     * @param other  the other range to check for, not null
+     * @return the range that is the union of the two ranges
+     * @throws DateTimeException if the ranges do not connect
+     */
+    public YearWeekRange union(YearWeekRange other) {
+        Objects.requireNonNull(other, "other");
+        if (!isConnected(other)) {
+            throw new DateTimeException("Ranges do not connect: " + this + " and " + other);
+        }
+        return span(other);
+    }
+
+    /**
+     * Calculates the smallest range that encloses this range and the specified range.
+     * <p>
+     * The result of this method will {@linkplain #encloses(YearWeekRange) enclose}
+     * this range and the specified range.
+     *
+     * @param other  the other range to check for, not null
+     * @return the range that spans the two ranges
+     */
+    public YearWeekRange span(YearWeekRange other) {
+        Objects.requireNonNull(other, "other");
+        int cmpStart = start.compareTo(other.start);
+        int cmpEnd = end.compareTo(other.end);
+        if (cmpStart <= 0 && cmpEnd >= 0) {
+            return this;
+        } else if (cmpStart >= 0 && cmpEnd <= 0) {
+            return other;
+        }
+        YearWeek newStart = (cmpStart >= 0 ? other.start : start);
+        YearWeek newEnd = (cmpEnd <= 0 ? other.end : end);
+        return new YearWeekRange(newStart, newEnd);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Streams the set of weeks included in the range.
+     * <p>
+     * This returns a stream consisting of each week in the range.
+     * The stream is ordered and sized.
+     * Each week is calculated directly from its position in the range,
+     * thus the stream splits efficiently when used in parallel.
+     *
+     * @return the stream of weeks from the start to the end
+     */
+    public Stream<YearWeek> stream() {
+        return LongStream.range(start.toEpochWeek(), end.toEpochWeek()).mapToObj(YearWeek::ofEpochWeek);
+    }
+
+    /**
+     * Obtains the length of this range in weeks.
+     * <p>
+     * This returns the number of weeks between the start and end.
+     *
+     * @return the length in weeks, zero or greater
+     */
+    public long lengthInWeeks() {
+        return end.toEpochWeek() - start.toEpochWeek();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts this range to a range of dates.
+     * <p>
+     * The result starts on the first day of the start week and
+     * ends, exclusive, on the first day of the end week.
+     *
+     * @return the range of dates, not null
+     * @throws DateTimeException if the range cannot be represented as a range of dates
+     */
+    public LocalDateRange toLocalDateRange() {
+        return LocalDateRange.of(start.atDay(MONDAY), end.atDay(MONDAY));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this range is equal to another range.
+     * <p>
+     * Compares this {@code YearWeekRange} with another ensuring that the start and end are the same.
+     * Only objects of type {@code YearWeekRange} are compared, other types return false.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other range
+     */
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof YearWeekRange) {
+            YearWeekRange other = (YearWeekRange) obj;
+            return start.equals(other.start) && end.equals(other.end);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this range.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return start.hashCode() ^ Integer.rotateLeft(end.hashCode(), 16);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs this range as a {@code String}, such as {@code 2024-W05/2024-W09}.
+     * <p>
+     * The output will be formed by combining the {@code toString()} methods
+     * of the two weeks, separated by a forward slash.
+     *
+     * @return a string representation of this range, not null
+     */
+    @Override
+    @ToString
+    public String toString() {
+        return start.toString() + '/' + end.toString();
+    }
+
+}
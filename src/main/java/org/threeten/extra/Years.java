@@ -45,8 +45,6 @@ import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.joda.convert.FromString;
 import org.joda.convert.ToString;
@@ -83,10 +81,26 @@ public final class Years
      */
     private static final long serialVersionUID = -8903767091325669093L;
     /**
-     * The pattern for parsing.
+     * The parser.
      */
-    private static final Pattern PATTERN =
-            Pattern.compile("([-+]?)P([-+]?[0-9]+)Y", Pattern.CASE_INSENSITIVE);
+    private static final AmountParser PARSER =
+            AmountParser.ofDate("a Years", "Y", new int[] {1}, null);
+
+    /**
+     * The largest cached value.
+     */
+    private static final int MAX_CACHED = 100;
+    /**
+     * Cache of instances from zero to {@code MAX_CACHED}, covering a century.
+     */
+    private static final Years[] VALUES = new Years[MAX_CACHED + 1];
+    static {
+        VALUES[0] = ZERO;
+        VALUES[1] = ONE;
+        for (int i = 2; i <= MAX_CACHED; i++) {
+            VALUES[i] = new Years(i);
+        }
+    }
 
     /**
      * The number of years.
@@ -102,10 +116,8 @@ public final class Years
      * @return the number of years, not null
      */
     public static Years of(int years) {
-        if (years == 0) {
-            return ZERO;
-        } else if (years == 1) {
-            return ONE;
+        if (years >= 0 && years <= MAX_CACHED) {
+            return VALUES[years];
         }
         return new Years(years);
     }
@@ -180,18 +192,26 @@ public final class Years
     @FromString
     public static Years parse(CharSequence text) {
         Objects.requireNonNull(text, "text");
-        Matcher matcher = PATTERN.matcher(text);
-        if (matcher.matches()) {
-            int negate = "-".equals(matcher.group(1)) ? -1 : 1;
-            String str = matcher.group(2);
-            try {
-                int val = Integer.parseInt(str);
-                return of(Math.multiplyExact(val, negate));
-            } catch (NumberFormatException ex) {
-                throw new DateTimeParseException("Text cannot be parsed to a Years", text, 0, ex);
-            }
-        }
-        throw new DateTimeParseException("Text cannot be parsed to a Years", text, 0);
+        return of(PARSER.parse(text, 0, text.length()));
+    }
+
+    /**
+     * Obtains a {@code Years} from a section of a text string such as {@code PnY}.
+     * <p>
+     * This parses the specified characters of the text, using the same format
+     * as {@link #parse(CharSequence)}, without extracting them as a separate string.
+     *
+     * @param text  the text to parse, not null
+     * @param offset  the offset of the first character to parse
+     * @param length  the number of characters to parse
+     * @return the parsed period, not null
+     * @throws IndexOutOfBoundsException if the offset and length are outside the text
+     * @throws DateTimeParseException if the text cannot be parsed to a period
+     * @since 1.11.0
+     */
+    public static Years parse(CharSequence text, int offset, int length) {
+        Objects.requireNonNull(text, "text");
+        return of(PARSER.parse(text, offset, length));
     }
 
     //-----------------------------------------------------------------------
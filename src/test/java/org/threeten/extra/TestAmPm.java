@@ -70,7 +70,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.Serializable;
 import java.time.DateTimeException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneOffset;
 import java.time.format.TextStyle;
 import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalQueries;
@@ -137,6 +139,49 @@ public class TestAmPm {
         assertThrows(DateTimeException.class, () -> AmPm.ofHour(24));
     }
 
+    //-----------------------------------------------------------------------
+    // ofEpochSecond(long, ZoneOffset)
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_ofEpochSecond() {
+        ZoneOffset[] offsets = {ZoneOffset.UTC, ZoneOffset.ofHours(1), ZoneOffset.ofHoursMinutes(-5, -30), ZoneOffset.MAX, ZoneOffset.MIN};
+        for (ZoneOffset offset : offsets) {
+            for (long epochSecond = -200_000; epochSecond <= 200_000; epochSecond += 7) {
+                LocalDateTime dateTime = LocalDateTime.ofEpochSecond(epochSecond, 0, offset);
+                assertSame(AmPm.from(dateTime), AmPm.ofEpochSecond(epochSecond, offset));
+            }
+        }
+        assertSame(AmPm.AM, AmPm.ofEpochSecond(43_199, ZoneOffset.UTC));
+        assertSame(AmPm.PM, AmPm.ofEpochSecond(43_200, ZoneOffset.UTC));
+        assertSame(AmPm.PM, AmPm.ofEpochSecond(-1, ZoneOffset.UTC));
+    }
+
+    @Test
+    public void test_ofEpochSecond_extremes() {
+        assertSame(AmPm.AM, AmPm.ofEpochSecond(Long.MAX_VALUE, ZoneOffset.MAX));
+        assertSame(AmPm.PM, AmPm.ofEpochSecond(Long.MIN_VALUE, ZoneOffset.MIN));
+    }
+
+    //-----------------------------------------------------------------------
+    // ofEpochSecond(long[], ZoneOffset, int[])
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_ofEpochSecond_array() {
+        long[] epochSeconds = {-1, 0, 43_199, 43_200, 1_449_100_800L, 1_449_144_000L};
+        int[] values = new int[epochSeconds.length];
+        AmPm.ofEpochSecond(epochSeconds, ZoneOffset.ofHours(2), values);
+        for (int i = 0; i < epochSeconds.length; i++) {
+            assertEquals(AmPm.ofEpochSecond(epochSeconds[i], ZoneOffset.ofHours(2)).getValue(), values[i]);
+        }
+        assertEquals(0, values[1]);
+        assertEquals(1, values[3]);
+    }
+
+    @Test
+    public void test_ofEpochSecond_array_lengthMismatch() {
+        assertThrows(IllegalArgumentException.class, () -> AmPm.ofEpochSecond(new long[2], ZoneOffset.UTC, new int[1]));
+    }
+
     //-----------------------------------------------------------------------
     // from(TemporalAccessor)
     //-----------------------------------------------------------------------
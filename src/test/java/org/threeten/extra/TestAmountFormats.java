@@ -32,12 +32,16 @@
 package org.threeten.extra;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.IOException;
+import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.Period;
 import java.time.format.DateTimeParseException;
 import java.util.Locale;
+import java.util.Random;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
@@ -62,6 +66,39 @@ public class TestAmountFormats {
         assertEquals("P12M6D", AmountFormats.iso8601(Period.of(0, 12, 6), Duration.ZERO));
     }
 
+    @Test
+    public void test_iso8601To() {
+        StringBuilder buf = new StringBuilder("x");
+        AmountFormats.iso8601To(Period.of(0, 12, 6), Duration.ofMinutes(8 * 60 + 30), buf);
+        assertEquals("xP12M6DT8H30M", buf.toString());
+        StringBuffer appendable = new StringBuffer("x");
+        AmountFormats.iso8601To(Period.ZERO, Duration.ofMillis(-1500), appendable);
+        assertEquals("xPT-1.5S", appendable.toString());
+    }
+
+    @Test
+    public void test_iso8601To_crossCheck() {
+        Random random = new Random(32);
+        Duration[] specials = {
+            Duration.ZERO, Duration.ofNanos(1), Duration.ofNanos(-1), Duration.ofMillis(-500),
+            Duration.ofSeconds(-60, 1), Duration.ofHours(-1), Duration.ofSeconds(3600, 120_000_000)};
+        for (int i = 0; i < 2000; i++) {
+            Period period = i % 4 == 0 ? Period.ZERO : Period.of(random.nextInt(21) - 10, random.nextInt(25) - 12, random.nextInt(61) - 30);
+            Duration duration = i < specials.length ? specials[i] :
+                    i % 5 == 0 ? Duration.ZERO : Duration.ofSeconds(random.nextInt(400_000) - 200_000, random.nextInt(4) == 0 ? 0 : random.nextInt(1_000_000_000));
+            StringBuilder buf = new StringBuilder();
+            AmountFormats.iso8601To(period, duration, buf);
+            assertEquals(AmountFormats.iso8601(period, duration), buf.toString());
+        }
+    }
+
+    @Test
+    public void test_iso8601To_ioException() {
+        DateTimeException ex = assertThrows(DateTimeException.class,
+                () -> AmountFormats.iso8601To(Period.ofDays(1), Duration.ZERO, new FailingAppendable()));
+        assertEquals(IOException.class, ex.getCause().getClass());
+    }
+
     //-----------------------------------------------------------------------
     public static Object[][] data_wordBased() {
         return new Object[][] {
@@ -166,6 +203,191 @@ public class TestAmountFormats {
         assertEquals(expected, AmountFormats.wordBased(PeriodDuration.of(period, duration), locale));
     }
 
+    //-----------------------------------------------------------------------
+    @ParameterizedTest
+    @MethodSource("data_wordBased")
+    public void test_wordBasedFormatter(Period period, Locale locale, String expected) {
+        assertEquals(expected, AmountFormats.wordBasedFormatter(locale).format(period));
+    }
+
+    @ParameterizedTest
+    @MethodSource("duration_wordBased")
+    public void test_wordBasedFormatter(Duration duration, Locale locale, String expected) {
+        assertEquals(expected, AmountFormats.wordBasedFormatter(locale).format(duration));
+    }
+
+    @ParameterizedTest
+    @MethodSource("period_duration_wordBased")
+    public void test_wordBasedFormatter(Period period, Duration duration, Locale locale, String expected) {
+        assertEquals(expected, AmountFormats.wordBasedFormatter(locale).format(period, duration));
+        assertEquals(expected, AmountFormats.wordBasedFormatter(locale).format(PeriodDuration.of(period, duration)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_wordBased")
+    public void test_wordBasedFormatter_formatTo(Period period, Locale locale, String expected) {
+        StringBuilder buf = new StringBuilder("x");
+        AmountFormats.wordBasedFormatter(locale).formatTo(period, buf);
+        assertEquals("x" + expected, buf.toString());
+        StringBuffer appendable = new StringBuffer();
+        AmountFormats.wordBasedFormatter(locale).formatTo(period, appendable);
+        assertEquals(expected, appendable.toString());
+    }
+
+    @ParameterizedTest
+    @MethodSource("duration_wordBased")
+    public void test_wordBasedFormatter_formatTo(Duration duration, Locale locale, String expected) {
+        StringBuilder buf = new StringBuilder("x");
+        AmountFormats.wordBasedFormatter(locale).formatTo(duration, buf);
+        assertEquals("x" + expected, buf.toString());
+        StringBuffer appendable = new StringBuffer();
+        AmountFormats.wordBasedFormatter(locale).formatTo(duration, appendable);
+        assertEquals(expected, appendable.toString());
+    }
+
+    @ParameterizedTest
+    @MethodSource("period_duration_wordBased")
+    public void test_wordBasedFormatter_formatTo(Period period, Duration duration, Locale locale, String expected) {
+        StringBuilder buf = new StringBuilder("x");
+        AmountFormats.wordBasedFormatter(locale).formatTo(period, duration, buf);
+        assertEquals("x" + expected, buf.toString());
+        StringBuffer appendable = new StringBuffer();
+        AmountFormats.wordBasedFormatter(locale).formatTo(PeriodDuration.of(period, duration), appendable);
+        assertEquals(expected, appendable.toString());
+    }
+
+    @Test
+    public void test_wordBasedFormatter_formatTo_ioException() {
+        DateTimeException ex = assertThrows(DateTimeException.class,
+                () -> AmountFormats.wordBasedFormatter(PL).formatTo(Period.ofDays(1), new FailingAppendable()));
+        assertEquals(IOException.class, ex.getCause().getClass());
+        assertThrows(NullPointerException.class, () -> AmountFormats.wordBasedFormatter(PL).formatTo(Period.ofDays(1), null));
+    }
+
+    @Test
+    public void test_wordBasedFormatter_cached() {
+        AmountFormats.WordBasedFormatter formatter = AmountFormats.wordBasedFormatter(PL);
+        assertEquals(PL, formatter.getLocale());
+        assertSame(formatter, AmountFormats.wordBasedFormatter(PL));
+        assertEquals("WordBasedFormatter[pl]", formatter.toString());
+    }
+
+    @Test
+    public void test_wordBasedFormatter_defaultLocaleChange() {
+        Locale original = Locale.getDefault();
+        Locale unknown = new Locale("xx");
+        try {
+            Locale.setDefault(PL);
+            assertEquals("2 lata", AmountFormats.wordBasedFormatter(unknown).format(Period.ofYears(2)));
+            Locale.setDefault(Locale.ENGLISH);
+            assertEquals("2 years", AmountFormats.wordBasedFormatter(unknown).format(Period.ofYears(2)));
+        } finally {
+            Locale.setDefault(original);
+        }
+    }
+
+    @Test
+    public void test_wordBasedFormatter_null() {
+        assertThrows(NullPointerException.class, () -> AmountFormats.wordBasedFormatter(null));
+        assertThrows(NullPointerException.class, () -> AmountFormats.wordBasedFormatter(PL).format((Period) null));
+        assertThrows(NullPointerException.class, () -> AmountFormats.wordBasedFormatter(PL).format((Duration) null));
+    }
+
+    //-----------------------------------------------------------------------
+    @ParameterizedTest
+    @MethodSource("data_wordBased")
+    public void test_wordBasedCache(Period period, Locale locale, String expected) {
+        AmountFormats.WordBasedCache cache = AmountFormats.wordBasedCache(10);
+        assertEquals(expected, cache.format(period, locale));
+        assertEquals(expected, cache.format(period, locale));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @ParameterizedTest
+    @MethodSource("duration_wordBased")
+    public void test_wordBasedCache(Duration duration, Locale locale, String expected) {
+        AmountFormats.WordBasedCache cache = AmountFormats.wordBasedCache(10);
+        assertEquals(expected, cache.format(duration, locale));
+        assertEquals(expected, cache.format(duration, locale));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @ParameterizedTest
+    @MethodSource("period_duration_wordBased")
+    public void test_wordBasedCache(Period period, Duration duration, Locale locale, String expected) {
+        AmountFormats.WordBasedCache cache = AmountFormats.wordBasedCache(10);
+        assertEquals(expected, cache.format(period, duration, locale));
+        assertEquals(expected, cache.format(PeriodDuration.of(period, duration), locale));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void test_wordBasedCache_keys() {
+        AmountFormats.WordBasedCache cache = AmountFormats.wordBasedCache(10);
+        assertEquals("1 day", cache.format(Period.ofDays(1), Locale.ENGLISH));
+        assertEquals("1 dzień", cache.format(Period.ofDays(1), PL));
+        assertEquals("1 hour", cache.format(Duration.ofHours(1), Locale.ENGLISH));
+        assertEquals("1 day and 1 hour", cache.format(Period.ofDays(1), Duration.ofHours(1), Locale.ENGLISH));
+        assertEquals(4, cache.getMissCount());
+        // amounts that format the same share an entry
+        assertEquals("1 hour", cache.format(Duration.ofHours(1).plusNanos(5), Locale.ENGLISH));
+        assertEquals("2 years and 1 month", cache.format(Period.of(3, -11, 0), Locale.ENGLISH));
+        assertEquals("2 years and 1 month", cache.format(Period.of(2, 1, 0), Locale.ENGLISH));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(5, cache.getMissCount());
+        assertEquals(5, cache.size());
+        assertEquals("WordBasedCache[size=5, hits=2, misses=5]", cache.toString());
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    public void test_wordBasedCache_leastRecentlyUsed() {
+        AmountFormats.WordBasedCache cache = AmountFormats.wordBasedCache(2);
+        assertEquals(2, cache.getMaximumSize());
+        cache.format(Period.ofDays(1), Locale.ENGLISH);
+        cache.format(Period.ofDays(2), Locale.ENGLISH);
+        cache.format(Period.ofDays(1), Locale.ENGLISH);
+        cache.format(Period.ofDays(3), Locale.ENGLISH);
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+        cache.format(Period.ofDays(1), Locale.ENGLISH);
+        assertEquals(2, cache.getHitCount());
+        assertEquals("2 days", cache.format(Period.ofDays(2), Locale.ENGLISH));
+        assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    public void test_wordBasedCache_defaultLocaleChange() {
+        Locale original = Locale.getDefault();
+        Locale unknown = new Locale("xx");
+        AmountFormats.WordBasedCache cache = AmountFormats.wordBasedCache(10);
+        try {
+            Locale.setDefault(PL);
+            assertEquals("2 lata", cache.format(Period.ofYears(2), unknown));
+            Locale.setDefault(Locale.ENGLISH);
+            assertEquals("2 years", cache.format(Period.ofYears(2), unknown));
+        } finally {
+            Locale.setDefault(original);
+        }
+    }
+
+    @Test
+    public void test_wordBasedCache_invalid() {
+        assertThrows(IllegalArgumentException.class, () -> AmountFormats.wordBasedCache(0));
+        AmountFormats.WordBasedCache cache = AmountFormats.wordBasedCache(10);
+        assertThrows(NullPointerException.class, () -> cache.format((Period) null, PL));
+        assertThrows(NullPointerException.class, () -> cache.format((Duration) null, PL));
+        assertThrows(NullPointerException.class, () -> cache.format((PeriodDuration) null, PL));
+        assertThrows(NullPointerException.class, () -> cache.format(Period.ZERO, null));
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void test_wordBased_pl_formatStandard() {
@@ -564,9 +786,78 @@ public class TestAmountFormats {
             {Duration.ofSeconds(1).plusNanos(999_999_999), "1.9999999999999999999999999999s"},
             // Adding duration values to exactly the max duration.
             {Duration.ofSeconds(Long.MAX_VALUE), String.format("%ds%ds", Long.MAX_VALUE - 2, 2)},
+            // Fraction digits beyond the precision of a long are ignored.
+            {Duration.ofMillis(1100), "1.1000000000000000000s"},
+            {Duration.ofNanos(1), "0.0000000000000000001h1ns"},
+            {Duration.ofMinutes(-90), "-1h30m"},
+            {Duration.ofMinutes(90), "0.5h3600s"},
+            {Duration.ofNanos(333_333_333), "0.333333333333s"},
+            {Duration.ofNanos(19_999_999_999L), "0.33333333333333333m"},
+            {Duration.ofNanos(1_199_999_999_999L), "0.33333333333333333h"},
+            {Duration.ofNanos(1500), "1.5us"},
+            {Duration.ofNanos(1_500_000), "1.5ms"},
+            {Duration.ofSeconds(Long.MAX_VALUE / 3600 * 3600), String.format("%dh", Long.MAX_VALUE / 3600)},
+            {Duration.ofSeconds(Long.MAX_VALUE / 1000, Long.MAX_VALUE % 1000 * 1000_000), String.format("%dms", Long.MAX_VALUE)},
         };
     }
 
+    @ParameterizedTest
+    @MethodSource("duration_unitBased")
+    public void test_parseUnitBasedDuration_charSequence(Duration expected, String input) {
+        assertEquals(expected, AmountFormats.parseUnitBasedDuration(new StringBuilder(input)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("duration_unitBased")
+    public void test_parseUnitBasedDurationToNanos(Duration expected, String input) {
+        if (expected.abs().compareTo(Duration.ofNanos(Long.MAX_VALUE)) <= 0) {
+            assertEquals(expected.toNanos(), AmountFormats.parseUnitBasedDurationToNanos(input));
+        } else {
+            DateTimeParseException ex = assertThrows(DateTimeParseException.class,
+                    () -> AmountFormats.parseUnitBasedDurationToNanos(input));
+            assertEquals("Duration string exceeds valid numeric range", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void test_parseUnitBasedDurationToNanos_limits() {
+        assertEquals(Long.MAX_VALUE, AmountFormats.parseUnitBasedDurationToNanos(Long.MAX_VALUE + "ns"));
+        assertEquals(Long.MIN_VALUE, AmountFormats.parseUnitBasedDurationToNanos("-9223372036s854775808ns"));
+        assertEquals(Long.MAX_VALUE, AmountFormats.parseUnitBasedDurationToNanos("9223372036.854775807s"));
+        DateTimeParseException ex = assertThrows(DateTimeParseException.class,
+                () -> AmountFormats.parseUnitBasedDurationToNanos("9223372036s854775808ns"));
+        assertEquals(20, ex.getErrorIndex());
+        assertThrows(DateTimeParseException.class, () -> AmountFormats.parseUnitBasedDurationToNanos("-9223372036s854775809ns"));
+        assertThrows(DateTimeParseException.class, () -> AmountFormats.parseUnitBasedDurationToNanos("2563048h"));
+    }
+
+    @Test
+    public void test_parseUnitBasedDuration_crossCheck() {
+        Random random = new Random(33);
+        String[] units = {"ns", "us", "ms", "s", "m", "h"};
+        Duration[] unitDurations = {
+            Duration.ofNanos(1), Duration.ofNanos(1000), Duration.ofMillis(1),
+            Duration.ofSeconds(1), Duration.ofMinutes(1), Duration.ofHours(1)};
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder buf = new StringBuilder();
+            boolean negative = random.nextBoolean();
+            buf.append(negative ? "-" : "");
+            Duration expected = Duration.ZERO;
+            int parts = 1 + random.nextInt(4);
+            for (int j = 0; j < parts; j++) {
+                int unit = random.nextInt(units.length);
+                int whole = random.nextInt(100_000);
+                int fraction = random.nextInt(1000);
+                buf.append(whole).append('.').append(String.format("%03d", fraction)).append(units[unit]);
+                expected = expected.plus(unitDurations[unit].multipliedBy(whole))
+                        .plus(unitDurations[unit].multipliedBy(fraction).dividedBy(1000));
+            }
+            expected = negative ? expected.negated() : expected;
+            assertEquals(expected, AmountFormats.parseUnitBasedDuration(buf));
+            assertEquals(expected.toNanos(), AmountFormats.parseUnitBasedDurationToNanos(buf));
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("duration_unitBasedErrors")
     public void test_parseUnitBasedDurationErrors(Exception e, String input) {
@@ -584,6 +875,10 @@ public class TestAmountFormats {
     public static @Nullable Object[][] duration_unitBasedErrors() {
         return new @Nullable Object[][] {
             {new NullPointerException("durationText must not be null"), null},
+            {new DateTimeParseException("Invalid duration unit", "00", 2), "00"},
+            {new DateTimeParseException("Invalid duration unit", "1u", 1), "1u"},
+            {new DateTimeParseException("Invalid duration unit", "1n", 1), "1n"},
+            {new DateTimeParseException("Missing leading integer", "1mx", 2), "1mx"},
             {new DateTimeParseException("Not a numeric value", "", 0), ""},
             {new DateTimeParseException("Not a numeric value", "+", 0), "+"},
             {new DateTimeParseException("Not a numeric value", "-", 0), "-"},
@@ -610,4 +905,23 @@ public class TestAmountFormats {
                 String.format("%d.1s2.999999999s", Long.MAX_VALUE - 2)}
         };
     }
+
+    //-----------------------------------------------------------------------
+    static class FailingAppendable implements Appendable {
+        @Override
+        public Appendable append(CharSequence csq) throws IOException {
+            throw new IOException("Failed");
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) throws IOException {
+            throw new IOException("Failed");
+        }
+
+        @Override
+        public Appendable append(char c) throws IOException {
+            throw new IOException("Failed");
+        }
+    }
+
 }
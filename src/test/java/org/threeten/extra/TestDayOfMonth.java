@@ -233,6 +233,48 @@ public class TestDayOfMonth {
         assertThrows(DateTimeException.class, () -> DayOfMonth.of(32));
     }
 
+    //-----------------------------------------------------------------------
+    // ofEpochDay(long)
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_ofEpochDay() {
+        assertEquals(DayOfMonth.of(3), DayOfMonth.ofEpochDay(16772));
+        for (long epochDay = -800_000; epochDay <= 800_000; epochDay++) {
+            assertSame(DayOfMonth.from(LocalDate.ofEpochDay(epochDay)), DayOfMonth.ofEpochDay(epochDay));
+        }
+        assertSame(DayOfMonth.from(LocalDate.MIN), DayOfMonth.ofEpochDay(LocalDate.MIN.toEpochDay()));
+        assertSame(DayOfMonth.from(LocalDate.MAX), DayOfMonth.ofEpochDay(LocalDate.MAX.toEpochDay()));
+    }
+
+    @Test
+    public void test_ofEpochDay_invalid() {
+        assertThrows(DateTimeException.class, () -> DayOfMonth.ofEpochDay(LocalDate.MIN.toEpochDay() - 1));
+        assertThrows(DateTimeException.class, () -> DayOfMonth.ofEpochDay(LocalDate.MAX.toEpochDay() + 1));
+    }
+
+    //-----------------------------------------------------------------------
+    // ofEpochDay(long[], int[])
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_ofEpochDay_array() {
+        long[] epochDays = {-1, 0, 59, 16772, LocalDate.MIN.toEpochDay(), LocalDate.MAX.toEpochDay()};
+        int[] values = new int[epochDays.length];
+        DayOfMonth.ofEpochDay(epochDays, values);
+        for (int i = 0; i < epochDays.length; i++) {
+            assertEquals(LocalDate.ofEpochDay(epochDays[i]).getDayOfMonth(), values[i]);
+        }
+    }
+
+    @Test
+    public void test_ofEpochDay_array_lengthMismatch() {
+        assertThrows(IllegalArgumentException.class, () -> DayOfMonth.ofEpochDay(new long[2], new int[1]));
+    }
+
+    @Test
+    public void test_ofEpochDay_array_invalid() {
+        assertThrows(DateTimeException.class, () -> DayOfMonth.ofEpochDay(new long[] {0, Long.MAX_VALUE}, new int[2]));
+    }
+
     //-----------------------------------------------------------------------
     // from(TemporalAccessor)
     //-----------------------------------------------------------------------
@@ -221,6 +221,48 @@ public class TestDayOfYear {
         assertThrows(DateTimeException.class, () -> DayOfYear.of(367));
     }
 
+    //-----------------------------------------------------------------------
+    // ofEpochDay(long)
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_ofEpochDay() {
+        assertEquals(DayOfYear.of(337), DayOfYear.ofEpochDay(16772));
+        for (long epochDay = -800_000; epochDay <= 800_000; epochDay++) {
+            assertSame(DayOfYear.from(LocalDate.ofEpochDay(epochDay)), DayOfYear.ofEpochDay(epochDay));
+        }
+        assertSame(DayOfYear.from(LocalDate.MIN), DayOfYear.ofEpochDay(LocalDate.MIN.toEpochDay()));
+        assertSame(DayOfYear.from(LocalDate.MAX), DayOfYear.ofEpochDay(LocalDate.MAX.toEpochDay()));
+    }
+
+    @Test
+    public void test_ofEpochDay_invalid() {
+        assertThrows(DateTimeException.class, () -> DayOfYear.ofEpochDay(LocalDate.MIN.toEpochDay() - 1));
+        assertThrows(DateTimeException.class, () -> DayOfYear.ofEpochDay(LocalDate.MAX.toEpochDay() + 1));
+    }
+
+    //-----------------------------------------------------------------------
+    // ofEpochDay(long[], int[])
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_ofEpochDay_array() {
+        long[] epochDays = {-1, 0, 59, 16772, LocalDate.MIN.toEpochDay(), LocalDate.MAX.toEpochDay()};
+        int[] values = new int[epochDays.length];
+        DayOfYear.ofEpochDay(epochDays, values);
+        for (int i = 0; i < epochDays.length; i++) {
+            assertEquals(LocalDate.ofEpochDay(epochDays[i]).getDayOfYear(), values[i]);
+        }
+    }
+
+    @Test
+    public void test_ofEpochDay_array_lengthMismatch() {
+        assertThrows(IllegalArgumentException.class, () -> DayOfYear.ofEpochDay(new long[2], new int[1]));
+    }
+
+    @Test
+    public void test_ofEpochDay_array_invalid() {
+        assertThrows(DateTimeException.class, () -> DayOfYear.ofEpochDay(new long[] {0, Long.MAX_VALUE}, new int[2]));
+    }
+
     //-----------------------------------------------------------------------
     // from(TemporalAccessor)
     //-----------------------------------------------------------------------
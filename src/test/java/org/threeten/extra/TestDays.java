@@ -115,6 +115,17 @@ public class TestDays {
         assertEquals(Integer.MIN_VALUE, Days.of(Integer.MIN_VALUE).getAmount());
     }
 
+    @Test
+    public void test_of_cached() {
+        assertSame(Days.of(2), Days.of(2));
+        assertSame(Days.of(366), Days.of(366));
+        assertSame(Days.of(2), Days.of(1).plus(1));
+        assertSame(Days.of(4), Days.of(2).multipliedBy(2));
+        assertSame(Days.of(2), Days.parse("P2D"));
+        assertEquals(Days.of(367), Days.of(367));
+        assertEquals(Days.of(-2), Days.of(-2));
+    }
+
     @Test
     public void test_ofMinusOne() {
         assertEquals(-1, Days.of(-1).getAmount());
@@ -262,6 +273,32 @@ public class TestDays {
         assertThrows(NullPointerException.class, () -> Days.parse((CharSequence) null));
     }
 
+    @ParameterizedTest
+    @MethodSource("data_valid")
+    public void test_parse_CharSequenceIntInt_valid(String str, int expected) {
+        assertEquals(Days.of(expected), Days.parse("xx" + str + "yy", 2, str.length()));
+        assertEquals(Days.of(-expected), Days.parse(new StringBuilder("-").append(str), 0, str.length() + 1));
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_invalid")
+    public void test_parse_CharSequenceIntInt_invalid(String str) {
+        assertThrows(DateTimeParseException.class, () -> Days.parse("xx" + str + "yy", 2, str.length()));
+    }
+
+    @Test
+    public void test_parse_CharSequenceIntInt_outOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> Days.parse("P2D", -1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> Days.parse("P2D", 0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> Days.parse("P2D", 1, 3));
+    }
+
+    @Test
+    public void test_parse_CharSequenceIntInt_null() {
+        //noinspection DataFlowIssue - testing nulls
+        assertThrows(NullPointerException.class, () -> Days.parse((CharSequence) null, 0, 0));
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void test_get() {
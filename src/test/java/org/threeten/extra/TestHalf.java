@@ -142,6 +142,48 @@ public class TestHalf {
         assertThrows(DateTimeException.class, () -> Half.ofMonth(13));
     }
 
+    //-----------------------------------------------------------------------
+    // ofEpochDay(long)
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_ofEpochDay() {
+        assertEquals(Half.H2, Half.ofEpochDay(16772));
+        for (long epochDay = -800_000; epochDay <= 800_000; epochDay++) {
+            assertSame(Half.from(LocalDate.ofEpochDay(epochDay)), Half.ofEpochDay(epochDay));
+        }
+        assertSame(Half.from(LocalDate.MIN), Half.ofEpochDay(LocalDate.MIN.toEpochDay()));
+        assertSame(Half.from(LocalDate.MAX), Half.ofEpochDay(LocalDate.MAX.toEpochDay()));
+    }
+
+    @Test
+    public void test_ofEpochDay_invalid() {
+        assertThrows(DateTimeException.class, () -> Half.ofEpochDay(LocalDate.MIN.toEpochDay() - 1));
+        assertThrows(DateTimeException.class, () -> Half.ofEpochDay(LocalDate.MAX.toEpochDay() + 1));
+    }
+
+    //-----------------------------------------------------------------------
+    // ofEpochDay(long[], int[])
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_ofEpochDay_array() {
+        long[] epochDays = {-1, 0, 59, 16772, LocalDate.MIN.toEpochDay(), LocalDate.MAX.toEpochDay()};
+        int[] values = new int[epochDays.length];
+        Half.ofEpochDay(epochDays, values);
+        for (int i = 0; i < epochDays.length; i++) {
+            assertEquals(LocalDate.ofEpochDay(epochDays[i]).get(HALF_OF_YEAR), values[i]);
+        }
+    }
+
+    @Test
+    public void test_ofEpochDay_array_lengthMismatch() {
+        assertThrows(IllegalArgumentException.class, () -> Half.ofEpochDay(new long[2], new int[1]));
+    }
+
+    @Test
+    public void test_ofEpochDay_array_invalid() {
+        assertThrows(DateTimeException.class, () -> Half.ofEpochDay(new long[] {0, Long.MAX_VALUE}, new int[2]));
+    }
+
     //-----------------------------------------------------------------------
     // from(TemporalAccessor)
     //-----------------------------------------------------------------------
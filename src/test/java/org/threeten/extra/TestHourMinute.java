@@ -694,4 +694,45 @@ public class TestHourMinute {
         assertThat(HourMinute.of(23, 59)).hasToString("23:59");
     }
 
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_packedInt() {
+        HourMinute previous = null;
+        for (int hour = 0; hour < 24; hour++) {
+            for (int minute = 0; minute < 60; minute++) {
+                HourMinute test = HourMinute.of(hour, minute);
+                assertThat(test.toPackedInt()).isEqualTo(LocalTime.of(hour, minute).get(PackedFields.PACKED_HOUR_MIN));
+                assertThat(HourMinute.ofPackedInt(test.toPackedInt())).isEqualTo(test);
+                if (previous != null) {
+                    assertThat(previous.toPackedInt()).isLessThan(test.toPackedInt());
+                }
+                previous = test;
+            }
+        }
+    }
+
+    @Test
+    public void test_ofPackedInt_invalid() {
+        assertThatExceptionOfType(DateTimeException.class).isThrownBy(() -> HourMinute.ofPackedInt(-1));
+        assertThatExceptionOfType(DateTimeException.class).isThrownBy(() -> HourMinute.ofPackedInt(1160));
+        assertThatExceptionOfType(DateTimeException.class).isThrownBy(() -> HourMinute.ofPackedInt(2400));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_cached() {
+        assertThat(HourMinute.of(0, 0)).isSameAs(HourMinute.MIDNIGHT);
+        HourMinute base = HourMinute.of(11, 30);
+        assertThat(HourMinute.of(11, 30)).isSameAs(base);
+        assertThat(HourMinute.ofPackedInt(1130)).isSameAs(base);
+        assertThat(HourMinute.from(LocalTime.of(11, 30, 45))).isSameAs(base);
+        assertThat(HourMinute.parse("11:30")).isSameAs(base);
+        assertThat(HourMinute.of(10, 30).plusHours(1)).isSameAs(base);
+        assertThat(HourMinute.of(11, 31).minusMinutes(1)).isSameAs(base);
+        assertThat(HourMinute.of(11, 29).plusMinutes(1 + 1440 * 3)).isSameAs(base);
+        assertThat(HourMinute.of(11, 0).withMinute(30)).isSameAs(base);
+        assertThat(HourMinute.of(0, 30).withHour(11)).isSameAs(base);
+        assertThat(HourMinute.MIDNIGHT.plusMinutes(-1)).isSameAs(HourMinute.of(23, 59));
+    }
+
 }
@@ -99,6 +99,17 @@ public class TestHours {
         assertEquals(Integer.MIN_VALUE, Hours.of(Integer.MIN_VALUE).getAmount());
     }
 
+    @Test
+    public void test_of_cached() {
+        assertSame(Hours.of(2), Hours.of(2));
+        assertSame(Hours.of(168), Hours.of(168));
+        assertSame(Hours.of(2), Hours.of(1).plus(1));
+        assertSame(Hours.of(4), Hours.of(2).multipliedBy(2));
+        assertSame(Hours.of(2), Hours.parse("PT2H"));
+        assertEquals(Hours.of(169), Hours.of(169));
+        assertEquals(Hours.of(-2), Hours.of(-2));
+    }
+
     @Test
     public void test_ofMinusOne() {
         assertEquals(-1, Hours.of(-1).getAmount());
@@ -190,6 +201,32 @@ public class TestHours {
         assertThrows(NullPointerException.class, () -> Hours.parse((CharSequence) null));
     }
 
+    @ParameterizedTest
+    @MethodSource("data_valid")
+    public void test_parse_CharSequenceIntInt_valid(String str, int expected) {
+        assertEquals(Hours.of(expected), Hours.parse("xx" + str + "yy", 2, str.length()));
+        assertEquals(Hours.of(-expected), Hours.parse(new StringBuilder("-").append(str), 0, str.length() + 1));
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_invalid")
+    public void test_parse_CharSequenceIntInt_invalid(String str) {
+        assertThrows(DateTimeParseException.class, () -> Hours.parse("xx" + str + "yy", 2, str.length()));
+    }
+
+    @Test
+    public void test_parse_CharSequenceIntInt_outOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> Hours.parse("PT2H", -1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> Hours.parse("PT2H", 0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> Hours.parse("PT2H", 1, 4));
+    }
+
+    @Test
+    public void test_parse_CharSequenceIntInt_null() {
+        //noinspection DataFlowIssue - testing nulls
+        assertThrows(NullPointerException.class, () -> Hours.parse((CharSequence) null, 0, 0));
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void test_plus_TemporalAmount_Hours() {
@@ -31,12 +31,17 @@
  */
 package org.threeten.extra;
 
+import static java.time.temporal.ChronoUnit.DAYS;
 import static java.time.temporal.ChronoUnit.HOURS;
+import static java.time.temporal.ChronoUnit.MINUTES;
 import static java.time.temporal.ChronoUnit.MONTHS;
+import static java.time.temporal.ChronoUnit.WEEKS;
+import static java.time.temporal.ChronoUnit.YEARS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -44,12 +49,24 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.time.DateTimeException;
+import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -307,6 +324,78 @@ public class TestInterval {
         assertEquals(end, test.getEnd());
     }
 
+    public static Object[][] data_parseCommonForms() {
+        OffsetDateTime odt1 = OffsetDateTime.of(2024, 2, 29, 23, 59, 58, 123_000_000, ZoneOffset.ofHoursMinutesSeconds(-5, -30, -15));
+        OffsetDateTime odt2 = OffsetDateTime.of(2024, 3, 1, 0, 0, 0, 0, ZoneOffset.ofHours(-18));
+        return new Object[][] {
+            {"2024-02-29T23:59:58.123-05:30:15/2024-03-01T00:00-18:00", odt1.toInstant(), odt2.toInstant()},
+            {"2024-03-01T00:00-18:00/2024-03-02T01:02:03.000000001", odt2.toInstant(), odt2.plusDays(1).plusHours(1).plusMinutes(2).plusSeconds(3).plusNanos(1).toInstant()},
+            {"0000-01-01T00:00Z/9999-12-31T23:59:59.999999999Z", Instant.parse("0000-01-01T00:00:00Z"), Instant.parse("9999-12-31T23:59:59.999999999Z")},
+            {"2014-12-01T01:00Z/P2W3DT4H5M6.7S", NOW1, NOW1.plus(Duration.parse("P17DT4H5M6.7S"))},
+            {"2014-12-01T01:00Z/P1D", NOW1, NOW1.plus(Duration.ofDays(1))},
+            {"P1W/2014-12-01T01:00Z", NOW1.minus(Duration.ofDays(7)), NOW1},
+            {"PT0.5S/2014-12-01T01:00:00.25Z", NOW1.minusMillis(250), NOW1.plusMillis(250)},
+            {"PT999999999H/2014-12-01T01:00Z", NOW1.minus(Duration.ofHours(999999999)), NOW1},
+            {"P1Y/2014-12-01T01:00Z", NOW1.atOffset(ZoneOffset.UTC).minusYears(1).toInstant(), NOW1},
+            {"2014-12-01T01:00Z/P1MT1H", NOW1, NOW1.atOffset(ZoneOffset.UTC).plusMonths(1).plusHours(1).toInstant()},
+            {"2014-12-01t01:00z/2014-12-01T01:00:00.Z", NOW1, NOW1},
+            {"2014-12-01T01:00Z/PT1H-1M", NOW1, NOW1.plus(Duration.ofMinutes(59))},
+            {"2014-12-01T01:00Z/pT1H", NOW1, NOW1.plus(Duration.ofHours(1))},
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_parseCommonForms")
+    public void test_parse_CharSequence_commonForms(String input, Instant start, Instant end) {
+        Interval test = Interval.parse(input);
+        assertEquals(start, test.getStart());
+        assertEquals(end, test.getEnd());
+    }
+
+    public static Object[][] data_parseInvalid() {
+        return new Object[][] {
+            {"2014-02-29T01:00Z/2014-03-01T01:00Z"},
+            {"2014-12-01T24:00Z/2014-12-02T01:00Z"},
+            {"2014-12-01T01:60Z/2014-12-02T01:00Z"},
+            {"2014-12-01T01:00:60Z/2014-12-02T01:00Z"},
+            {"2014-12-01T01:00+19:00/2014-12-02T01:00Z"},
+            {"2014-12-01T01:00Z/2014-12-02T01:00X"},
+            {"2014-12-01T01:00/2014-12-02T01:00Z"},
+            {"2014-12-01T01:00:00.1234567890Z/2014-12-02T01:00Z"},
+            {"2014-12-01T01:00Z/P"},
+            {"2014-12-01T01:00Z/PT"},
+            {"2014-12-01T01:00Z/P1H"},
+            {"2014-12-01T01:00Z/PT1D"},
+            {"2014-12-01T01:00Z/PT1S1M"},
+            {"2014-12-01T01:00Z/P1D1W"},
+            {"PT1H/2014-12-01T01:00"},
+            {"PT1H/"},
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_parseInvalid")
+    public void test_parse_CharSequence_invalid(String input) {
+        assertThrows(DateTimeParseException.class, () -> Interval.parse(input));
+    }
+
+    @Test
+    public void test_parse_CharSequence_crossCheck() {
+        Random random = new Random(2345);
+        for (int i = 0; i < 2000; i++) {
+            OffsetDateTime start = OffsetDateTime.of(
+                    1900 + random.nextInt(200), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                    random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(3) * 100_000_000,
+                    ZoneOffset.ofTotalSeconds((random.nextInt(37) - 18) * 1800));
+            Duration duration = Duration.ofSeconds(random.nextInt(1_000_000), random.nextInt(2) * 500_000_000);
+            OffsetDateTime end = start.plus(duration).withOffsetSameInstant(ZoneOffset.ofHours(random.nextInt(10)));
+            Interval expected = Interval.of(start.toInstant(), end.toInstant());
+            assertEquals(expected, Interval.parse(start + "/" + end));
+            assertEquals(expected, Interval.parse(start + "/" + duration));
+            assertEquals(expected, Interval.parse(duration + "/" + end));
+        }
+    }
+
     @Test
     public void test_parse_CharSequence_badOrder() {
         assertThrows(DateTimeException.class, () -> Interval.parse(NOW2 + "/" + NOW1));
@@ -933,6 +1022,199 @@ public class TestInterval {
         assertEquals(true, test.isBefore(Interval.of(NOW1.plusSeconds(1), NOW1.plusSeconds(2))));
     }
 
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_joinOverlapping() {
+        List<Interval> left = Arrays.asList(Interval.of(NOW1, NOW3), Interval.of(NOW2, NOW2), Interval.of(NOW3, NOW4));
+        List<Interval> right = Arrays.asList(Interval.of(NOW11, NOW12), Interval.of(NOW2, NOW2), Interval.of(NOW2, NOW4));
+        List<String> pairs = new ArrayList<>();
+        Interval.joinOverlapping(left.iterator(), right.iterator(), (l, r) -> pairs.add(l + " " + r));
+        List<String> expected = Arrays.asList(
+                Interval.of(NOW1, NOW3) + " " + Interval.of(NOW11, NOW12),
+                Interval.of(NOW1, NOW3) + " " + Interval.of(NOW2, NOW2),
+                Interval.of(NOW2, NOW2) + " " + Interval.of(NOW2, NOW2),
+                Interval.of(NOW1, NOW3) + " " + Interval.of(NOW2, NOW4),
+                Interval.of(NOW3, NOW4) + " " + Interval.of(NOW2, NOW4));
+        assertEquals(expected, pairs);
+    }
+
+    @Test
+    public void test_joinOverlapping_crossCheck() {
+        Random random = new Random(3456);
+        List<Interval> left = randomSortedIntervals(random, 300);
+        List<Interval> right = randomSortedIntervals(random, 200);
+        List<String> expected = new ArrayList<>();
+        for (Interval l : left) {
+            for (Interval r : right) {
+                if (l.overlaps(r)) {
+                    expected.add(l + " " + r);
+                }
+            }
+        }
+        List<String> pairs = new ArrayList<>();
+        Interval.joinOverlapping(left.iterator(), right.iterator(), (l, r) -> pairs.add(l + " " + r));
+        Collections.sort(expected);
+        Collections.sort(pairs);
+        assertEquals(expected, pairs);
+    }
+
+    @Test
+    public void test_joinOverlapping_disjointBufferBounded() {
+        List<Interval> left = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            left.add(Interval.of(NOW1.plusSeconds(i * 2L), NOW1.plusSeconds(i * 2L + 1)));
+        }
+        List<Interval> right = Arrays.asList(Interval.of(NOW1.plusSeconds(1_000_000), NOW1.plusSeconds(1_000_001)));
+        assertTrue(maxBufferedCount(left, right) <= 1);
+        assertTrue(maxBufferedCount(right, left) <= 1);
+    }
+
+    private static int maxBufferedCount(List<Interval> left, List<Interval> right) {
+        Interval.OverlapJoiner joiner = new Interval.OverlapJoiner(left.iterator(), right.iterator());
+        int max = 0;
+        while (joiner.advance((l, r) -> fail("unexpected overlap: " + l + " " + r))) {
+            max = Math.max(max, joiner.bufferedCount());
+        }
+        return max;
+    }
+
+    private static List<Interval> randomSortedIntervals(Random random, int count) {
+        List<Interval> list = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Instant start = NOW1.plusSeconds(random.nextInt(1000));
+            list.add(Interval.of(start, start.plusSeconds(random.nextInt(3) == 0 ? 0 : random.nextInt(50))));
+        }
+        list.sort((a, b) -> a.getStart().compareTo(b.getStart()));
+        return list;
+    }
+
+    @Test
+    public void test_joinOverlapping_unsorted() {
+        List<Interval> left = Arrays.asList(Interval.of(NOW2, NOW3), Interval.of(NOW1, NOW3));
+        List<Interval> right = Arrays.asList(Interval.of(NOW1, NOW4));
+        assertThrows(IllegalArgumentException.class, () -> Interval.joinOverlapping(left.iterator(), right.iterator(), (l, r) -> { }));
+    }
+
+    @Test
+    public void test_joinIntersections() {
+        List<Interval> left = Arrays.asList(Interval.of(NOW1, NOW3), Interval.of(NOW3, NOW4));
+        List<Interval> right = Arrays.asList(Interval.of(NOW11, NOW12), Interval.of(NOW2, NOW4));
+        List<Interval> test = Interval.joinIntersections(left.stream(), right.stream()).collect(Collectors.toList());
+        assertEquals(Arrays.asList(Interval.of(NOW11, NOW12), Interval.of(NOW2, NOW3), Interval.of(NOW3, NOW4)), test);
+    }
+
+    @Test
+    public void test_joinIntersections_lazy() {
+        Stream<Interval> left = Stream.iterate(Interval.of(NOW1, NOW2), i -> Interval.of(i.getEnd(), i.getEnd().plusSeconds(60)));
+        Stream<Interval> right = Stream.iterate(Interval.of(NOW1, NOW1.plusSeconds(30)), i -> Interval.of(i.getEnd(), i.getEnd().plusSeconds(30)));
+        List<Interval> test = Interval.joinIntersections(left, right).limit(3).collect(Collectors.toList());
+        assertEquals(Arrays.asList(Interval.of(NOW1, NOW1.plusSeconds(30)), Interval.of(NOW1.plusSeconds(30), NOW2), Interval.of(NOW2, NOW2.plusSeconds(30))), test);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_split_days_dst() {
+        ZoneId zone = ZoneId.of("Europe/London");
+        Instant start = ZonedDateTime.of(2024, 3, 30, 12, 0, 0, 0, zone).toInstant();
+        Instant end = ZonedDateTime.of(2024, 4, 1, 6, 0, 0, 0, zone).toInstant();
+        List<Interval> test = Interval.of(start, end).split(zone, DAYS);
+        assertEquals(3, test.size());
+        Instant midnight1 = ZonedDateTime.of(2024, 3, 31, 0, 0, 0, 0, zone).toInstant();
+        Instant midnight2 = ZonedDateTime.of(2024, 4, 1, 0, 0, 0, 0, zone).toInstant();
+        assertEquals(Interval.of(start, midnight1), test.get(0));
+        assertEquals(Interval.of(midnight1, midnight2), test.get(1));
+        assertEquals(Duration.ofHours(23), test.get(1).toDuration());
+        assertEquals(Interval.of(midnight2, end), test.get(2));
+    }
+
+    @Test
+    public void test_split_hours_overlap() {
+        ZoneId zone = ZoneId.of("America/New_York");
+        Instant start = ZonedDateTime.of(2024, 11, 3, 0, 30, 0, 0, zone).toInstant();
+        Instant end = start.plus(4, HOURS);
+        long[] points = Interval.of(start, end).splitPoints(zone, HOURS);
+        // 01:00 EDT, 01:00 EST, 02:00 EST, 03:00 EST
+        assertEquals(4, points.length);
+        for (int i = 0; i < points.length; i++) {
+            assertEquals(start.plus(30, MINUTES).plus(i, HOURS).getEpochSecond(), points[i]);
+        }
+    }
+
+    @Test
+    public void test_split_hours_gap_halfHourOffset() {
+        ZoneId zone = ZoneId.of("Australia/Lord_Howe");
+        // 02:00 jumps to 02:30 on 2024-10-06
+        Instant start = ZonedDateTime.of(2024, 10, 6, 1, 15, 0, 0, zone).toInstant();
+        Instant end = ZonedDateTime.of(2024, 10, 6, 4, 0, 0, 0, zone).toInstant();
+        List<Interval> test = Interval.of(start, end).split(zone, HOURS);
+        assertEquals(3, test.size());
+        assertEquals(ZonedDateTime.of(2024, 10, 6, 2, 0, 0, 0, zone).toInstant(), test.get(1).getStart());
+        assertEquals(ZonedDateTime.of(2024, 10, 6, 3, 0, 0, 0, zone).toInstant(), test.get(2).getStart());
+        assertEquals(Duration.ofMinutes(30), test.get(1).toDuration());
+    }
+
+    @Test
+    public void test_split_crossCheck() {
+        ZoneId zone = ZoneId.of("Europe/Paris");
+        Instant start = ZonedDateTime.of(2019, 11, 17, 13, 14, 15, 500, zone).toInstant();
+        Instant end = ZonedDateTime.of(2024, 2, 3, 4, 5, 6, 0, zone).toInstant();
+        Interval interval = Interval.of(start, end);
+        for (ChronoUnit unit : new ChronoUnit[] {HOURS, DAYS, WEEKS, MONTHS, YEARS}) {
+            List<Interval> test = interval.split(zone, unit);
+            ZonedDateTime zdt = start.atZone(zone);
+            for (Interval part : test) {
+                assertEquals(zdt.toInstant(), part.getStart());
+                ZonedDateTime next = nextUnitStart(zdt, unit);
+                zdt = next.toInstant().isBefore(end) ? next : end.atZone(zone);
+                assertEquals(zdt.toInstant(), part.getEnd());
+            }
+            assertEquals(end, zdt.toInstant());
+        }
+    }
+
+    private static ZonedDateTime nextUnitStart(ZonedDateTime zdt, ChronoUnit unit) {
+        switch (unit) {
+            case WEEKS:
+                return zdt.toLocalDate().with(TemporalAdjusters.next(DayOfWeek.MONDAY)).atStartOfDay(zdt.getZone());
+            case MONTHS:
+                return zdt.toLocalDate().withDayOfMonth(1).plusMonths(1).atStartOfDay(zdt.getZone());
+            case YEARS:
+                return zdt.toLocalDate().withDayOfYear(1).plusYears(1).atStartOfDay(zdt.getZone());
+            case DAYS:
+                return zdt.toLocalDate().plusDays(1).atStartOfDay(zdt.getZone());
+            default:
+                return zdt.truncatedTo(unit).plus(1, unit);
+        }
+    }
+
+    @Test
+    public void test_split_fixedOffset() {
+        Instant start = Instant.parse("2024-01-01T10:15:30.5Z");
+        Instant end = Instant.parse("2024-01-01T10:18:00Z");
+        long[] points = Interval.of(start, end).splitPoints(ZoneOffset.ofHoursMinutes(5, 30), MINUTES);
+        assertEquals(2, points.length);
+        assertEquals(Instant.parse("2024-01-01T10:16:00Z").getEpochSecond(), points[0]);
+        assertEquals(Instant.parse("2024-01-01T10:17:00Z").getEpochSecond(), points[1]);
+        assertEquals(Arrays.asList(Interval.of(start, end)), Interval.of(start, end).split(ZoneOffset.UTC, HOURS));
+    }
+
+    @Test
+    public void test_split_empty() {
+        assertEquals(Arrays.asList(Interval.of(NOW1, NOW1)), Interval.of(NOW1, NOW1).split(ZoneOffset.UTC, HOURS));
+    }
+
+    @Test
+    public void test_split_unbounded() {
+        assertThrows(DateTimeException.class, () -> Interval.startingAt(NOW1).split(ZoneOffset.UTC, HOURS));
+        assertThrows(DateTimeException.class, () -> Interval.endingAt(NOW1).splitPoints(ZoneOffset.UTC, HOURS));
+    }
+
+    @Test
+    public void test_split_unsupportedUnit() {
+        assertThrows(UnsupportedTemporalTypeException.class, () -> Interval.of(NOW1, NOW2).split(ZoneOffset.UTC, ChronoUnit.MILLIS));
+        assertThrows(UnsupportedTemporalTypeException.class, () -> Interval.of(NOW1, NOW2).split(ZoneOffset.UTC, ChronoUnit.DECADES));
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void test_toDuration() {
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.testing.EqualsTester;
+
+/**
+ * Test class.
+ */
+public class TestIntervalColumn {
+
+    static Instant NOW1 = ZonedDateTime.of(2014, 12, 1, 1, 0, 0, 0, ZoneOffset.UTC).toInstant();
+    static Instant NOW2 = NOW1.plusSeconds(60);
+    static Instant NOW3 = NOW2.plusSeconds(60);
+    static Instant NOW4 = NOW3.plusSeconds(60);
+
+    static List<Interval> INTERVALS = Arrays.asList(
+            Interval.of(NOW1, NOW2),
+            Interval.of(NOW2, NOW3.plusNanos(1)),
+            Interval.of(NOW3, NOW3),
+            Interval.startingAt(NOW3),
+            Interval.endingAt(NOW2),
+            Interval.ALL);
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_of_collection() {
+        IntervalColumn test = IntervalColumn.of(INTERVALS);
+        assertEquals(6, test.size());
+        assertEquals(INTERVALS, test.toIntervals());
+        assertEquals(INTERVALS.get(1), test.get(1));
+        assertEquals(NOW2.getEpochSecond(), test.getStartEpochSecond(1));
+        assertEquals(0, test.getStartNano(1));
+        assertEquals(NOW3.getEpochSecond(), test.getEndEpochSecond(1));
+        assertEquals(1, test.getEndNano(1));
+        assertEquals(INTERVALS.toString(), test.toString());
+    }
+
+    @Test
+    public void test_of_collection_empty() {
+        IntervalColumn test = IntervalColumn.of(new ArrayList<>());
+        assertEquals(0, test.size());
+        assertEquals(new ArrayList<>(), test.toIntervals());
+    }
+
+    @Test
+    public void test_of_collection_null() {
+        assertThrows(NullPointerException.class, () -> IntervalColumn.of(null));
+        assertThrows(NullPointerException.class, () -> IntervalColumn.of(Arrays.asList((Interval) null)));
+    }
+
+    @Test
+    public void test_of_arrays() {
+        IntervalColumn test = IntervalColumn.of(new long[] {10, 20}, new int[] {5, 0}, new long[] {10, 30}, new int[] {6, 0});
+        assertEquals(2, test.size());
+        assertEquals(Interval.of(Instant.ofEpochSecond(10, 5), Instant.ofEpochSecond(10, 6)), test.get(0));
+        assertEquals(Interval.of(Instant.ofEpochSecond(20), Instant.ofEpochSecond(30)), test.get(1));
+        assertEquals(IntervalColumn.of(test.toIntervals()), test);
+    }
+
+    @Test
+    public void test_of_arrays_copied() {
+        long[] starts = new long[] {10};
+        IntervalColumn test = IntervalColumn.of(starts, new int[1], new long[] {20}, new int[1]);
+        starts[0] = 15;
+        assertEquals(10, test.getStartEpochSecond(0));
+    }
+
+    @Test
+    public void test_of_arrays_invalid() {
+        assertThrows(IllegalArgumentException.class, () -> IntervalColumn.of(new long[1], new int[1], new long[2], new int[1]));
+        assertThrows(DateTimeException.class, () -> IntervalColumn.of(new long[] {10}, new int[1], new long[] {9}, new int[1]));
+        assertThrows(DateTimeException.class, () -> IntervalColumn.of(new long[] {10}, new int[] {2}, new long[] {10}, new int[] {1}));
+        assertThrows(DateTimeException.class, () -> IntervalColumn.of(new long[1], new int[] {-1}, new long[1], new int[1]));
+        assertThrows(DateTimeException.class, () -> IntervalColumn.of(new long[1], new int[1], new long[] {Long.MAX_VALUE}, new int[1]));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_overlaps() {
+        IntervalColumn test = IntervalColumn.of(INTERVALS);
+        for (Interval other : INTERVALS) {
+            BitSet result = test.overlaps(other);
+            for (int i = 0; i < INTERVALS.size(); i++) {
+                assertEquals(INTERVALS.get(i).overlaps(other), result.get(i), INTERVALS.get(i) + " " + other);
+            }
+            assertEquals(result.cardinality(), test.countOverlaps(other));
+        }
+    }
+
+    @Test
+    public void test_contains() {
+        IntervalColumn test = IntervalColumn.of(INTERVALS);
+        for (Instant instant : Arrays.asList(Instant.MIN, NOW1, NOW2, NOW3, NOW3.plusNanos(1), NOW4, Instant.MAX)) {
+            BitSet result = test.contains(instant);
+            for (int i = 0; i < INTERVALS.size(); i++) {
+                assertEquals(INTERVALS.get(i).contains(instant), result.get(i), INTERVALS.get(i) + " " + instant);
+            }
+            assertEquals(result.cardinality(), test.countContains(instant));
+        }
+    }
+
+    @Test
+    public void test_predicates_crossCheck() {
+        Random random = new Random(4321);
+        List<Interval> intervals = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Instant start = NOW1.plusSeconds(random.nextInt(100)).plusNanos(random.nextInt(3));
+            intervals.add(Interval.of(start, start.plusSeconds(random.nextInt(5)).plusNanos(random.nextInt(3))));
+        }
+        IntervalColumn test = IntervalColumn.of(intervals);
+        for (int j = 0; j < 50; j++) {
+            Interval other = intervals.get(random.nextInt(intervals.size()));
+            Instant instant = other.getEnd();
+            BitSet overlaps = test.overlaps(other);
+            BitSet contains = test.contains(instant);
+            for (int i = 0; i < intervals.size(); i++) {
+                assertEquals(intervals.get(i).overlaps(other), overlaps.get(i));
+                assertEquals(intervals.get(i).contains(instant), contains.get(i));
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_equals_and_hashCode() {
+        new EqualsTester()
+            .addEqualityGroup(IntervalColumn.of(INTERVALS), IntervalColumn.of(new ArrayList<>(INTERVALS)))
+            .addEqualityGroup(IntervalColumn.of(INTERVALS.subList(0, 2)))
+            .addEqualityGroup(IntervalColumn.of(new ArrayList<>()))
+            .testEquals();
+    }
+
+}
@@ -31,6 +31,7 @@
  */
 package org.threeten.extra;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -57,7 +58,9 @@ import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.Temporal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -1058,6 +1061,136 @@ public class TestLocalDateRange {
         assertEquals(test, test.span(test));
     }
 
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_merge() {
+        List<LocalDateRange> input = Arrays.asList(
+                LocalDateRange.of(DATE_2012_07_29, DATE_2012_07_31),
+                LocalDateRange.of(DATE_2012_07_01, DATE_2012_07_27),
+                LocalDateRange.of(DATE_2012_07_27, DATE_2012_07_28),
+                LocalDateRange.of(DATE_2012_07_30, DATE_2012_08_01),
+                LocalDateRange.ofEmpty(DATE_2012_08_31),
+                LocalDateRange.of(DATE_2012_07_01, DATE_2012_07_27));
+        List<LocalDateRange> expected = Arrays.asList(
+                LocalDateRange.of(DATE_2012_07_01, DATE_2012_07_28),
+                LocalDateRange.of(DATE_2012_07_29, DATE_2012_08_01));
+        assertEquals(expected, LocalDateRange.merge(input));
+    }
+
+    @Test
+    public void test_merge_unbounded() {
+        List<LocalDateRange> input = Arrays.asList(
+                LocalDateRange.ofUnboundedEnd(DATE_2012_07_29),
+                LocalDateRange.ofUnboundedStart(DATE_2012_07_28),
+                LocalDateRange.of(DATE_2012_07_30, DATE_2012_08_01));
+        List<LocalDateRange> expected = Arrays.asList(
+                LocalDateRange.ofUnboundedStart(DATE_2012_07_28),
+                LocalDateRange.ofUnboundedEnd(DATE_2012_07_29));
+        assertEquals(expected, LocalDateRange.merge(input));
+        assertEquals(Arrays.asList(LocalDateRange.ALL), LocalDateRange.merge(Arrays.asList(LocalDateRange.ALL)));
+    }
+
+    @Test
+    public void test_merge_empty() {
+        assertEquals(new ArrayList<>(), LocalDateRange.merge(new ArrayList<>()));
+        assertEquals(new ArrayList<>(), LocalDateRange.merge(Arrays.asList(LocalDateRange.ofEmpty(DATE_2012_07_28))));
+    }
+
+    @Test
+    public void test_merge_null() {
+        assertThrows(NullPointerException.class, () -> LocalDateRange.merge(null));
+        assertThrows(NullPointerException.class, () -> LocalDateRange.merge(Arrays.asList((LocalDateRange) null)));
+    }
+
+    @Test
+    public void test_gaps() {
+        List<LocalDateRange> input = Arrays.asList(
+                LocalDateRange.of(DATE_2012_07_29, DATE_2012_07_30),
+                LocalDateRange.of(DATE_2012_07_01, DATE_2012_07_27),
+                LocalDateRange.of(DATE_2012_08_01, DATE_2012_08_31));
+        LocalDateRange within = LocalDateRange.of(DATE_2012_07_27, DATE_2012_08_01);
+        List<LocalDateRange> expected = Arrays.asList(
+                LocalDateRange.of(DATE_2012_07_27, DATE_2012_07_29),
+                LocalDateRange.of(DATE_2012_07_30, DATE_2012_08_01));
+        assertEquals(expected, LocalDateRange.gaps(input, within));
+    }
+
+    @Test
+    public void test_gaps_unbounded() {
+        List<LocalDateRange> input = Arrays.asList(LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_30));
+        List<LocalDateRange> expected = Arrays.asList(
+                LocalDateRange.ofUnboundedStart(DATE_2012_07_28),
+                LocalDateRange.ofUnboundedEnd(DATE_2012_07_30));
+        assertEquals(expected, LocalDateRange.gaps(input, LocalDateRange.ALL));
+        assertEquals(Arrays.asList(LocalDateRange.ALL), LocalDateRange.gaps(new ArrayList<>(), LocalDateRange.ALL));
+        assertEquals(new ArrayList<>(), LocalDateRange.gaps(Arrays.asList(LocalDateRange.ALL), LocalDateRange.ALL));
+    }
+
+    @Test
+    public void test_gaps_fullyCovered() {
+        List<LocalDateRange> input = Arrays.asList(
+                LocalDateRange.of(DATE_2012_07_01, DATE_2012_07_29),
+                LocalDateRange.of(DATE_2012_07_29, DATE_2012_08_31));
+        assertEquals(new ArrayList<>(), LocalDateRange.gaps(input, LocalDateRange.of(DATE_2012_07_27, DATE_2012_08_01)));
+    }
+
+    @Test
+    public void test_maxOverlap() {
+        List<LocalDateRange> input = Arrays.asList(
+                LocalDateRange.of(DATE_2012_07_01, DATE_2012_07_29),
+                LocalDateRange.of(DATE_2012_07_29, DATE_2012_07_31),
+                LocalDateRange.of(DATE_2012_07_27, DATE_2012_07_29),
+                LocalDateRange.of(DATE_2012_07_28, DATE_2012_08_01),
+                LocalDateRange.ofEmpty(DATE_2012_07_28));
+        assertEquals(3, LocalDateRange.maxOverlap(input));
+        assertEquals(0, LocalDateRange.maxOverlap(new ArrayList<>()));
+        assertEquals(2, LocalDateRange.maxOverlap(Arrays.asList(LocalDateRange.ALL, LocalDateRange.ofUnboundedEnd(MAXM2))));
+    }
+
+    @Test
+    public void test_coverageByDay() {
+        List<LocalDateRange> input = Arrays.asList(
+                LocalDateRange.of(DATE_2012_07_01, DATE_2012_07_29),
+                LocalDateRange.of(DATE_2012_07_29, DATE_2012_07_31),
+                LocalDateRange.of(DATE_2012_07_28, DATE_2012_08_31),
+                LocalDateRange.ofUnboundedEnd(DATE_2012_07_30));
+        LocalDateRange within = LocalDateRange.of(DATE_2012_07_27, DATE_2012_08_01);
+        assertArrayEquals(new int[] {1, 2, 2, 3, 2}, LocalDateRange.coverageByDay(input, within));
+        assertArrayEquals(new int[0], LocalDateRange.coverageByDay(input, LocalDateRange.ofEmpty(DATE_2012_07_27)));
+    }
+
+    @Test
+    public void test_coverageByDay_unbounded() {
+        assertThrows(DateTimeException.class, () -> LocalDateRange.coverageByDay(new ArrayList<>(), LocalDateRange.ALL));
+    }
+
+    @Test
+    public void test_bulk_crossCheckPairwise() {
+        Random random = new Random(1234);
+        List<LocalDateRange> input = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            LocalDate start = DATE_2012_07_01.plusDays(random.nextInt(300));
+            input.add(LocalDateRange.of(start, start.plusDays(random.nextInt(10))));
+        }
+        LocalDateRange within = LocalDateRange.of(DATE_2012_07_01, DATE_2012_07_01.plusDays(320));
+        int[] coverage = LocalDateRange.coverageByDay(input, within);
+        List<LocalDateRange> merged = LocalDateRange.merge(input);
+        List<LocalDateRange> gaps = LocalDateRange.gaps(input, within);
+        int max = 0;
+        for (int i = 0; i < coverage.length; i++) {
+            LocalDate date = within.getStart().plusDays(i);
+            int expected = (int) input.stream().filter(r -> r.contains(date)).count();
+            assertEquals(expected, coverage[i]);
+            assertEquals(expected > 0, merged.stream().anyMatch(r -> r.contains(date)));
+            assertEquals(expected == 0, gaps.stream().anyMatch(r -> r.contains(date)));
+            max = Math.max(max, expected);
+        }
+        assertEquals(max, LocalDateRange.maxOverlap(input));
+        for (int i = 1; i < merged.size(); i++) {
+            assertFalse(merged.get(i - 1).isConnected(merged.get(i)));
+        }
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void test_stream() {
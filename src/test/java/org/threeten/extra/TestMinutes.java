@@ -99,6 +99,17 @@ public class TestMinutes {
         assertEquals(Integer.MIN_VALUE, Minutes.of(Integer.MIN_VALUE).getAmount());
     }
 
+    @Test
+    public void test_of_cached() {
+        assertSame(Minutes.of(2), Minutes.of(2));
+        assertSame(Minutes.of(1440), Minutes.of(1440));
+        assertSame(Minutes.of(2), Minutes.of(1).plus(1));
+        assertSame(Minutes.of(4), Minutes.of(2).multipliedBy(2));
+        assertSame(Minutes.of(2), Minutes.parse("PT2M"));
+        assertEquals(Minutes.of(1441), Minutes.of(1441));
+        assertEquals(Minutes.of(-2), Minutes.of(-2));
+    }
+
     @Test
     public void test_ofMinusOne() {
         assertEquals(-1, Hours.of(-1).getAmount());
@@ -226,6 +237,32 @@ public class TestMinutes {
         assertThrows(NullPointerException.class, () -> Minutes.parse((CharSequence) null));
     }
 
+    @ParameterizedTest
+    @MethodSource("data_valid")
+    public void test_parse_CharSequenceIntInt_valid(String str, int expected) {
+        assertEquals(Minutes.of(expected), Minutes.parse("xx" + str + "yy", 2, str.length()));
+        assertEquals(Minutes.of(-expected), Minutes.parse(new StringBuilder("-").append(str), 0, str.length() + 1));
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_invalid")
+    public void test_parse_CharSequenceIntInt_invalid(String str) {
+        assertThrows(DateTimeParseException.class, () -> Minutes.parse("xx" + str + "yy", 2, str.length()));
+    }
+
+    @Test
+    public void test_parse_CharSequenceIntInt_outOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> Minutes.parse("PT2M", -1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> Minutes.parse("PT2M", 0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> Minutes.parse("PT2M", 1, 4));
+    }
+
+    @Test
+    public void test_parse_CharSequenceIntInt_null() {
+        //noinspection DataFlowIssue - testing nulls
+        assertThrows(NullPointerException.class, () -> Minutes.parse((CharSequence) null, 0, 0));
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void test_plus_TemporalAmount_Minutes() {
@@ -115,6 +115,17 @@ public class TestMonths {
         assertEquals(Integer.MIN_VALUE, Months.of(Integer.MIN_VALUE).getAmount());
     }
 
+    @Test
+    public void test_of_cached() {
+        assertSame(Months.of(2), Months.of(2));
+        assertSame(Months.of(120), Months.of(120));
+        assertSame(Months.of(2), Months.of(1).plus(1));
+        assertSame(Months.of(4), Months.of(2).multipliedBy(2));
+        assertSame(Months.of(2), Months.parse("P2M"));
+        assertEquals(Months.of(121), Months.of(121));
+        assertEquals(Months.of(-2), Months.of(-2));
+    }
+
     @Test
     public void test_ofMinusOne() {
         assertEquals(-1, Months.of(-1).getAmount());
@@ -255,6 +266,32 @@ public class TestMonths {
         assertThrows(NullPointerException.class, () -> Months.parse((CharSequence) null));
     }
 
+    @ParameterizedTest
+    @MethodSource("data_valid")
+    public void test_parse_CharSequenceIntInt_valid(String str, int expected) {
+        assertEquals(Months.of(expected), Months.parse("xx" + str + "yy", 2, str.length()));
+        assertEquals(Months.of(-expected), Months.parse(new StringBuilder("-").append(str), 0, str.length() + 1));
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_invalid")
+    public void test_parse_CharSequenceIntInt_invalid(String str) {
+        assertThrows(DateTimeParseException.class, () -> Months.parse("xx" + str + "yy", 2, str.length()));
+    }
+
+    @Test
+    public void test_parse_CharSequenceIntInt_outOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> Months.parse("P2M", -1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> Months.parse("P2M", 0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> Months.parse("P2M", 1, 3));
+    }
+
+    @Test
+    public void test_parse_CharSequenceIntInt_null() {
+        //noinspection DataFlowIssue - testing nulls
+        assertThrows(NullPointerException.class, () -> Months.parse((CharSequence) null, 0, 0));
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void test_between() {
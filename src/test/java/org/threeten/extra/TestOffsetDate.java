@@ -1698,6 +1698,63 @@ public class TestOffsetDate extends AbstractDateTimeTest {
         assertEquals(12 * 60 * 60, od.toEpochSecond(LocalTime.MIDNIGHT.plusSeconds(12 * 60 * 60)));
     }
 
+    //-----------------------------------------------------------------------
+    // toPackedLong() / ofPackedLong(long)
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_toPackedLong() {
+        assertEquals(0, OffsetDate.of(1970, 1, 1, ZoneOffset.UTC).toPackedLong());
+        assertEquals(-3600 * 2, OffsetDate.of(1970, 1, 1, OFFSET_PONE).toPackedLong());
+        assertEquals(86400 * 2, OffsetDate.of(1970, 1, 2, ZoneOffset.UTC).toPackedLong());
+        // two dates starting at the same instant
+        assertEquals(21600 * 2, OffsetDate.of(1970, 1, 1, ZoneOffset.ofHours(-6)).toPackedLong());
+        assertEquals(21600 * 2 + 1, OffsetDate.of(1970, 1, 2, ZoneOffset.ofHours(18)).toPackedLong());
+    }
+
+    @Test
+    public void test_ofPackedLong_roundTrip() {
+        ZoneOffset[] offsets = {
+            ZoneOffset.UTC, OFFSET_PONE, ZoneOffset.ofHours(-6), ZoneOffset.ofHoursMinutesSeconds(5, 30, 15),
+            ZoneOffset.ofHoursMinutesSeconds(-17, -59, -59), ZoneOffset.MAX, ZoneOffset.MIN};
+        for (ZoneOffset offset : offsets) {
+            for (long epochDay = -1000; epochDay <= 1000; epochDay++) {
+                OffsetDate test = OffsetDate.of(LocalDate.ofEpochDay(epochDay), offset);
+                assertEquals(test, OffsetDate.ofPackedLong(test.toPackedLong()));
+                assertEquals(test.toEpochSecond(LocalTime.MIDNIGHT), test.toPackedLong() >> 1);
+            }
+        }
+        assertEquals(OffsetDate.MIN, OffsetDate.ofPackedLong(OffsetDate.MIN.toPackedLong()));
+        assertEquals(OffsetDate.MAX, OffsetDate.ofPackedLong(OffsetDate.MAX.toPackedLong()));
+        assertEquals(OffsetDate.of(LocalDate.MIN, ZoneOffset.MIN), OffsetDate.ofPackedLong(OffsetDate.of(LocalDate.MIN, ZoneOffset.MIN).toPackedLong()));
+        assertEquals(OffsetDate.of(LocalDate.MAX, ZoneOffset.MAX), OffsetDate.ofPackedLong(OffsetDate.of(LocalDate.MAX, ZoneOffset.MAX).toPackedLong()));
+    }
+
+    @Test
+    public void test_ofPackedLong_invalid() {
+        // the instant 1970-01-01T00:00Z cannot be the start of 1970-01-02 in any offset
+        assertThrows(DateTimeException.class, () -> OffsetDate.ofPackedLong(1));
+        assertThrows(DateTimeException.class, () -> OffsetDate.ofPackedLong(OffsetDate.MIN.toPackedLong() - 1));
+        assertThrows(DateTimeException.class, () -> OffsetDate.ofPackedLong(OffsetDate.MAX.toPackedLong() + 2));
+        assertThrows(DateTimeException.class, () -> OffsetDate.ofPackedLong(Long.MAX_VALUE));
+        assertThrows(DateTimeException.class, () -> OffsetDate.ofPackedLong(Long.MIN_VALUE));
+    }
+
+    @Test
+    public void test_toPackedLong_order() {
+        List<OffsetDate> dates = new ArrayList<>();
+        for (int hours = -18; hours <= 18; hours += 3) {
+            for (int day = 1; day <= 5; day++) {
+                dates.add(OffsetDate.of(2008, 6, day, ZoneOffset.ofHours(hours)));
+            }
+        }
+        for (OffsetDate a : dates) {
+            for (OffsetDate b : dates) {
+                assertEquals(Integer.signum(a.compareTo(b)), Long.signum(Long.compare(a.toPackedLong(), b.toPackedLong())));
+                assertEquals(a.equals(b), a.toPackedLong() == b.toPackedLong());
+            }
+        }
+    }
+
     //-----------------------------------------------------------------------
     // compareTo()
     //-----------------------------------------------------------------------
@@ -1849,6 +1906,31 @@ public class TestOffsetDate extends AbstractDateTimeTest {
         assertThrows(NullPointerException.class, () -> a.isEqual(null));
     }
 
+    //-----------------------------------------------------------------------
+    // sortDistinct(OffsetDate[])
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_sortDistinct() {
+        OffsetDate a = OffsetDate.of(2008, 6, 29, ZoneOffset.ofHours(-11));
+        OffsetDate b = OffsetDate.of(2008, 6, 29, ZoneOffset.ofHours(-12));
+        OffsetDate c = OffsetDate.of(2008, 6, 30, ZoneOffset.ofHours(12));
+        OffsetDate d = OffsetDate.of(2008, 6, 29, ZoneOffset.ofHours(-13));
+        OffsetDate[] dates = {d, c, a, b, OffsetDate.of(2008, 6, 30, ZoneOffset.ofHours(12)), a, d};
+        assertEquals(4, OffsetDate.sortDistinct(dates));
+        assertEquals(Arrays.asList(a, b, c, d), Arrays.asList(dates).subList(0, 4));
+    }
+
+    @Test
+    public void test_sortDistinct_empty() {
+        assertEquals(0, OffsetDate.sortDistinct(new OffsetDate[0]));
+    }
+
+    @Test
+    public void test_sortDistinct_nullElement() {
+        OffsetDate[] dates = {TEST_2007_07_15_PONE, null};
+        assertThrows(NullPointerException.class, () -> OffsetDate.sortDistinct(dates));
+    }
+
     //-----------------------------------------------------------------------
     // equals() / hashCode()
     //-----------------------------------------------------------------------
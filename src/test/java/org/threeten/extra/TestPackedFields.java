@@ -33,14 +33,18 @@ package org.threeten.extra;
 
 import static java.time.temporal.ChronoUnit.DAYS;
 import static java.time.temporal.ChronoUnit.FOREVER;
+import static java.time.temporal.ChronoUnit.MILLIS;
 import static java.time.temporal.ChronoUnit.MINUTES;
 import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.time.DateTimeException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
@@ -230,4 +234,248 @@ public class TestPackedFields {
         assertEquals(LocalTime.of(12, 14, 1), LocalTime.parse("117361", f.withResolverStyle(ResolverStyle.LENIENT)));
     }
 
+    //-----------------------------------------------------------------------
+    // packedDateTime()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_dateTime_basics() {
+        assertEquals("PackedDateTime", PackedFields.PACKED_DATE_TIME.toString());
+        assertEquals(SECONDS, PackedFields.PACKED_DATE_TIME.getBaseUnit());
+        assertEquals(FOREVER, PackedFields.PACKED_DATE_TIME.getRangeUnit());
+        assertEquals(false, PackedFields.PACKED_DATE_TIME.isDateBased());
+        assertEquals(false, PackedFields.PACKED_DATE_TIME.isTimeBased());
+        assertEquals(true, PackedFields.PACKED_DATE_TIME.isSupportedBy(LocalDateTime.of(2015, 3, 12, 11, 30)));
+        assertEquals(false, PackedFields.PACKED_DATE_TIME.isSupportedBy(LocalDate.of(2015, 3, 12)));
+        assertEquals(false, PackedFields.PACKED_DATE_TIME.isSupportedBy(LocalTime.of(11, 30)));
+        assertEquals(10000101000000L, PackedFields.PACKED_DATE_TIME.range().getMinimum());
+        assertEquals(99991231235959L, PackedFields.PACKED_DATE_TIME.range().getMaximum());
+    }
+
+    @Test
+    public void test_dateTime_rangeRefinedBy() {
+        assertEquals(PackedFields.PACKED_DATE_TIME.range(), LocalDateTime.of(2015, 3, 12, 11, 30).range(PackedFields.PACKED_DATE_TIME));
+        assertThrows(DateTimeException.class, () -> PackedFields.PACKED_DATE_TIME.rangeRefinedBy(LocalDate.of(2015, 3, 12)));
+    }
+
+    @Test
+    public void test_dateTime_getFrom() {
+        assertEquals(20151203113052L, LocalDateTime.of(2015, 12, 3, 11, 30, 52, 999).getLong(PackedFields.PACKED_DATE_TIME));
+        assertEquals(10000101000000L, LocalDateTime.of(1000, 1, 1, 0, 0).getLong(PackedFields.PACKED_DATE_TIME));
+        assertEquals(99991231235959L, LocalDateTime.of(9999, 12, 31, 23, 59, 59).getLong(PackedFields.PACKED_DATE_TIME));
+        assertThrows(DateTimeException.class, () -> LocalDateTime.of(999, 12, 31, 23, 59).getLong(PackedFields.PACKED_DATE_TIME));
+    }
+
+    @Test
+    public void test_dateTime_adjustInto() {
+        assertEquals(LocalDateTime.of(2015, 12, 3, 11, 30, 52, 999),
+                LocalDateTime.of(2000, 1, 1, 0, 0, 0, 999).with(PackedFields.PACKED_DATE_TIME, 20151203113052L));
+        assertThrows(DateTimeException.class, () -> LocalDateTime.MIN.with(PackedFields.PACKED_DATE_TIME, 123010100000L));
+        assertThrows(DateTimeException.class, () -> LocalDateTime.MIN.with(PackedFields.PACKED_DATE_TIME, 20151403113052L));
+        assertThrows(DateTimeException.class, () -> LocalDateTime.MIN.with(PackedFields.PACKED_DATE_TIME, 20151203117352L));
+    }
+
+    @Test
+    public void test_dateTime_resolve() {
+        DateTimeFormatter f = new DateTimeFormatterBuilder().appendValue(PackedFields.PACKED_DATE_TIME).toFormatter();
+        assertEquals(LocalDateTime.of(2015, 12, 3, 11, 30, 52), LocalDateTime.parse("20151203113052", f));
+    }
+
+    @Test
+    public void test_dateTime_resolve_invalid_smart() {
+        DateTimeFormatter f = new DateTimeFormatterBuilder().appendValue(PackedFields.PACKED_DATE_TIME).toFormatter();
+        assertThrows(DateTimeParseException.class,
+                () -> LocalDateTime.parse("20151403113052", f.withResolverStyle(ResolverStyle.SMART)));
+        assertThrows(DateTimeParseException.class,
+                () -> LocalDateTime.parse("20151203117361", f.withResolverStyle(ResolverStyle.SMART)));
+    }
+
+    @Test
+    public void test_dateTime_resolve_invalid_lenient() {
+        DateTimeFormatter f = new DateTimeFormatterBuilder().appendValue(PackedFields.PACKED_DATE_TIME).toFormatter();
+        assertEquals(LocalDateTime.of(2013, 1, 1, 11, 13, 10),
+                LocalDateTime.parse("20121301107310", f.withResolverStyle(ResolverStyle.LENIENT)));
+        assertEquals(LocalDateTime.of(2016, 2, 4, 0, 14, 1),
+                LocalDateTime.parse("20151403237361", f.withResolverStyle(ResolverStyle.LENIENT)));
+    }
+
+    @Test
+    public void test_dateTimeMillis_basics() {
+        assertEquals("PackedDateTimeMillis", PackedFields.PACKED_DATE_TIME_MILLIS.toString());
+        assertEquals(MILLIS, PackedFields.PACKED_DATE_TIME_MILLIS.getBaseUnit());
+        assertEquals(FOREVER, PackedFields.PACKED_DATE_TIME_MILLIS.getRangeUnit());
+        assertEquals(true, PackedFields.PACKED_DATE_TIME_MILLIS.isSupportedBy(LocalDateTime.of(2015, 3, 12, 11, 30)));
+        assertEquals(false, PackedFields.PACKED_DATE_TIME_MILLIS.isSupportedBy(LocalDate.of(2015, 3, 12)));
+        assertEquals(10000101000000000L, PackedFields.PACKED_DATE_TIME_MILLIS.range().getMinimum());
+        assertEquals(99991231235959999L, PackedFields.PACKED_DATE_TIME_MILLIS.range().getMaximum());
+    }
+
+    @Test
+    public void test_dateTimeMillis_getFromAndAdjustInto() {
+        LocalDateTime dateTime = LocalDateTime.of(2015, 12, 3, 11, 30, 52, 123_456_789);
+        assertEquals(20151203113052123L, dateTime.getLong(PackedFields.PACKED_DATE_TIME_MILLIS));
+        assertEquals(LocalDateTime.of(2015, 12, 3, 11, 30, 52, 123_000_000),
+                LocalDateTime.MIN.with(PackedFields.PACKED_DATE_TIME_MILLIS, 20151203113052123L));
+        assertThrows(DateTimeException.class, () -> LocalDateTime.MIN.with(PackedFields.PACKED_DATE_TIME_MILLIS, 20151203113052L));
+    }
+
+    @Test
+    public void test_dateTimeMillis_resolve() {
+        DateTimeFormatter f = new DateTimeFormatterBuilder().appendValue(PackedFields.PACKED_DATE_TIME_MILLIS).toFormatter();
+        assertEquals(LocalDateTime.of(2015, 12, 3, 11, 30, 52, 7_000_000), LocalDateTime.parse("20151203113052007", f));
+        assertThrows(DateTimeParseException.class, () -> LocalDateTime.parse("20151203113060007", f));
+    }
+
+    //-----------------------------------------------------------------------
+    // static codecs
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_packDate() {
+        assertEquals(20151203, PackedFields.packDate(LocalDate.of(2015, 12, 3).toEpochDay()));
+        assertEquals(10000101, PackedFields.packDate(LocalDate.of(1000, 1, 1).toEpochDay()));
+        assertEquals(99991231, PackedFields.packDate(LocalDate.of(9999, 12, 31).toEpochDay()));
+        assertEquals(20000229, PackedFields.packDate(LocalDate.of(2000, 2, 29).toEpochDay()));
+        assertThrows(DateTimeException.class, () -> PackedFields.packDate(LocalDate.of(999, 12, 31).toEpochDay()));
+        assertThrows(DateTimeException.class, () -> PackedFields.packDate(LocalDate.of(10000, 1, 1).toEpochDay()));
+        assertThrows(DateTimeException.class, () -> PackedFields.packDate(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void test_packDate_matchesField() {
+        for (LocalDate date = LocalDate.of(1000, 1, 1); date.getYear() < 10000; date = date.plusDays(97)) {
+            int packed = date.get(PackedFields.PACKED_DATE);
+            assertEquals(packed, PackedFields.packDate(date.toEpochDay()));
+            assertEquals(date.toEpochDay(), PackedFields.unpackToEpochDay(packed));
+        }
+    }
+
+    @Test
+    public void test_unpackToEpochDay() {
+        assertEquals(LocalDate.of(2015, 12, 3).toEpochDay(), PackedFields.unpackToEpochDay(20151203));
+        assertEquals(LocalDate.of(2000, 2, 29).toEpochDay(), PackedFields.unpackToEpochDay(20000229));
+        assertEquals(LocalDate.of(2016, 12, 31).toEpochDay(), PackedFields.unpackToEpochDay(20161231));
+        assertThrows(DateTimeException.class, () -> PackedFields.unpackToEpochDay(1230101));
+        assertThrows(DateTimeException.class, () -> PackedFields.unpackToEpochDay(20151403));
+        assertThrows(DateTimeException.class, () -> PackedFields.unpackToEpochDay(20151200));
+        assertThrows(DateTimeException.class, () -> PackedFields.unpackToEpochDay(20150431));
+        assertThrows(DateTimeException.class, () -> PackedFields.unpackToEpochDay(19000229));
+    }
+
+    @Test
+    public void test_packDate_arrays() {
+        long[] epochDays = {LocalDate.of(2015, 12, 3).toEpochDay(), LocalDate.of(1999, 1, 31).toEpochDay()};
+        int[] packed = new int[2];
+        PackedFields.packDate(epochDays, packed);
+        assertArrayEquals(new int[] {20151203, 19990131}, packed);
+        long[] unpacked = new long[2];
+        PackedFields.unpackToEpochDay(packed, unpacked);
+        assertArrayEquals(epochDays, unpacked);
+        assertThrows(IllegalArgumentException.class, () -> PackedFields.packDate(epochDays, new int[3]));
+        assertThrows(IllegalArgumentException.class, () -> PackedFields.unpackToEpochDay(packed, new long[1]));
+        assertThrows(DateTimeException.class, () -> PackedFields.unpackToEpochDay(new int[] {20151203, 0}, new long[2]));
+    }
+
+    @Test
+    public void test_packHourMin() {
+        assertEquals(1130, PackedFields.packHourMin(690));
+        assertEquals(0, PackedFields.packHourMin(0));
+        assertEquals(2359, PackedFields.packHourMin(1439));
+        assertThrows(DateTimeException.class, () -> PackedFields.packHourMin(-1));
+        assertThrows(DateTimeException.class, () -> PackedFields.packHourMin(1440));
+        assertEquals(690, PackedFields.unpackToMinuteOfDay(1130));
+        assertEquals(1439, PackedFields.unpackToMinuteOfDay(2359));
+        assertThrows(DateTimeException.class, () -> PackedFields.unpackToMinuteOfDay(1073));
+        assertThrows(DateTimeException.class, () -> PackedFields.unpackToMinuteOfDay(2400));
+        assertThrows(DateTimeException.class, () -> PackedFields.unpackToMinuteOfDay(-1));
+    }
+
+    @Test
+    public void test_packHourMin_arrays() {
+        int[] values = {690, 0, 1439};
+        PackedFields.packHourMin(values, values);
+        assertArrayEquals(new int[] {1130, 0, 2359}, values);
+        PackedFields.unpackToMinuteOfDay(values, values);
+        assertArrayEquals(new int[] {690, 0, 1439}, values);
+        assertThrows(IllegalArgumentException.class, () -> PackedFields.packHourMin(values, new int[2]));
+        assertThrows(IllegalArgumentException.class, () -> PackedFields.unpackToMinuteOfDay(values, new int[4]));
+    }
+
+    @Test
+    public void test_packTime() {
+        assertEquals(113052, PackedFields.packTime(41452));
+        assertEquals(0, PackedFields.packTime(0));
+        assertEquals(235959, PackedFields.packTime(86399));
+        assertThrows(DateTimeException.class, () -> PackedFields.packTime(-1));
+        assertThrows(DateTimeException.class, () -> PackedFields.packTime(86400));
+        assertEquals(41452, PackedFields.unpackToSecondOfDay(113052));
+        assertEquals(86399, PackedFields.unpackToSecondOfDay(235959));
+        assertThrows(DateTimeException.class, () -> PackedFields.unpackToSecondOfDay(127310));
+        assertThrows(DateTimeException.class, () -> PackedFields.unpackToSecondOfDay(117361));
+        assertThrows(DateTimeException.class, () -> PackedFields.unpackToSecondOfDay(240000));
+        assertThrows(DateTimeException.class, () -> PackedFields.unpackToSecondOfDay(-1));
+    }
+
+    @Test
+    public void test_packTime_arrays() {
+        int[] values = {41452, 0, 86399};
+        PackedFields.packTime(values, values);
+        assertArrayEquals(new int[] {113052, 0, 235959}, values);
+        PackedFields.unpackToSecondOfDay(values, values);
+        assertArrayEquals(new int[] {41452, 0, 86399}, values);
+        assertThrows(IllegalArgumentException.class, () -> PackedFields.packTime(values, new int[2]));
+        assertThrows(IllegalArgumentException.class, () -> PackedFields.unpackToSecondOfDay(values, new int[4]));
+    }
+
+    @Test
+    public void test_packDateTime() {
+        LocalDateTime dateTime = LocalDateTime.of(2015, 12, 3, 11, 30, 52, 123_456_789);
+        long epochSecond = dateTime.toEpochSecond(ZoneOffset.UTC);
+        assertEquals(20151203113052L, PackedFields.packDateTime(dateTime));
+        assertEquals(20151203113052L, PackedFields.packDateTime(epochSecond));
+        assertEquals(epochSecond, PackedFields.unpackToEpochSecond(20151203113052L));
+        assertEquals(dateTime.withNano(0), PackedFields.unpackToLocalDateTime(20151203113052L));
+        LocalDateTime before1970 = LocalDateTime.of(1969, 12, 31, 23, 59, 59);
+        assertEquals(19691231235959L, PackedFields.packDateTime(before1970.toEpochSecond(ZoneOffset.UTC)));
+        assertEquals(-1, PackedFields.unpackToEpochSecond(19691231235959L));
+        assertThrows(DateTimeException.class, () -> PackedFields.packDateTime(LocalDateTime.of(999, 12, 31, 23, 59)));
+        assertThrows(DateTimeException.class, () -> PackedFields.unpackToEpochSecond(20151203113060L));
+        assertThrows(DateTimeException.class, () -> PackedFields.unpackToEpochSecond(20151203L));
+        assertThrows(DateTimeException.class, () -> PackedFields.unpackToLocalDateTime(20150229113052L));
+    }
+
+    @Test
+    public void test_packDateTimeMillis() {
+        LocalDateTime dateTime = LocalDateTime.of(2015, 12, 3, 11, 30, 52, 123_456_789);
+        long epochMilli = dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+        assertEquals(20151203113052123L, PackedFields.packDateTimeMillis(dateTime));
+        assertEquals(20151203113052123L, PackedFields.packDateTimeMillis(epochMilli));
+        assertEquals(epochMilli, PackedFields.unpackToEpochMilli(20151203113052123L));
+        assertEquals(dateTime.withNano(123_000_000), PackedFields.unpackMillisToLocalDateTime(20151203113052123L));
+        assertEquals(19691231235959999L, PackedFields.packDateTimeMillis(-1));
+        assertEquals(-1, PackedFields.unpackToEpochMilli(19691231235959999L));
+        assertThrows(DateTimeException.class, () -> PackedFields.unpackToEpochMilli(20151203113052L));
+        assertThrows(DateTimeException.class, () -> PackedFields.unpackMillisToLocalDateTime(20151203246052123L));
+    }
+
+    @Test
+    public void test_packDateTime_arrays() {
+        long[] values = {
+            LocalDateTime.of(2015, 12, 3, 11, 30, 52).toEpochSecond(ZoneOffset.UTC),
+            LocalDateTime.of(1000, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC)};
+        long[] original = values.clone();
+        PackedFields.packDateTime(values, values);
+        assertArrayEquals(new long[] {20151203113052L, 10000101000000L}, values);
+        PackedFields.unpackToEpochSecond(values, values);
+        assertArrayEquals(original, values);
+        long[] millis = {1000L, -1L};
+        long[] packed = new long[2];
+        PackedFields.packDateTimeMillis(millis, packed);
+        assertArrayEquals(new long[] {19700101000001000L, 19691231235959999L}, packed);
+        PackedFields.unpackToEpochMilli(packed, packed);
+        assertArrayEquals(millis, packed);
+        assertThrows(IllegalArgumentException.class, () -> PackedFields.packDateTime(values, new long[1]));
+        assertThrows(IllegalArgumentException.class, () -> PackedFields.unpackToEpochSecond(values, new long[3]));
+        assertThrows(IllegalArgumentException.class, () -> PackedFields.packDateTimeMillis(values, new long[1]));
+        assertThrows(IllegalArgumentException.class, () -> PackedFields.unpackToEpochMilli(values, new long[3]));
+    }
+
 }
@@ -40,6 +40,8 @@ import static java.time.temporal.ChronoUnit.NANOS;
 import static java.time.temporal.ChronoUnit.SECONDS;
 import static java.time.temporal.ChronoUnit.YEARS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -50,11 +52,15 @@ import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.time.DateTimeException;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.Temporal;
 import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
@@ -217,6 +223,15 @@ public class TestPeriodDuration {
                 {"P+2M", Period.of(0, 2, 0), Duration.ZERO},
                 {"P-0M", Period.of(0, 0, 0), Duration.ZERO},
                 {"P-2M", Period.of(0, -2, 0), Duration.ZERO},
+
+                {"p1y2m3w4dt5h6m7.5s", Period.of(1, 2, 3 * 7 + 4), Duration.ofHours(5).plusMinutes(6).plusMillis(7500)},
+                {"P1DT-0.5S", Period.ofDays(1), Duration.ofMillis(-500)},
+                {"PT1,25S", Period.ZERO, Duration.ofMillis(1250)},
+                {"PT0.123456789S", Period.ZERO, Duration.ofNanos(123456789)},
+                {"P-2W3DT-1H2M", Period.ofDays(-11), Duration.ofMinutes(-58)},
+                {"P2147483647Y", Period.ofYears(Integer.MAX_VALUE), Duration.ZERO},
+                {"PT2562047788015215H", Period.ZERO, Duration.ofHours(2562047788015215L)},
+                {"PT9223372036854775807S", Period.ZERO, Duration.ofSeconds(Long.MAX_VALUE)},
         };
     }
 
@@ -252,6 +267,14 @@ public class TestPeriodDuration {
                 {"PH"},
                 {"T"},
                 {"T3H"},
+                {"P"},
+                {"PT"},
+                {"P1DT"},
+                {"PT1.5H"},
+                {"PT1.1234567891S"},
+                {"P2147483648Y"},
+                {"PT2562047788015216H"},
+                {"PT153722867280912930M820S"},
         };
     }
 
@@ -378,6 +401,95 @@ public class TestPeriodDuration {
         assertEquals(LocalDateTime.of(2013, 8, 23, 11, 30, 5), PeriodDuration.of(P1Y2M3D, DUR_5).addTo(base));
     }
 
+    public static Object[][] data_addTo() {
+        ZoneId london = ZoneId.of("Europe/London");
+        LocalDateTime ldt = LocalDateTime.of(2012, 2, 29, 23, 59, 59, 500_000_000);
+        return new Object[][] {
+            {LocalDateTime.of(2012, 6, 20, 11, 30)},
+            {ldt},
+            {ldt.atOffset(ZoneOffset.ofHours(2))},
+            {ldt.atZone(london)},
+            {LocalDateTime.of(2012, 3, 24, 1, 30).atZone(london)},
+            {LocalDateTime.of(2012, 10, 27, 1, 30).atZone(london)},
+            {LocalDateTime.of(2012, 10, 28, 1, 30).atZone(london).withLaterOffsetAtOverlap()},
+            {LocalDate.of(2012, 6, 20)},
+            {LocalTime.of(11, 30)},
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_addTo")
+    public void test_addTo_matchesPeriodThenDuration(Temporal base) {
+        Period[] periods = {Period.ZERO, P1Y2M3D, Period.ofYears(1), Period.ofMonths(-13), Period.ofDays(-400)};
+        Duration[] durations = {Duration.ZERO, DUR_5, Duration.ofHours(1), Duration.ofNanos(-1), Duration.ofSeconds(-200_000, 600_000_000)};
+        for (Period period : periods) {
+            for (Duration duration : durations) {
+                PeriodDuration test = PeriodDuration.of(period, duration);
+                if (base instanceof LocalDate && !duration.isZero() || base instanceof LocalTime && !period.isZero()) {
+                    assertThrows(DateTimeException.class, () -> test.addTo(base));
+                } else {
+                    assertEquals(base.plus(period).plus(duration), test.addTo(base));
+                    assertEquals(base.plus(period).plus(duration), PeriodDuration.accumulator().plus(test).addTo(base));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test_addTo_instant() {
+        Instant base = Instant.ofEpochSecond(1_000_000, 500_000_000);
+        assertEquals(Instant.ofEpochSecond(1_259_206), PeriodDuration.of(Period.ofDays(3), DUR_5.plusMillis(500)).addTo(base));
+        assertEquals(base, PeriodDuration.ZERO.addTo(base));
+        assertThrows(DateTimeException.class, () -> PeriodDuration.of(P1Y2M3D).addTo(base));
+    }
+
+    @Test
+    public void test_addTo_limits() {
+        LocalDateTime min = LocalDateTime.MIN.plusNanos(500_000_000);
+        PeriodDuration test = PeriodDuration.of(Duration.ofMillis(-100));
+        assertEquals(LocalDateTime.MIN.plusNanos(1_400_000_000), test.addTo(min.plusSeconds(1)));
+        // the seconds are added before the nanoseconds
+        assertThrows(DateTimeException.class, () -> test.addTo(min));
+        assertThrows(DateTimeException.class, () -> PeriodDuration.of(Duration.ofMillis(-600)).addTo(Instant.MIN.plusMillis(500)));
+        assertThrows(DateTimeException.class, () -> PeriodDuration.of(DUR_5).addTo(LocalDateTime.MAX));
+        assertThrows(DateTimeException.class, () -> PeriodDuration.of(DUR_5).addTo(Instant.MAX));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_accumulator() {
+        PeriodDuration.Accumulator test = PeriodDuration.accumulator();
+        assertTrue(test.isZero());
+        assertSame(PeriodDuration.ZERO, test.toPeriodDuration());
+        test.plus(PeriodDuration.of(P1Y2M3D, Duration.ofMillis(700)))
+                .plus(Period.ofDays(-5))
+                .plus(Duration.ofMillis(600))
+                .minus(PeriodDuration.of(Period.ofMonths(1), Duration.ofSeconds(-3, 900_000_000)));
+        PeriodDuration expected = PeriodDuration.of(P1Y2M3D, Duration.ofMillis(700))
+                .plus(Period.ofDays(-5))
+                .plus(Duration.ofMillis(600))
+                .minus(PeriodDuration.of(Period.ofMonths(1), Duration.ofSeconds(-3, 900_000_000)));
+        assertEquals(expected, test.toPeriodDuration());
+        assertEquals(expected.toString(), test.toString());
+        assertFalse(test.isZero());
+        test.plus(0, 0, 1, -1, 500_000_000);
+        assertEquals(PeriodDuration.of(Period.of(1, 1, -1), Duration.ofMillis(2_900)), test.toPeriodDuration());
+        assertTrue(test.reset().isZero());
+    }
+
+    @Test
+    public void test_accumulator_overflow() {
+        PeriodDuration.Accumulator test = PeriodDuration.accumulator().plus(Duration.ofSeconds(Long.MAX_VALUE, 999_999_999));
+        PeriodDuration before = test.toPeriodDuration();
+        assertThrows(ArithmeticException.class, () -> test.plus(Duration.ofNanos(1)));
+        assertThrows(ArithmeticException.class, () -> test.plus(Period.ofDays(1)).plus(Duration.ofNanos(1)));
+        assertEquals(before.plus(Period.ofDays(1)), test.toPeriodDuration());
+        assertThrows(ArithmeticException.class, () -> test.minus(PeriodDuration.of(Period.ofYears(Integer.MIN_VALUE))));
+        assertThrows(DateTimeException.class, () -> test.plus(0, 0, 0, 0, -1));
+        assertThrows(DateTimeException.class, () -> test.plus(0, 0, 0, 0, 1_000_000_000));
+        assertEquals(before.plus(Period.ofDays(1)), test.toPeriodDuration());
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void test_subtractFrom() {
@@ -151,6 +151,48 @@ public class TestQuarter {
         assertThrows(DateTimeException.class, () -> Quarter.ofMonth(13));
     }
 
+    //-----------------------------------------------------------------------
+    // ofEpochDay(long)
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_ofEpochDay() {
+        assertEquals(Quarter.Q4, Quarter.ofEpochDay(16772));
+        for (long epochDay = -800_000; epochDay <= 800_000; epochDay++) {
+            assertSame(Quarter.from(LocalDate.ofEpochDay(epochDay)), Quarter.ofEpochDay(epochDay));
+        }
+        assertSame(Quarter.from(LocalDate.MIN), Quarter.ofEpochDay(LocalDate.MIN.toEpochDay()));
+        assertSame(Quarter.from(LocalDate.MAX), Quarter.ofEpochDay(LocalDate.MAX.toEpochDay()));
+    }
+
+    @Test
+    public void test_ofEpochDay_invalid() {
+        assertThrows(DateTimeException.class, () -> Quarter.ofEpochDay(LocalDate.MIN.toEpochDay() - 1));
+        assertThrows(DateTimeException.class, () -> Quarter.ofEpochDay(LocalDate.MAX.toEpochDay() + 1));
+    }
+
+    //-----------------------------------------------------------------------
+    // ofEpochDay(long[], int[])
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_ofEpochDay_array() {
+        long[] epochDays = {-1, 0, 59, 16772, LocalDate.MIN.toEpochDay(), LocalDate.MAX.toEpochDay()};
+        int[] values = new int[epochDays.length];
+        Quarter.ofEpochDay(epochDays, values);
+        for (int i = 0; i < epochDays.length; i++) {
+            assertEquals(LocalDate.ofEpochDay(epochDays[i]).get(QUARTER_OF_YEAR), values[i]);
+        }
+    }
+
+    @Test
+    public void test_ofEpochDay_array_lengthMismatch() {
+        assertThrows(IllegalArgumentException.class, () -> Quarter.ofEpochDay(new long[2], new int[1]));
+    }
+
+    @Test
+    public void test_ofEpochDay_array_invalid() {
+        assertThrows(DateTimeException.class, () -> Quarter.ofEpochDay(new long[] {0, Long.MAX_VALUE}, new int[2]));
+    }
+
     //-----------------------------------------------------------------------
     // from(TemporalAccessor)
     //-----------------------------------------------------------------------
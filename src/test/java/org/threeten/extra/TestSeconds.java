@@ -99,6 +99,17 @@ public class TestSeconds {
         assertEquals(Integer.MIN_VALUE, Seconds.of(Integer.MIN_VALUE).getAmount());
     }
 
+    @Test
+    public void test_of_cached() {
+        assertSame(Seconds.of(2), Seconds.of(2));
+        assertSame(Seconds.of(3600), Seconds.of(3600));
+        assertSame(Seconds.of(2), Seconds.of(1).plus(1));
+        assertSame(Seconds.of(4), Seconds.of(2).multipliedBy(2));
+        assertSame(Seconds.of(2), Seconds.parse("PT2S"));
+        assertEquals(Seconds.of(3601), Seconds.of(3601));
+        assertEquals(Seconds.of(-2), Seconds.of(-2));
+    }
+
     @Test
     public void test_ofMinusOne() {
         assertEquals(-1, Seconds.of(-1).getAmount());
@@ -258,6 +269,44 @@ public class TestSeconds {
         assertThrows(NullPointerException.class, () -> Seconds.parse((CharSequence) null));
     }
 
+    @ParameterizedTest
+    @MethodSource("data_valid")
+    public void test_parse_CharSequenceIntInt_valid(String str, int expected) {
+        assertEquals(Seconds.of(expected), Seconds.parse("xx" + str + "yy", 2, str.length()));
+        assertEquals(Seconds.of(-expected), Seconds.parse(new StringBuilder("-").append(str), 0, str.length() + 1));
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_invalid")
+    public void test_parse_CharSequenceIntInt_invalid(String str) {
+        assertThrows(DateTimeParseException.class, () -> Seconds.parse("xx" + str + "yy", 2, str.length()));
+    }
+
+    @Test
+    public void test_parse_CharSequence_errorMessages() {
+        DateTimeParseException ex = assertThrows(DateTimeParseException.class, () -> Seconds.parse("PT1H2147483648M"));
+        assertEquals("Text cannot be parsed to Seconds, non-numeric minutes", ex.getMessage());
+        assertEquals(NumberFormatException.class, ex.getCause().getClass());
+        ex = assertThrows(DateTimeParseException.class, () -> Seconds.parse("xxPT1Hyy", 2, 3));
+        assertEquals("Text cannot be parsed to Seconds", ex.getMessage());
+        assertEquals(2, ex.getErrorIndex());
+        assertThrows(ArithmeticException.class, () -> Seconds.parse("PT596524H"));
+        assertThrows(ArithmeticException.class, () -> Seconds.parse("-PT-2147483648S"));
+    }
+
+    @Test
+    public void test_parse_CharSequenceIntInt_outOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> Seconds.parse("PT2S", -1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> Seconds.parse("PT2S", 0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> Seconds.parse("PT2S", 1, 4));
+    }
+
+    @Test
+    public void test_parse_CharSequenceIntInt_null() {
+        //noinspection DataFlowIssue - testing nulls
+        assertThrows(NullPointerException.class, () -> Seconds.parse((CharSequence) null, 0, 0));
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void test_plus_TemporalAmount_Seconds() {
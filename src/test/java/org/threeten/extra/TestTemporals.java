@@ -52,6 +52,7 @@ import static java.time.temporal.ChronoUnit.SECONDS;
 import static java.time.temporal.ChronoUnit.WEEKS;
 import static java.time.temporal.ChronoUnit.YEARS;
 import static java.time.temporal.IsoFields.QUARTER_YEARS;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -77,6 +78,7 @@ import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAdjuster;
 import java.time.temporal.TemporalUnit;
 import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
@@ -668,6 +670,75 @@ public class TestTemporals {
         assertThrows(UnsupportedTemporalTypeException.class, () -> Temporals.convertAmount(1, fromUnit, resultUnit));
     }
 
+    //-----------------------------------------------------------------------
+    // unitConverter()
+    //-----------------------------------------------------------------------
+    @ParameterizedTest
+    @MethodSource("data_convertAmount")
+    public void test_unitConverter(
+            long fromAmount, TemporalUnit fromUnit, TemporalUnit resultUnit,
+            long resultWhole, long resultRemainder) {
+        Temporals.UnitConverter converter = Temporals.unitConverter(fromUnit, resultUnit);
+        assertEquals(fromUnit, converter.getFromUnit());
+        assertEquals(resultUnit, converter.getToUnit());
+        assertEquals(resultWhole, converter.convert(fromAmount));
+        assertEquals(resultRemainder, converter.remainder(fromAmount));
+        assertEquals(-resultWhole, converter.convert(-fromAmount));
+        assertEquals(-resultRemainder, converter.remainder(-fromAmount));
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_convertAmount")
+    public void test_unitConverter_arrays(
+            long fromAmount, TemporalUnit fromUnit, TemporalUnit resultUnit,
+            long resultWhole, long resultRemainder) {
+        Temporals.UnitConverter converter = Temporals.unitConverter(fromUnit, resultUnit);
+        long[] amounts = {fromAmount, -fromAmount, 0};
+        long[] whole = new long[3];
+        long[] remainders = new long[3];
+        converter.convert(amounts, whole);
+        converter.remainder(amounts, remainders);
+        assertArrayEquals(new long[] {resultWhole, -resultWhole, 0}, whole);
+        assertArrayEquals(new long[] {resultRemainder, -resultRemainder, 0}, remainders);
+        converter.convert(amounts, amounts);
+        assertArrayEquals(whole, amounts);
+    }
+
+    @Test
+    public void test_unitConverter_shared() {
+        assertSame(Temporals.unitConverter(HOURS, MINUTES), Temporals.unitConverter(HOURS, MINUTES));
+        assertSame(Temporals.unitConverter(YEARS, MONTHS), Temporals.unitConverter(YEARS, MONTHS));
+        assertEquals("UnitConverter[Hours to Minutes]", Temporals.unitConverter(HOURS, MINUTES).toString());
+    }
+
+    @Test
+    public void test_unitConverter_overflow() {
+        Temporals.UnitConverter converter = Temporals.unitConverter(DAYS, NANOS);
+        assertThrows(ArithmeticException.class, () -> converter.convert(Long.MAX_VALUE));
+        assertThrows(ArithmeticException.class, () -> converter.convert(new long[] {1, Long.MAX_VALUE}, new long[2]));
+    }
+
+    @Test
+    public void test_unitConverter_arrayLengths() {
+        Temporals.UnitConverter converter = Temporals.unitConverter(HOURS, MINUTES);
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(new long[2], new long[1]));
+        assertThrows(IllegalArgumentException.class, () -> converter.remainder(new long[2], new long[3]));
+        assertThrows(NullPointerException.class, () -> converter.convert(null, new long[1]));
+        assertThrows(NullPointerException.class, () -> converter.remainder(new long[1], null));
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_convertAmountInvalid")
+    public void test_unitConverterInvalid(TemporalUnit fromUnit, TemporalUnit resultUnit) {
+        assertThrows(DateTimeException.class, () -> Temporals.unitConverter(fromUnit, resultUnit));
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_convertAmountInvalidUnsupported")
+    public void test_unitConverterInvalidUnsupported(TemporalUnit fromUnit, TemporalUnit resultUnit) {
+        assertThrows(UnsupportedTemporalTypeException.class, () -> Temporals.unitConverter(fromUnit, resultUnit));
+    }
+
     //-----------------------------------------------------------------------
     // duration to/from BigDecimal/double
     //-------------------------------------------------------------------------
@@ -744,6 +815,74 @@ public class TestTemporals {
         assertEquals(Duration.ofSeconds(Long.MIN_VALUE), test);
     }
 
+    @ParameterizedTest
+    @MethodSource("data_durationConversions")
+    public void test_durationToDoubleSeconds_arrays(Duration input, BigDecimal ignored, double expected) {
+        double[] test = new double[1];
+        Temporals.durationToDoubleSeconds(new long[] {input.getSeconds()}, new int[] {input.getNano()}, test);
+        assertEquals(expected, test[0], 0d);
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_durationConversions")
+    public void test_durationFromDoubleSeconds_arrays(Duration expected, BigDecimal ignored, double input) {
+        long[] seconds = new long[1];
+        int[] nanos = new int[1];
+        Temporals.durationFromDoubleSeconds(new double[] {input}, seconds, nanos);
+        assertEquals(expected, Duration.ofSeconds(seconds[0], nanos[0]));
+    }
+
+    @Test
+    public void test_durationDoubleSeconds_arrays_matchSingle() {
+        Random random = new Random(38);
+        double[] doubles = new double[2000];
+        for (int i = 0; i < doubles.length; i++) {
+            doubles[i] = i % 2 == 0 ? random.nextGaussian() * 1_000_000 : Double.longBitsToDouble(random.nextLong());
+            if (Double.isNaN(doubles[i]) || Double.isInfinite(doubles[i])) {
+                doubles[i] = i;
+            }
+        }
+        doubles[0] = 1.22233322251d;
+        doubles[1] = 122233322251e10;
+        doubles[2] = -122233322251e10;
+        doubles[3] = -0d;
+        long[] seconds = new long[doubles.length];
+        int[] nanos = new int[doubles.length];
+        Temporals.durationFromDoubleSeconds(doubles, seconds, nanos);
+        double[] result = new double[doubles.length];
+        Temporals.durationToDoubleSeconds(seconds, nanos, result);
+        for (int i = 0; i < doubles.length; i++) {
+            Duration expected = Temporals.durationFromDoubleSeconds(doubles[i]);
+            assertEquals(expected, Duration.ofSeconds(seconds[i], nanos[i]));
+            assertEquals(Temporals.durationToDoubleSeconds(expected), result[i], 0d);
+        }
+    }
+
+    @Test
+    public void test_durationToDoubleSeconds_correctlyRounded() {
+        Duration duration = Duration.ofSeconds(Long.MIN_VALUE, 0);
+        assertEquals(-9.223372036854775808e18, Temporals.durationToDoubleSeconds(duration), 0d);
+        // the total nanoseconds is not exact as a double
+        duration = Duration.ofSeconds(9_007_199, 254_740_993);
+        assertEquals(9_007_199.254_740_993d, Temporals.durationToDoubleSeconds(duration), 0d);
+    }
+
+    @Test
+    public void test_durationDoubleSeconds_arrays_invalid() {
+        assertThrows(IllegalArgumentException.class,
+                () -> Temporals.durationToDoubleSeconds(new long[1], new int[2], new double[1]));
+        assertThrows(IllegalArgumentException.class,
+                () -> Temporals.durationToDoubleSeconds(new long[1], new int[1], new double[2]));
+        assertThrows(DateTimeException.class,
+                () -> Temporals.durationToDoubleSeconds(new long[1], new int[] {1_000_000_000}, new double[1]));
+        assertThrows(IllegalArgumentException.class,
+                () -> Temporals.durationFromDoubleSeconds(new double[1], new long[2], new int[1]));
+        assertThrows(IllegalArgumentException.class,
+                () -> Temporals.durationFromDoubleSeconds(new double[1], new long[1], new int[0]));
+        assertThrows(NumberFormatException.class,
+                () -> Temporals.durationFromDoubleSeconds(new double[] {Double.NaN}, new long[1], new int[1]));
+    }
+
     //-----------------------------------------------------------------------
     // duration multiply
     //-------------------------------------------------------------------------
@@ -771,4 +910,48 @@ public class TestTemporals {
         assertEquals(expected, test);
     }
 
+    @ParameterizedTest
+    @MethodSource("data_durationMultiply")
+    public void test_durationMultiply_arrays(Duration input, double multiplicand, Duration expected) {
+        long[] seconds = {input.getSeconds()};
+        int[] nanos = {input.getNano()};
+        Temporals.multiply(seconds, nanos, multiplicand, seconds, nanos);
+        assertEquals(expected, Duration.ofSeconds(seconds[0], nanos[0]));
+    }
+
+    @Test
+    public void test_durationMultiply_arrays_matchSingle() {
+        Random random = new Random(38);
+        long[] seconds = new long[500];
+        int[] nanos = new int[500];
+        for (int i = 0; i < seconds.length; i++) {
+            seconds[i] = i % 3 == 0 ? random.nextLong() : random.nextInt();
+            nanos[i] = random.nextInt(1_000_000_000);
+        }
+        double[] multiplicands = {0d, 1d, -1d, 0.1d, 2.5d, -1e-7d, 1e-12d, 1e25d, 3.000_000_000_000_1d, random.nextDouble()};
+        long[] resultSeconds = new long[seconds.length];
+        int[] resultNanos = new int[seconds.length];
+        for (double multiplicand : multiplicands) {
+            Temporals.multiply(seconds, nanos, multiplicand, resultSeconds, resultNanos);
+            for (int i = 0; i < seconds.length; i++) {
+                Duration expected = Temporals.multiply(Duration.ofSeconds(seconds[i], nanos[i]), multiplicand);
+                assertEquals(expected, Duration.ofSeconds(resultSeconds[i], resultNanos[i]));
+            }
+        }
+    }
+
+    @Test
+    public void test_durationMultiply_arrays_invalid() {
+        assertThrows(IllegalArgumentException.class,
+                () -> Temporals.multiply(new long[1], new int[2], 2d, new long[1], new int[1]));
+        assertThrows(IllegalArgumentException.class,
+                () -> Temporals.multiply(new long[1], new int[1], 2d, new long[2], new int[1]));
+        assertThrows(IllegalArgumentException.class,
+                () -> Temporals.multiply(new long[1], new int[1], 2d, new long[1], new int[0]));
+        assertThrows(DateTimeException.class,
+                () -> Temporals.multiply(new long[1], new int[] {-1}, 2d, new long[1], new int[1]));
+        assertThrows(NumberFormatException.class,
+                () -> Temporals.multiply(new long[] {1}, new int[1], Double.NaN, new long[1], new int[1]));
+    }
+
 }
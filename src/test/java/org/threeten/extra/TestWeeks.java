@@ -114,6 +114,17 @@ public class TestWeeks {
         assertEquals(Integer.MIN_VALUE, Weeks.of(Integer.MIN_VALUE).getAmount());
     }
 
+    @Test
+    public void test_of_cached() {
+        assertSame(Weeks.of(2), Weeks.of(2));
+        assertSame(Weeks.of(53), Weeks.of(53));
+        assertSame(Weeks.of(2), Weeks.of(1).plus(1));
+        assertSame(Weeks.of(4), Weeks.of(2).multipliedBy(2));
+        assertSame(Weeks.of(2), Weeks.parse("P2W"));
+        assertEquals(Weeks.of(54), Weeks.of(54));
+        assertEquals(Weeks.of(-2), Weeks.of(-2));
+    }
+
     @Test
     public void test_ofMinusOne() {
         assertEquals(-1, Weeks.of(-1).getAmount());
@@ -199,6 +210,31 @@ public class TestWeeks {
         assertThrows(NullPointerException.class, () -> Weeks.parse((CharSequence) null));
     }
 
+    @Test
+    public void test_parse_CharSequenceIntInt_valid() {
+        assertEquals(Weeks.of(2), Weeks.parse("xxP2Wyy", 2, 3));
+        assertEquals(Weeks.of(-2), Weeks.parse(new StringBuilder("-P2W"), 0, 4));
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_invalid")
+    public void test_parse_CharSequenceIntInt_invalid(String str) {
+        assertThrows(DateTimeParseException.class, () -> Weeks.parse("xx" + str + "yy", 2, str.length()));
+    }
+
+    @Test
+    public void test_parse_CharSequenceIntInt_outOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> Weeks.parse("P2W", -1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> Weeks.parse("P2W", 0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> Weeks.parse("P2W", 1, 3));
+    }
+
+    @Test
+    public void test_parse_CharSequenceIntInt_null() {
+        //noinspection DataFlowIssue - testing nulls
+        assertThrows(NullPointerException.class, () -> Weeks.parse((CharSequence) null, 0, 0));
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void test_between() {
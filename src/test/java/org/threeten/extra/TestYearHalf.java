@@ -79,6 +79,7 @@ import static java.time.temporal.IsoFields.DAY_OF_QUARTER;
 import static java.time.temporal.IsoFields.QUARTER_OF_YEAR;
 import static java.time.temporal.IsoFields.QUARTER_YEARS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.threeten.extra.Half.H1;
@@ -93,6 +94,7 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.io.StringWriter;
 import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -1001,4 +1003,109 @@ public class TestYearHalf {
         assertEquals("-10000-H2", YearHalf.of(-10000, H2).toString());
     }
 
+    //-----------------------------------------------------------------------
+    // toPackedLong() / ofPackedLong()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_packedLong() {
+        assertEquals(20152L, YearHalf.of(2015, H2).toPackedLong());
+        assertEquals(YearHalf.of(2015, H2), YearHalf.ofPackedLong(20152));
+        assertEquals(-9L, YearHalf.of(-1, H1).toPackedLong());
+        assertEquals(YearHalf.of(-1, H1), YearHalf.ofPackedLong(-9));
+        YearHalf previous = null;
+        for (YearHalf test = YearHalf.of(-3, H1); test.getYear() < 3; test = test.plusHalves(1)) {
+            assertEquals(test, YearHalf.ofPackedLong(test.toPackedLong()));
+            if (previous != null) {
+                assertTrue(previous.toPackedLong() < test.toPackedLong());
+            }
+            previous = test;
+        }
+        assertEquals(YearHalf.of(Year.MAX_VALUE, H2), YearHalf.ofPackedLong(YearHalf.of(Year.MAX_VALUE, H2).toPackedLong()));
+        assertEquals(YearHalf.of(Year.MIN_VALUE, H1), YearHalf.ofPackedLong(YearHalf.of(Year.MIN_VALUE, H1).toPackedLong()));
+    }
+
+    @Test
+    public void test_ofPackedLong_invalid() {
+        assertThrows(DateTimeException.class, () -> YearHalf.ofPackedLong(20150));
+        assertThrows(DateTimeException.class, () -> YearHalf.ofPackedLong(20153));
+        assertThrows(DateTimeException.class, () -> YearHalf.ofPackedLong(Long.MAX_VALUE));
+        assertThrows(DateTimeException.class, () -> YearHalf.ofPackedLong(Long.MIN_VALUE));
+    }
+
+    //-----------------------------------------------------------------------
+    // cache
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_cached() {
+        YearHalf base = YearHalf.of(2015, H2);
+        assertSame(base, YearHalf.of(2015, 2));
+        assertSame(base, YearHalf.of(Year.of(2015), H2));
+        assertSame(base, YearHalf.ofPackedLong(20152));
+        assertSame(base, YearHalf.parse("2015-H2"));
+        assertSame(base, YearHalf.from(base.atDay(1)));
+        assertSame(base, YearHalf.of(2014, H2).plusYears(1));
+        assertSame(base, YearHalf.of(2015, H1).plusHalves(1));
+        assertSame(base, YearHalf.of(2016, H2).plusHalves(-2));
+        assertSame(YearHalf.of(1900, H1), YearHalf.of(1899, H2).plusHalves(1));
+        assertSame(YearHalf.of(2100, H2), YearHalf.of(2101, H1).plusHalves(-1));
+        assertEquals(YearHalf.of(1899, H1), YearHalf.of(1899, H1));
+        assertEquals(YearHalf.of(2101, H1), YearHalf.of(2101, H1));
+    }
+
+    //-----------------------------------------------------------------------
+    // parse(CharSequence,int,int)
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_parse_CharSequenceIntInt() {
+        assertEquals(YearHalf.of(2012, H2), YearHalf.parse("xx2012-H2yy", 2, 7));
+        assertEquals(YearHalf.of(2012, H2), YearHalf.parse("2012-h2"));
+        assertEquals(YearHalf.of(0, H1), YearHalf.parse("0000-H1"));
+        assertEquals(YearHalf.of(-1, H2), YearHalf.parse("x-0001-H2", 1, 8));
+        assertEquals(YearHalf.of(12345, H1), YearHalf.parse("+12345-H1x", 0, 9));
+    }
+
+    @Test
+    public void test_parse_CharSequenceIntInt_invalid() {
+        assertThrows(DateTimeParseException.class, () -> YearHalf.parse("2012-H1x", 0, 8));
+        assertThrows(DateTimeParseException.class, () -> YearHalf.parse("2012-H1", 0, 6));
+        assertThrows(DateTimeParseException.class, () -> YearHalf.parse("2012-H0"));
+        assertThrows(DateTimeParseException.class, () -> YearHalf.parse("2012-H3"));
+        assertThrows(DateTimeParseException.class, () -> YearHalf.parse("2012-X1"));
+        assertThrows(DateTimeParseException.class, () -> YearHalf.parse("2012/H1"));
+        assertThrows(DateTimeParseException.class, () -> YearHalf.parse("20a2-H1"));
+        assertThrows(DateTimeParseException.class, () -> YearHalf.parse("+2012-H1"));
+        assertThrows(IndexOutOfBoundsException.class, () -> YearHalf.parse("2012-H1", 1, 7));
+        assertThrows(IndexOutOfBoundsException.class, () -> YearHalf.parse("2012-H1", -1, 7));
+        assertThrows(NullPointerException.class, () -> YearHalf.parse(null, 0, 0));
+    }
+
+    //-----------------------------------------------------------------------
+    // formatTo(Appendable)
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_formatTo() {
+        for (int year : new int[] {Year.MIN_VALUE, -12345, -1000, -999, -1, 0, 1, 999, 1000, 2012, 9999, 10000, Year.MAX_VALUE}) {
+            for (int half = 1; half <= 2; half++) {
+                YearHalf test = YearHalf.of(year, half);
+                StringBuilder buf = new StringBuilder("x");
+                test.formatTo(buf);
+                assertEquals("x" + test.toString(), buf.toString());
+                StringWriter writer = new StringWriter();
+                test.formatTo(writer);
+                assertEquals(test.toString(), writer.toString());
+                assertEquals(test, YearHalf.parse(writer.toString()));
+            }
+        }
+        StringBuilder buf = new StringBuilder();
+        YearHalf.of(2012, H1).formatTo(buf);
+        YearHalf.of(7, H2).formatTo(buf);
+        assertEquals("2012-H10007-H2", buf.toString());
+    }
+
+    @Test
+    public void test_formatTo_failure() {
+        assertThrows(DateTimeException.class, () -> YearHalf.of(2012, H1).formatTo(new TestAmountFormats.FailingAppendable()));
+        assertThrows(NullPointerException.class, () -> YearHalf.of(2012, H1).formatTo(null));
+    }
+
 }
@@ -79,6 +79,7 @@ import static java.time.temporal.IsoFields.DAY_OF_QUARTER;
 import static java.time.temporal.IsoFields.QUARTER_OF_YEAR;
 import static java.time.temporal.IsoFields.QUARTER_YEARS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.threeten.extra.Quarter.Q1;
@@ -92,6 +93,7 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.io.StringWriter;
 import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -1028,4 +1030,109 @@ public class TestYearQuarter {
         assertEquals("-10000-Q2", YearQuarter.of(-10000, Q2).toString());
     }
 
+    //-----------------------------------------------------------------------
+    // toPackedLong() / ofPackedLong()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_packedLong() {
+        assertEquals(20152L, YearQuarter.of(2015, Q2).toPackedLong());
+        assertEquals(YearQuarter.of(2015, Q2), YearQuarter.ofPackedLong(20152));
+        assertEquals(-9L, YearQuarter.of(-1, Q1).toPackedLong());
+        assertEquals(YearQuarter.of(-1, Q1), YearQuarter.ofPackedLong(-9));
+        YearQuarter previous = null;
+        for (YearQuarter test = YearQuarter.of(-3, Q1); test.getYear() < 3; test = test.plusQuarters(1)) {
+            assertEquals(test, YearQuarter.ofPackedLong(test.toPackedLong()));
+            if (previous != null) {
+                assertTrue(previous.toPackedLong() < test.toPackedLong());
+            }
+            previous = test;
+        }
+        assertEquals(YearQuarter.of(Year.MAX_VALUE, Q4), YearQuarter.ofPackedLong(YearQuarter.of(Year.MAX_VALUE, Q4).toPackedLong()));
+        assertEquals(YearQuarter.of(Year.MIN_VALUE, Q1), YearQuarter.ofPackedLong(YearQuarter.of(Year.MIN_VALUE, Q1).toPackedLong()));
+    }
+
+    @Test
+    public void test_ofPackedLong_invalid() {
+        assertThrows(DateTimeException.class, () -> YearQuarter.ofPackedLong(20150));
+        assertThrows(DateTimeException.class, () -> YearQuarter.ofPackedLong(20155));
+        assertThrows(DateTimeException.class, () -> YearQuarter.ofPackedLong(Long.MAX_VALUE));
+        assertThrows(DateTimeException.class, () -> YearQuarter.ofPackedLong(Long.MIN_VALUE));
+    }
+
+    //-----------------------------------------------------------------------
+    // cache
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_cached() {
+        YearQuarter base = YearQuarter.of(2015, Q2);
+        assertSame(base, YearQuarter.of(2015, 2));
+        assertSame(base, YearQuarter.of(Year.of(2015), Q2));
+        assertSame(base, YearQuarter.ofPackedLong(20152));
+        assertSame(base, YearQuarter.parse("2015-Q2"));
+        assertSame(base, YearQuarter.from(base.atDay(1)));
+        assertSame(base, YearQuarter.of(2014, Q2).plusYears(1));
+        assertSame(base, YearQuarter.of(2015, Q1).plusQuarters(1));
+        assertSame(base, YearQuarter.of(2016, Q2).plusQuarters(-4));
+        assertSame(YearQuarter.of(1900, Q1), YearQuarter.of(1899, Q4).plusQuarters(1));
+        assertSame(YearQuarter.of(2100, Q4), YearQuarter.of(2101, Q1).plusQuarters(-1));
+        assertEquals(YearQuarter.of(1899, Q1), YearQuarter.of(1899, Q1));
+        assertEquals(YearQuarter.of(2101, Q1), YearQuarter.of(2101, Q1));
+    }
+
+    //-----------------------------------------------------------------------
+    // parse(CharSequence,int,int)
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_parse_CharSequenceIntInt() {
+        assertEquals(YearQuarter.of(2012, Q2), YearQuarter.parse("xx2012-Q2yy", 2, 7));
+        assertEquals(YearQuarter.of(2012, Q4), YearQuarter.parse("2012-q4"));
+        assertEquals(YearQuarter.of(0, Q1), YearQuarter.parse("0000-Q1"));
+        assertEquals(YearQuarter.of(-1, Q2), YearQuarter.parse("x-0001-Q2", 1, 8));
+        assertEquals(YearQuarter.of(12345, Q1), YearQuarter.parse("+12345-Q1x", 0, 9));
+    }
+
+    @Test
+    public void test_parse_CharSequenceIntInt_invalid() {
+        assertThrows(DateTimeParseException.class, () -> YearQuarter.parse("2012-Q1x", 0, 8));
+        assertThrows(DateTimeParseException.class, () -> YearQuarter.parse("2012-Q1", 0, 6));
+        assertThrows(DateTimeParseException.class, () -> YearQuarter.parse("2012-Q0"));
+        assertThrows(DateTimeParseException.class, () -> YearQuarter.parse("2012-Q5"));
+        assertThrows(DateTimeParseException.class, () -> YearQuarter.parse("2012-X1"));
+        assertThrows(DateTimeParseException.class, () -> YearQuarter.parse("2012/Q1"));
+        assertThrows(DateTimeParseException.class, () -> YearQuarter.parse("20a2-Q1"));
+        assertThrows(DateTimeParseException.class, () -> YearQuarter.parse("+2012-Q1"));
+        assertThrows(IndexOutOfBoundsException.class, () -> YearQuarter.parse("2012-Q1", 1, 7));
+        assertThrows(IndexOutOfBoundsException.class, () -> YearQuarter.parse("2012-Q1", -1, 7));
+        assertThrows(NullPointerException.class, () -> YearQuarter.parse(null, 0, 0));
+    }
+
+    //-----------------------------------------------------------------------
+    // formatTo(Appendable)
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_formatTo() {
+        for (int year : new int[] {Year.MIN_VALUE, -12345, -1000, -999, -1, 0, 1, 999, 1000, 2012, 9999, 10000, Year.MAX_VALUE}) {
+            for (int quarter = 1; quarter <= 4; quarter++) {
+                YearQuarter test = YearQuarter.of(year, quarter);
+                StringBuilder buf = new StringBuilder("x");
+                test.formatTo(buf);
+                assertEquals("x" + test.toString(), buf.toString());
+                StringWriter writer = new StringWriter();
+                test.formatTo(writer);
+                assertEquals(test.toString(), writer.toString());
+                assertEquals(test, YearQuarter.parse(writer.toString()));
+            }
+        }
+        StringBuilder buf = new StringBuilder();
+        YearQuarter.of(2012, Q1).formatTo(buf);
+        YearQuarter.of(7, Q2).formatTo(buf);
+        assertEquals("2012-Q10007-Q2", buf.toString());
+    }
+
+    @Test
+    public void test_formatTo_failure() {
+        assertThrows(DateTimeException.class, () -> YearQuarter.of(2012, Q1).formatTo(new TestAmountFormats.FailingAppendable()));
+        assertThrows(NullPointerException.class, () -> YearQuarter.of(2012, Q1).formatTo(null));
+    }
+
 }
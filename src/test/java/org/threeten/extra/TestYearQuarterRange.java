@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.testing.EqualsTester;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test quarter range.
+ */
+public class TestYearQuarterRange {
+
+    private static final YearQuarter A = YearQuarter.of(2015, 3);
+    private static final YearQuarter B = YearQuarter.of(2015, 4);
+    private static final YearQuarter C = YearQuarter.of(2016, 1);
+    private static final List<YearQuarter> SAMPLES = Arrays.asList(
+            YearQuarter.of(2015, 2), A, B, C, YearQuarter.of(2016, 2), YearQuarter.of(2016, 3));
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_isSerializable() {
+        assertTrue(Serializable.class.isAssignableFrom(YearQuarterRange.class));
+    }
+
+    @Test
+    public void test_serialization() throws Exception {
+        YearQuarterRange test = YearQuarterRange.of(A, C);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(test);
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            assertEquals(test, ois.readObject());
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_of() {
+        YearQuarterRange test = YearQuarterRange.of(A, C);
+        assertEquals(A, test.getStart());
+        assertEquals(C, test.getEnd());
+        assertEquals(B, test.getEndInclusive());
+        assertFalse(test.isEmpty());
+        assertEquals("2015-Q3/2016-Q1", test.toString());
+    }
+
+    @Test
+    public void test_of_empty() {
+        YearQuarterRange test = YearQuarterRange.of(A, A);
+        assertEquals(A, test.getStart());
+        assertEquals(A, test.getEnd());
+        assertTrue(test.isEmpty());
+        assertEquals(0, test.lengthInQuarters());
+        assertEquals(0, test.stream().count());
+    }
+
+    @Test
+    public void test_of_badOrder() {
+        assertThrows(DateTimeException.class, () -> YearQuarterRange.of(C, A));
+        assertThrows(NullPointerException.class, () -> YearQuarterRange.of(null, A));
+        assertThrows(NullPointerException.class, () -> YearQuarterRange.of(A, null));
+    }
+
+    @Test
+    public void test_ofClosed() {
+        YearQuarterRange test = YearQuarterRange.ofClosed(A, B);
+        assertEquals(A, test.getStart());
+        assertEquals(C, test.getEnd());
+        assertEquals(B, test.getEndInclusive());
+        assertEquals(YearQuarterRange.of(A, B), YearQuarterRange.ofClosed(A, A));
+        assertThrows(DateTimeException.class, () -> YearQuarterRange.ofClosed(B, A));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_parse() {
+        assertEquals(YearQuarterRange.of(A, C), YearQuarterRange.parse("2015-Q3/2016-Q1"));
+        assertEquals(YearQuarterRange.of(A, A), YearQuarterRange.parse("2015-Q3/2015-Q3"));
+        assertThrows(DateTimeParseException.class, () -> YearQuarterRange.parse("2016-Q1/2015-Q3"));
+        assertThrows(DateTimeParseException.class, () -> YearQuarterRange.parse("2015-Q3"));
+        assertThrows(DateTimeParseException.class, () -> YearQuarterRange.parse("2015-Q3/"));
+        assertThrows(DateTimeParseException.class, () -> YearQuarterRange.parse("/2015-Q3"));
+        assertThrows(NullPointerException.class, () -> YearQuarterRange.parse(null));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_relations_crossCheck() {
+        List<YearQuarterRange> ranges = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            for (int j = i; j < 6; j++) {
+                ranges.add(YearQuarterRange.of(SAMPLES.get(i), SAMPLES.get(j)));
+            }
+        }
+        for (YearQuarterRange range : ranges) {
+            List<YearQuarter> content = range.stream().collect(Collectors.toList());
+            for (YearQuarter sample : SAMPLES) {
+                assertEquals(content.contains(sample), range.contains(sample));
+            }
+            for (YearQuarterRange other : ranges) {
+                List<YearQuarter> otherContent = other.stream().collect(Collectors.toList());
+                if (!range.isEmpty() && !other.isEmpty()) {
+                    assertEquals(content.stream().anyMatch(otherContent::contains), range.overlaps(other));
+                }
+                assertEquals(
+                        range.getStart().compareTo(other.getStart()) <= 0 && range.getEnd().compareTo(other.getEnd()) >= 0,
+                        range.encloses(other));
+                assertEquals(range.overlaps(other) || range.abuts(other), range.isConnected(other));
+                if (range.isConnected(other)) {
+                    List<YearQuarter> intersection = range.intersection(other).stream().collect(Collectors.toList());
+                    assertEquals(content.stream().filter(otherContent::contains).collect(Collectors.toList()), intersection);
+                    YearQuarterRange union = range.union(other);
+                    assertTrue(union.encloses(range) && union.encloses(other));
+                    assertEquals(range.lengthInQuarters() + other.lengthInQuarters() - intersection.size(), union.lengthInQuarters());
+                } else {
+                    assertThrows(DateTimeException.class, () -> range.intersection(other));
+                    assertThrows(DateTimeException.class, () -> range.union(other));
+                }
+                YearQuarterRange span = range.span(other);
+                assertTrue(span.encloses(range) && span.encloses(other));
+            }
+        }
+    }
+
+    @Test
+    public void test_intersection_union_same() {
+        YearQuarterRange base = YearQuarterRange.of(A, C);
+        YearQuarterRange inner = YearQuarterRange.of(A, B);
+        assertSame(inner, base.intersection(inner));
+        assertSame(base, base.union(inner));
+        assertSame(base, base.span(inner));
+        assertSame(base, inner.span(base));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_stream() {
+        YearQuarterRange test = YearQuarterRange.of(YearQuarter.of(-3, 2), YearQuarter.of(2021, 3));
+        List<YearQuarter> expected = new ArrayList<>();
+        for (YearQuarter value = YearQuarter.of(-3, 2); value.isBefore(YearQuarter.of(2021, 3)); value = value.plusQuarters(1)) {
+            expected.add(value);
+        }
+        assertEquals(expected.size(), test.lengthInQuarters());
+        assertEquals(expected, test.stream().collect(Collectors.toList()));
+        assertEquals(expected, test.stream().parallel().collect(Collectors.toList()));
+        Spliterator<YearQuarter> spliterator = test.stream().parallel().spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        assertEquals(expected.size(), spliterator.getExactSizeIfKnown());
+        Spliterator<YearQuarter> prefix = spliterator.trySplit();
+        assertEquals(expected.size(), prefix.getExactSizeIfKnown() + spliterator.getExactSizeIfKnown());
+        assertTrue(prefix.getExactSizeIfKnown() > 0);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_toLocalDateRange() {
+        YearQuarterRange test = YearQuarterRange.of(A, C);
+        assertEquals(LocalDateRange.of(LocalDate.of(2015, 7, 1), LocalDate.of(2016, 1, 1)), test.toLocalDateRange());
+    }
+
+    @Test
+    public void test_extremes() {
+        YearQuarter min = YearQuarter.of(Year.MIN_VALUE, 1);
+        YearQuarter max = YearQuarter.of(Year.MAX_VALUE, 4);
+        YearQuarterRange test = YearQuarterRange.of(min, max);
+        assertEquals((Year.MAX_VALUE - (long) Year.MIN_VALUE) * 4 + 3, test.lengthInQuarters());
+        assertEquals(min, test.stream().findFirst().get());
+        assertEquals(max.minusQuarters(1), YearQuarterRange.of(max.minusQuarters(1), max).stream().findFirst().get());
+        assertEquals(max, YearQuarterRange.ofClosed(max.minusQuarters(1), max.minusQuarters(1)).getEnd());
+        assertThrows(DateTimeException.class, () -> YearQuarterRange.ofClosed(min, max));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_equals_and_hashCode() {
+        new EqualsTester()
+            .addEqualityGroup(YearQuarterRange.of(A, B), YearQuarterRange.of(A, B))
+            .addEqualityGroup(YearQuarterRange.of(A, C), YearQuarterRange.ofClosed(A, B))
+            .addEqualityGroup(YearQuarterRange.of(B, C), YearQuarterRange.of(B, C))
+            .addEqualityGroup(YearQuarterRange.of(A, A))
+            .testEquals();
+    }
+
+}
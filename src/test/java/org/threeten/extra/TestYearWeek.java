@@ -86,6 +86,7 @@ import static java.time.temporal.IsoFields.WEEK_BASED_YEAR;
 import static java.time.temporal.IsoFields.WEEK_BASED_YEARS;
 import static java.time.temporal.IsoFields.WEEK_OF_WEEK_BASED_YEAR;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -95,6 +96,7 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.io.StringWriter;
 import java.time.Clock;
 import java.time.DateTimeException;
 import java.time.DayOfWeek;
@@ -1108,4 +1110,170 @@ public class TestYearWeek {
         assertEquals(expected, s);
     }
 
+    //-----------------------------------------------------------------------
+    // toPackedLong() / ofPackedLong()
+    //-----------------------------------------------------------------------
+    @ParameterizedTest
+    @MethodSource("data_53WeekYear")
+    public void test_packedLong(int weekBasedYear) {
+        YearWeek first = YearWeek.of(weekBasedYear, 1);
+        YearWeek last = YearWeek.of(weekBasedYear, 53);
+        assertEquals(weekBasedYear * 100L + 1, first.toPackedLong());
+        assertEquals(first, YearWeek.ofPackedLong(first.toPackedLong()));
+        assertEquals(last, YearWeek.ofPackedLong(last.toPackedLong()));
+        assertTrue(last.toPackedLong() < last.plusWeeks(1).toPackedLong());
+        assertTrue(first.minusWeeks(1).toPackedLong() < first.toPackedLong());
+    }
+
+    @Test
+    public void test_packedLong_order() {
+        YearWeek[] values = {
+            YearWeek.of(-1, 52), YearWeek.of(0, 1), YearWeek.of(0, 52), YearWeek.of(1, 1), YearWeek.of(2015, 13), YearWeek.of(2015, 53)};
+        assertEquals(201513L, YearWeek.of(2015, 13).toPackedLong());
+        assertEquals(-48L, YearWeek.of(-1, 52).toPackedLong());
+        for (int i = 1; i < values.length; i++) {
+            assertTrue(values[i - 1].toPackedLong() < values[i].toPackedLong());
+            assertEquals(values[i], YearWeek.ofPackedLong(values[i].toPackedLong()));
+        }
+        assertEquals(YearWeek.of(-1, 52), YearWeek.ofPackedLong(-48));
+    }
+
+    @Test
+    public void test_ofPackedLong_invalid() {
+        assertEquals(YearWeek.of(2017, 1), YearWeek.ofPackedLong(201653));
+        assertThrows(DateTimeException.class, () -> YearWeek.ofPackedLong(201500));
+        assertThrows(DateTimeException.class, () -> YearWeek.ofPackedLong(201554));
+        assertThrows(DateTimeException.class, () -> YearWeek.ofPackedLong(Long.MAX_VALUE));
+        assertThrows(DateTimeException.class, () -> YearWeek.ofPackedLong(Long.MIN_VALUE));
+    }
+
+    //-----------------------------------------------------------------------
+    // cache
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_cached() {
+        YearWeek base = YearWeek.of(2015, 13);
+        assertSame(base, YearWeek.of(2015, 13));
+        assertSame(base, YearWeek.of(Year.of(2015), 13));
+        assertSame(base, YearWeek.ofPackedLong(201513));
+        assertSame(base, YearWeek.parse("2015-W13"));
+        assertSame(base, YearWeek.from(base.atDay(MONDAY)));
+        assertSame(base, YearWeek.of(2015, 12).plusWeeks(1));
+        assertSame(base, YearWeek.of(2014, 13).plusYears(1));
+        assertSame(YearWeek.of(2016, 1), YearWeek.of(2015, 53).plusWeeks(1));
+        assertSame(YearWeek.of(2017, 1), YearWeek.of(2016, 53));
+        assertSame(YearWeek.of(1900, 1), YearWeek.of(1899, 52).plusWeeks(1));
+        assertEquals(YearWeek.of(2101, 1), YearWeek.of(2101, 1));
+    }
+
+    @Test
+    public void test_is53WeekYear_acrossCache() {
+        for (int year = 1800; year <= 2200; year++) {
+            LocalDate lastWeek = LocalDate.of(year, 12, 28);
+            boolean expected = lastWeek.get(WEEK_OF_WEEK_BASED_YEAR) == 53;
+            assertEquals(expected, YearWeek.of(year, 1).is53WeekYear());
+            assertEquals(expected ? 53 : 52, YearWeek.of(year, 1).range(WEEK_OF_WEEK_BASED_YEAR).getMaximum());
+            assertEquals(expected ? year : year + 1, YearWeek.of(year, 53).getYear());
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // parse(CharSequence,int,int)
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_parse_CharSequenceIntInt() {
+        assertEquals(YearWeek.of(2015, 13), YearWeek.parse("xx2015-W13yy", 2, 8));
+        assertEquals(YearWeek.of(2015, 13), YearWeek.parse("2015-w13"));
+        assertEquals(YearWeek.of(2015, 53), YearWeek.parse("2015-W53"));
+        assertEquals(YearWeek.of(2017, 1), YearWeek.parse("2016-W53"));
+        assertEquals(YearWeek.of(0, 1), YearWeek.parse("0000-W01"));
+        assertEquals(YearWeek.of(-1, 2), YearWeek.parse("x-0001-W02", 1, 9));
+        assertEquals(YearWeek.of(12345, 2), YearWeek.parse("+12345-W02x", 0, 10));
+    }
+
+    @Test
+    public void test_parse_CharSequenceIntInt_invalid() {
+        assertThrows(DateTimeParseException.class, () -> YearWeek.parse("2015-W13x", 0, 9));
+        assertThrows(DateTimeParseException.class, () -> YearWeek.parse("2015-W13", 0, 7));
+        assertThrows(DateTimeParseException.class, () -> YearWeek.parse("2015-W00"));
+        assertThrows(DateTimeParseException.class, () -> YearWeek.parse("2015-W54"));
+        assertThrows(DateTimeParseException.class, () -> YearWeek.parse("2015-X13"));
+        assertThrows(DateTimeParseException.class, () -> YearWeek.parse("2015/W13"));
+        assertThrows(DateTimeParseException.class, () -> YearWeek.parse("20a5-W13"));
+        assertThrows(DateTimeParseException.class, () -> YearWeek.parse("2015-W1a"));
+        assertThrows(DateTimeParseException.class, () -> YearWeek.parse("+2015-W13"));
+        assertThrows(IndexOutOfBoundsException.class, () -> YearWeek.parse("2015-W13", 1, 8));
+        assertThrows(IndexOutOfBoundsException.class, () -> YearWeek.parse("2015-W13", -1, 8));
+        assertThrows(NullPointerException.class, () -> YearWeek.parse(null, 0, 0));
+    }
+
+    //-----------------------------------------------------------------------
+    // formatTo(Appendable)
+    //-----------------------------------------------------------------------
+    @ParameterizedTest
+    @MethodSource("data_sampleToString")
+    public void test_formatTo(int year, int week, String expected) {
+        YearWeek test = YearWeek.of(year, week);
+        StringBuilder buf = new StringBuilder("x");
+        test.formatTo(buf);
+        assertEquals("x" + expected, buf.toString());
+        StringWriter writer = new StringWriter();
+        test.formatTo(writer);
+        assertEquals(expected, writer.toString());
+        assertEquals(test, YearWeek.parse(expected));
+    }
+
+    @Test
+    public void test_formatTo_extremes() {
+        StringBuilder buf = new StringBuilder();
+        YearWeek.of(Year.MAX_VALUE, 1).formatTo(buf);
+        YearWeek.of(Year.MIN_VALUE, 1).formatTo(buf);
+        YearWeek.of(9999, 52).formatTo(buf);
+        YearWeek.of(10000, 52).formatTo(buf);
+        assertEquals("+999999999-W01-999999999-W019999-W52+10000-W52", buf.toString());
+    }
+
+    @Test
+    public void test_formatTo_failure() {
+        assertThrows(DateTimeException.class, () -> TEST.formatTo(new TestAmountFormats.FailingAppendable()));
+        assertThrows(NullPointerException.class, () -> TEST.formatTo(null));
+    }
+
+    //-----------------------------------------------------------------------
+    // toEpochWeek() / ofEpochWeek()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_epochWeek() {
+        assertEquals(0, YearWeek.of(1970, 1).toEpochWeek());
+        assertEquals(-1, YearWeek.of(1969, 52).toEpochWeek());
+        assertEquals(YearWeek.of(1970, 1), YearWeek.ofEpochWeek(0));
+        assertEquals(YearWeek.of(1969, 52), YearWeek.ofEpochWeek(-1));
+        LocalDate monday = YearWeek.of(1800, 1).atDay(MONDAY);
+        long expected = Math.floorDiv(monday.toEpochDay() + 3, 7);
+        for (YearWeek test = YearWeek.of(1800, 1); test.getYear() < 2200; test = test.plusWeeks(1)) {
+            assertEquals(expected, test.toEpochWeek());
+            assertEquals(test, YearWeek.ofEpochWeek(expected));
+            assertEquals(test, YearWeek.from(monday));
+            monday = monday.plusWeeks(1);
+            expected++;
+        }
+    }
+
+    @Test
+    public void test_epochWeek_extremes() {
+        YearWeek min = YearWeek.of(Year.MIN_VALUE, 1);
+        YearWeek max = YearWeek.of(Year.MAX_VALUE, 52);
+        assertEquals(min, YearWeek.ofEpochWeek(min.toEpochWeek()));
+        assertEquals(max, YearWeek.ofEpochWeek(max.toEpochWeek()));
+        assertEquals(YearWeek.of(Year.MIN_VALUE, 2), min.plusWeeks(1));
+        assertEquals(max.minusWeeks(1), YearWeek.of(Year.MAX_VALUE, 51));
+        assertEquals(max.toEpochWeek() - min.toEpochWeek(), min.until(max, WEEKS));
+        assertThrows(DateTimeException.class, () -> YearWeek.ofEpochWeek(min.toEpochWeek() - 1));
+        assertThrows(DateTimeException.class, () -> YearWeek.ofEpochWeek(max.toEpochWeek() + 1));
+        assertThrows(DateTimeException.class, () -> YearWeek.ofEpochWeek(Long.MIN_VALUE));
+        assertThrows(DateTimeException.class, () -> YearWeek.ofEpochWeek(Long.MAX_VALUE));
+        assertThrows(DateTimeException.class, () -> min.minusWeeks(1));
+        assertThrows(DateTimeException.class, () -> max.plusWeeks(1));
+    }
+
 }
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static java.time.DayOfWeek.MONDAY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.testing.EqualsTester;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test week range.
+ */
+public class TestYearWeekRange {
+
+    private static final YearWeek A = YearWeek.of(2015, 52);
+    private static final YearWeek B = YearWeek.of(2015, 53);
+    private static final YearWeek C = YearWeek.of(2016, 1);
+    private static final List<YearWeek> SAMPLES = Arrays.asList(
+            YearWeek.of(2015, 51), A, B, C, YearWeek.of(2016, 2), YearWeek.of(2016, 3));
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_isSerializable() {
+        assertTrue(Serializable.class.isAssignableFrom(YearWeekRange.class));
+    }
+
+    @Test
+    public void test_serialization() throws Exception {
+        YearWeekRange test = YearWeekRange.of(A, C);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(test);
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            assertEquals(test, ois.readObject());
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_of() {
+        YearWeekRange test = YearWeekRange.of(A, C);
+        assertEquals(A, test.getStart());
+        assertEquals(C, test.getEnd());
+        assertEquals(B, test.getEndInclusive());
+        assertFalse(test.isEmpty());
+        assertEquals("2015-W52/2016-W01", test.toString());
+    }
+
+    @Test
+    public void test_of_empty() {
+        YearWeekRange test = YearWeekRange.of(A, A);
+        assertEquals(A, test.getStart());
+        assertEquals(A, test.getEnd());
+        assertTrue(test.isEmpty());
+        assertEquals(0, test.lengthInWeeks());
+        assertEquals(0, test.stream().count());
+    }
+
+    @Test
+    public void test_of_badOrder() {
+        assertThrows(DateTimeException.class, () -> YearWeekRange.of(C, A));
+        assertThrows(NullPointerException.class, () -> YearWeekRange.of(null, A));
+        assertThrows(NullPointerException.class, () -> YearWeekRange.of(A, null));
+    }
+
+    @Test
+    public void test_ofClosed() {
+        YearWeekRange test = YearWeekRange.ofClosed(A, B);
+        assertEquals(A, test.getStart());
+        assertEquals(C, test.getEnd());
+        assertEquals(B, test.getEndInclusive());
+        assertEquals(YearWeekRange.of(A, B), YearWeekRange.ofClosed(A, A));
+        assertThrows(DateTimeException.class, () -> YearWeekRange.ofClosed(B, A));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_parse() {
+        assertEquals(YearWeekRange.of(A, C), YearWeekRange.parse("2015-W52/2016-W01"));
+        assertEquals(YearWeekRange.of(A, A), YearWeekRange.parse("2015-W52/2015-W52"));
+        assertThrows(DateTimeParseException.class, () -> YearWeekRange.parse("2016-W01/2015-W52"));
+        assertThrows(DateTimeParseException.class, () -> YearWeekRange.parse("2015-W52"));
+        assertThrows(DateTimeParseException.class, () -> YearWeekRange.parse("2015-W52/"));
+        assertThrows(DateTimeParseException.class, () -> YearWeekRange.parse("/2015-W52"));
+        assertThrows(NullPointerException.class, () -> YearWeekRange.parse(null));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_relations_crossCheck() {
+        List<YearWeekRange> ranges = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            for (int j = i; j < 6; j++) {
+                ranges.add(YearWeekRange.of(SAMPLES.get(i), SAMPLES.get(j)));
+            }
+        }
+        for (YearWeekRange range : ranges) {
+            List<YearWeek> content = range.stream().collect(Collectors.toList());
+            for (YearWeek sample : SAMPLES) {
+                assertEquals(content.contains(sample), range.contains(sample));
+            }
+            for (YearWeekRange other : ranges) {
+                List<YearWeek> otherContent = other.stream().collect(Collectors.toList());
+                if (!range.isEmpty() && !other.isEmpty()) {
+                    assertEquals(content.stream().anyMatch(otherContent::contains), range.overlaps(other));
+                }
+                assertEquals(
+                        range.getStart().compareTo(other.getStart()) <= 0 && range.getEnd().compareTo(other.getEnd()) >= 0,
+                        range.encloses(other));
+                assertEquals(range.overlaps(other) || range.abuts(other), range.isConnected(other));
+                if (range.isConnected(other)) {
+                    List<YearWeek> intersection = range.intersection(other).stream().collect(Collectors.toList());
+                    assertEquals(content.stream().filter(otherContent::contains).collect(Collectors.toList()), intersection);
+                    YearWeekRange union = range.union(other);
+                    assertTrue(union.encloses(range) && union.encloses(other));
+                    assertEquals(range.lengthInWeeks() + other.lengthInWeeks() - intersection.size(), union.lengthInWeeks());
+                } else {
+                    assertThrows(DateTimeException.class, () -> range.intersection(other));
+                    assertThrows(DateTimeException.class, () -> range.union(other));
+                }
+                YearWeekRange span = range.span(other);
+                assertTrue(span.encloses(range) && span.encloses(other));
+            }
+        }
+    }
+
+    @Test
+    public void test_intersection_union_same() {
+        YearWeekRange base = YearWeekRange.of(A, C);
+        YearWeekRange inner = YearWeekRange.of(A, B);
+        assertSame(inner, base.intersection(inner));
+        assertSame(base, base.union(inner));
+        assertSame(base, base.span(inner));
+        assertSame(base, inner.span(base));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_stream() {
+        YearWeekRange test = YearWeekRange.of(YearWeek.of(2014, 40), YearWeek.of(2021, 10));
+        List<YearWeek> expected = new ArrayList<>();
+        for (YearWeek value = YearWeek.of(2014, 40); value.isBefore(YearWeek.of(2021, 10)); value = value.plusWeeks(1)) {
+            expected.add(value);
+        }
+        assertEquals(expected.size(), test.lengthInWeeks());
+        assertEquals(expected, test.stream().collect(Collectors.toList()));
+        assertEquals(expected, test.stream().parallel().collect(Collectors.toList()));
+        Spliterator<YearWeek> spliterator = test.stream().parallel().spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        assertEquals(expected.size(), spliterator.getExactSizeIfKnown());
+        Spliterator<YearWeek> prefix = spliterator.trySplit();
+        assertEquals(expected.size(), prefix.getExactSizeIfKnown() + spliterator.getExactSizeIfKnown());
+        assertTrue(prefix.getExactSizeIfKnown() > 0);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_toLocalDateRange() {
+        YearWeekRange test = YearWeekRange.of(A, C);
+        assertEquals(LocalDateRange.of(LocalDate.of(2015, 12, 21), LocalDate.of(2016, 1, 4)), test.toLocalDateRange());
+        assertEquals(test.lengthInWeeks() * 7, test.toLocalDateRange().lengthInDays());
+        assertEquals(MONDAY, test.toLocalDateRange().getStart().getDayOfWeek());
+    }
+
+    @Test
+    public void test_lengthInWeeks_long() {
+        YearWeekRange test = YearWeekRange.of(YearWeek.of(-1000, 1), YearWeek.of(3000, 1));
+        long days = YearWeek.of(3000, 1).atDay(MONDAY).toEpochDay() - YearWeek.of(-1000, 1).atDay(MONDAY).toEpochDay();
+        assertEquals(days / 7, test.lengthInWeeks());
+        assertEquals(days / 7, test.stream().parallel().count());
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_equals_and_hashCode() {
+        new EqualsTester()
+            .addEqualityGroup(YearWeekRange.of(A, B), YearWeekRange.of(A, B))
+            .addEqualityGroup(YearWeekRange.of(A, C), YearWeekRange.ofClosed(A, B))
+            .addEqualityGroup(YearWeekRange.of(B, C), YearWeekRange.of(B, C))
+            .addEqualityGroup(YearWeekRange.of(A, A))
+            .testEquals();
+    }
+
+}
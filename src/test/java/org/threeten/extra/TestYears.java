@@ -114,6 +114,17 @@ public class TestYears {
         assertEquals(Integer.MIN_VALUE, Years.of(Integer.MIN_VALUE).getAmount());
     }
 
+    @Test
+    public void test_of_cached() {
+        assertSame(Years.of(2), Years.of(2));
+        assertSame(Years.of(100), Years.of(100));
+        assertSame(Years.of(2), Years.of(1).plus(1));
+        assertSame(Years.of(4), Years.of(2).multipliedBy(2));
+        assertSame(Years.of(2), Years.parse("P2Y"));
+        assertEquals(Years.of(101), Years.of(101));
+        assertEquals(Years.of(-2), Years.of(-2));
+    }
+
     @Test
     public void test_ofMinusOne() {
         assertEquals(-1, Years.of(-1).getAmount());
@@ -204,6 +215,31 @@ public class TestYears {
         assertThrows(NullPointerException.class, () -> Years.parse((CharSequence) null));
     }
 
+    @Test
+    public void test_parse_CharSequenceIntInt_valid() {
+        assertEquals(Years.of(2), Years.parse("xxP2Yyy", 2, 3));
+        assertEquals(Years.of(-2), Years.parse(new StringBuilder("-P2Y"), 0, 4));
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_invalid")
+    public void test_parse_CharSequenceIntInt_invalid(String str) {
+        assertThrows(DateTimeParseException.class, () -> Years.parse("xx" + str + "yy", 2, str.length()));
+    }
+
+    @Test
+    public void test_parse_CharSequenceIntInt_outOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> Years.parse("P2Y", -1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> Years.parse("P2Y", 0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> Years.parse("P2Y", 1, 3));
+    }
+
+    @Test
+    public void test_parse_CharSequenceIntInt_null() {
+        //noinspection DataFlowIssue - testing nulls
+        assertThrows(NullPointerException.class, () -> Years.parse((CharSequence) null, 0, 0));
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void test_between() {